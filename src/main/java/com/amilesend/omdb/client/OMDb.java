@@ -19,11 +19,20 @@ package com.amilesend.omdb.client;
 
 import com.amilesend.client.connection.auth.NoOpAuthManager;
 import com.amilesend.client.connection.retry.NoRetryStrategy;
-import com.amilesend.client.parse.parser.BasicParser;
 import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.cache.ResponseCache;
+import com.amilesend.omdb.client.concurrent.HedgingPolicy;
+import com.amilesend.omdb.client.concurrent.RateLimiter;
+import com.amilesend.omdb.client.concurrent.SingleFlight;
+import com.amilesend.omdb.client.connection.HttpClientSettings;
 import com.amilesend.omdb.client.connection.OmdbConnection;
 import com.amilesend.omdb.client.connection.OmdbConnectionBuilder;
+import com.amilesend.omdb.client.connection.OmdbRetryPolicy;
+import com.amilesend.omdb.client.connection.RequestUrlTemplate;
 import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import com.amilesend.omdb.client.model.SearchRequestBase;
 import com.amilesend.omdb.client.model.movie.GetMovieBasedRequest;
 import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
 import com.amilesend.omdb.client.model.movie.GetMovieByTitleRequest;
@@ -43,24 +52,54 @@ import com.amilesend.omdb.client.model.tv.type.Episode;
 import com.amilesend.omdb.client.model.tv.type.Season;
 import com.amilesend.omdb.client.model.tv.type.Series;
 import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import com.amilesend.omdb.client.parse.FieldProjection;
 import com.amilesend.omdb.client.parse.GsonFactory;
+import com.amilesend.omdb.client.reactive.LookupPublisher;
+import com.amilesend.omdb.client.reactive.SearchPublisher;
+import com.amilesend.omdb.client.search.ExpandedSearchIterator;
+import com.amilesend.omdb.client.search.SearchPageIterator;
+import lombok.Builder;
 import lombok.NonNull;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /** The Open Movie Database client. */
 public class OMDb {
     public static final String USER_AGENT = "OMDbJavaClient/2.2";
     public static final String API_URL = "http://www.omdbapi.com/";
 
+    private static final String PROJECTION_KEY_SEPARATOR = "#fields=";
+    private static final String RAW_KEY_SUFFIX = "#raw";
+
     /** The underlying connection. */
     private final OmdbConnection connection;
-    /** The consumer-provided API key. */
-    private final String apiKey;
+    /** Builds request URLs from the precomputed base URL, API key, and response type prefix. */
+    private final RequestUrlTemplate urlTemplate;
+    /** The optional response cache. */
+    private final ResponseCache responseCache;
+    /** The optional rate limiter that enforces the API key's request budget. */
+    private final RateLimiter rateLimiter;
+    /** The optional policy used to hedge slow requests. */
+    private final HedgingPolicy hedgingPolicy;
+    /** The optional policy used to retry transient failures. Each attempt acquires its own rate limit permit. */
+    private final OmdbRetryPolicy retryPolicy;
+    /** Coalesces concurrent identical requests into a single call. */
+    private final SingleFlight singleFlight = new SingleFlight();
 
     /**
      * Creates a new {@code OMDb} with the provided API key.
@@ -88,20 +127,87 @@ public class OMDb {
      * @param connection the underlying connection
      */
     public OMDb(final String apiKey, @NonNull final OmdbConnection connection) {
+        this(apiKey, null, null, connection, null, null, null, null);
+    }
+
+    /**
+     * Creates a new {@code OMDb}. Use {@link #builder()} to configure optional features such as response caching.
+     *
+     * @param apiKey the API key
+     * @param userAgent the user agent used if {@code connection} is not specified (optional)
+     * @param httpClientSettings the HTTP client settings used if {@code connection} is not specified (optional;
+     *                           defaults to the HTTP client shared by all default connections)
+     * @param connection the underlying connection (optional)
+     * @param responseCache the response cache (optional)
+     * @param rateLimiter the rate limiter applied to outbound requests (optional)
+     * @param hedgingPolicy the policy used to hedge slow requests (optional)
+     * @param retryPolicy the policy used to retry transient failures (optional; defaults to no retries)
+     * @see ResponseCache
+     * @see RateLimiter
+     * @see HedgingPolicy
+     * @see OmdbRetryPolicy
+     */
+    @Builder
+    private OMDb(
+            final String apiKey,
+            final String userAgent,
+            final HttpClientSettings httpClientSettings,
+            final OmdbConnection connection,
+            final ResponseCache responseCache,
+            final RateLimiter rateLimiter,
+            final HedgingPolicy hedgingPolicy,
+            final OmdbRetryPolicy retryPolicy) {
         Validate.notBlank(apiKey, "apiKey must not be blank. You can obtain one via " +
                 "https://www.omdbapi.com/apikey.aspx");
 
-        this.connection = connection;
-        this.apiKey = apiKey;
+        this.connection = connection != null
+                ? connection
+                : newConnection(userAgent != null ? userAgent : USER_AGENT, httpClientSettings);
+        this.urlTemplate = new RequestUrlTemplate(this.connection.getBaseUrl(), apiKey);
+        this.responseCache = responseCache;
+        this.rateLimiter = rateLimiter;
+        this.hedgingPolicy = hedgingPolicy;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Creates a new connection with default settings. All default connections share one HTTP client (and therefore
+     * one connection pool and dispatcher) and one {@link GsonFactory}.
+     *
+     * @param userAgent the user agent
+     * @return the connection
+     */
+    static OmdbConnection newConnection(final String userAgent) {
+        return newConnection(userAgent, SharedResources.HTTP_CLIENT);
     }
 
-    private static OmdbConnection newConnection(final String userAgent) {
+    /**
+     * Creates a new connection with default settings and an HTTP client configured with the given settings.
+     *
+     * @param userAgent the user agent
+     * @param httpClientSettings the HTTP client settings, or {@code null} to use the shared HTTP client
+     * @return the connection
+     */
+    static OmdbConnection newConnection(final String userAgent, final HttpClientSettings httpClientSettings) {
+        return httpClientSettings == null
+                ? newConnection(userAgent)
+                : newConnection(userAgent, httpClientSettings.newHttpClient());
+    }
+
+    /**
+     * Creates a new connection with default settings that uses the given HTTP client.
+     *
+     * @param userAgent the user agent
+     * @param httpClient the HTTP client
+     * @return the connection
+     */
+    static OmdbConnection newConnection(final String userAgent, final OkHttpClient httpClient) {
         return new OmdbConnectionBuilder()
                 .baseUrl(API_URL)
                 .userAgent(userAgent)
-                .gsonFactory(new GsonFactory())
+                .gsonFactory(SharedResources.GSON_FACTORY)
                 .authManager(new NoOpAuthManager())
-                .httpClient(new OkHttpClient.Builder().build())
+                .httpClient(httpClient)
                 .isGzipContentEncodingEnabled(false)
                 .retryStrategy(new NoRetryStrategy())
                 .build();
@@ -124,6 +230,20 @@ public class OMDb {
         return getResource(request, Movie.class);
     }
 
+    /**
+     * Gets a movie for a request by either its title or IMDB identifier, only materializing the fields included in
+     * the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the partially populated movie
+     * @see Movie
+     * @see FieldProjection
+     */
+    public Movie getMovie(@NonNull final GetMovieBasedRequest request, @NonNull final FieldProjection projection) {
+        return getResource(request, Movie.class, projection);
+    }
+
     /**
      * Gets a TV series for a request by either its title or IMDB identifier.
      *
@@ -137,6 +257,20 @@ public class OMDb {
         return getResource(request, Series.class);
     }
 
+    /**
+     * Gets a TV series for a request by either its title or IMDB identifier, only materializing the fields included
+     * in the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the partially populated series
+     * @see Series
+     * @see FieldProjection
+     */
+    public Series getSeries(@NonNull final GetSeriesBasedRequest request, @NonNull final FieldProjection projection) {
+        return getResource(request, Series.class, projection);
+    }
+
     /**
      * Gets a TV season for a request by either its title or IMDB identifier.
      *
@@ -163,6 +297,22 @@ public class OMDb {
         return getResource(request, Episode.class);
     }
 
+    /**
+     * Gets a TV episode for a request by either its series title or IMDB identifier, only materializing the fields
+     * included in the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the partially populated episode
+     * @see Episode
+     * @see FieldProjection
+     */
+    public Episode getEpisode(
+            @NonNull final GetEpisodeBasedRequest request,
+            @NonNull final FieldProjection projection) {
+        return getResource(request, Episode.class, projection);
+    }
+
     ////////////////
     // Search APIs
     ////////////////
@@ -187,17 +337,674 @@ public class OMDb {
         return getResource(request, SearchResponse.class);
     }
 
+    /**
+     * Searches for movies across every page of results, starting at the request's page (or the first page if not
+     * set). The pages following the first are prefetched concurrently, up to
+     * {@link SearchPageIterator#DEFAULT_MAX_CONCURRENCY} at a time.
+     *
+     * @param request the request
+     * @return the lazy stream of search results
+     * @see #searchAll(SearchMovieRequest, int)
+     */
+    public Stream<SearchResult> searchAll(@NonNull final SearchMovieRequest request) {
+        return searchAll(request, SearchPageIterator.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Searches for movies across every page of results, starting at the request's page (or the first page if not
+     * set). The page count is computed from the first response, and the following pages are prefetched
+     * concurrently with up to {@code maxConcurrency} pages in flight at once. Results are returned in page order.
+     *
+     * <p>No request is made until the stream is consumed. Closing the stream cancels any pages still being
+     * fetched, and a failure to fetch a page is thrown while consuming the stream. A search without any results
+     * returns an empty stream.</p>
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of pages fetched at once
+     * @return the lazy stream of search results
+     * @see SearchPageIterator
+     */
+    public Stream<SearchResult> searchAll(@NonNull final SearchMovieRequest request, final int maxConcurrency) {
+        return SearchPageIterator.stream(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                maxConcurrency);
+    }
+
+    /**
+     * Searches for TV series across every page of results, starting at the request's page (or the first page if
+     * not set). The pages following the first are prefetched concurrently, up to
+     * {@link SearchPageIterator#DEFAULT_MAX_CONCURRENCY} at a time.
+     *
+     * @param request the request
+     * @return the lazy stream of search results
+     * @see #searchAll(SearchSeriesRequest, int)
+     */
+    public Stream<SearchResult> searchAll(@NonNull final SearchSeriesRequest request) {
+        return searchAll(request, SearchPageIterator.DEFAULT_MAX_CONCURRENCY);
+    }
+
+    /**
+     * Searches for TV series across every page of results, starting at the request's page (or the first page if
+     * not set). The page count is computed from the first response, and the following pages are prefetched
+     * concurrently with up to {@code maxConcurrency} pages in flight at once. Results are returned in page order.
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of pages fetched at once
+     * @return the lazy stream of search results
+     * @see #searchAll(SearchMovieRequest, int)
+     */
+    public Stream<SearchResult> searchAll(@NonNull final SearchSeriesRequest request, final int maxConcurrency) {
+        return SearchPageIterator.stream(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                maxConcurrency);
+    }
+
+    /**
+     * Searches for movies and looks up the full movie for every result across every page of results, starting at
+     * the request's page (or the first page if not set). Each movie is returned as soon as its lookup completes
+     * while the remaining pages are still being fetched, so results are returned in completion order rather than
+     * search order. Results are de-duplicated by IMDB identifier.
+     *
+     * <p>No request is made until the stream is consumed. Up to {@code maxConcurrency} lookups are in flight or
+     * waiting to be consumed at once. Individual lookup failures are returned as failed results and do not abort
+     * the search, whereas a failure to fetch a page is thrown while consuming the stream. A search without any
+     * results returns an empty stream. Closing the stream cancels any pages and lookups still in flight.</p>
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of lookups in flight or waiting to be consumed at once
+     * @return the lazy stream of movie lookup results
+     * @see ExpandedSearchIterator
+     * @see BulkResult
+     */
+    public Stream<BulkResult<Movie>> searchExpanded(
+            @NonNull final SearchMovieRequest request,
+            final int maxConcurrency) {
+        return ExpandedSearchIterator.stream(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                result -> GetMovieByIdRequest.builder().imdbId(result.getImdbId()).build(),
+                this::getMovieAsync,
+                maxConcurrency);
+    }
+
+    /**
+     * Searches for TV series and looks up the full series for every result across every page of results, starting
+     * at the request's page (or the first page if not set). Each series is returned as soon as its lookup
+     * completes while the remaining pages are still being fetched.
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of lookups in flight or waiting to be consumed at once
+     * @return the lazy stream of series lookup results
+     * @see #searchExpanded(SearchMovieRequest, int)
+     */
+    public Stream<BulkResult<Series>> searchExpanded(
+            @NonNull final SearchSeriesRequest request,
+            final int maxConcurrency) {
+        return ExpandedSearchIterator.stream(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                result -> GetSeriesByIdRequest.builder().imdbId(result.getImdbId()).build(),
+                this::getSeriesAsync,
+                maxConcurrency);
+    }
+
+    //////////////////////////
+    // Asynchronous GET APIs
+    //////////////////////////
+
+    /**
+     * Asynchronously gets a movie for a request by either its title or IMDB identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the movie
+     * @see Movie
+     * @see GetMovieByIdRequest
+     * @see GetMovieByTitleRequest
+     */
+    public CompletableFuture<Movie> getMovieAsync(@NonNull final GetMovieBasedRequest request) {
+        return getResourceAsync(request, Movie.class);
+    }
+
+    /**
+     * Asynchronously gets a movie for a request by either its title or IMDB identifier, only materializing the
+     * fields included in the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the future that completes with the partially populated movie
+     * @see Movie
+     * @see FieldProjection
+     */
+    public CompletableFuture<Movie> getMovieAsync(
+            @NonNull final GetMovieBasedRequest request,
+            @NonNull final FieldProjection projection) {
+        return getResourceAsync(request, Movie.class, projection);
+    }
+
+    /**
+     * Asynchronously gets a TV series for a request by either its title or IMDB identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the series
+     * @see Series
+     * @see GetSeriesByIdRequest
+     * @see GetSeriesByTitleRequest
+     */
+    public CompletableFuture<Series> getSeriesAsync(@NonNull final GetSeriesBasedRequest request) {
+        return getResourceAsync(request, Series.class);
+    }
+
+    /**
+     * Asynchronously gets a TV series for a request by either its title or IMDB identifier, only materializing the
+     * fields included in the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the future that completes with the partially populated series
+     * @see Series
+     * @see FieldProjection
+     */
+    public CompletableFuture<Series> getSeriesAsync(
+            @NonNull final GetSeriesBasedRequest request,
+            @NonNull final FieldProjection projection) {
+        return getResourceAsync(request, Series.class, projection);
+    }
+
+    /**
+     * Asynchronously gets a TV season for a request by either its title or IMDB identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the season
+     * @see Season
+     * @see GetSeasonByIdRequest
+     * @see GetSeasonByTitleRequest
+     */
+    public CompletableFuture<Season> getSeasonAsync(@NonNull final GetSeasonBasedRequest request) {
+        return getResourceAsync(request, Season.class);
+    }
+
+    /**
+     * Asynchronously gets a TV episode for a request by either its series title or IMDB identifier.
+     *
+     * @param request the request
+     * @return the future that completes with the episode
+     * @see Episode
+     * @see GetEpisodeByIdRequest
+     * @see GetEpisodeByTitleRequest
+     */
+    public CompletableFuture<Episode> getEpisodeAsync(@NonNull final GetEpisodeBasedRequest request) {
+        return getResourceAsync(request, Episode.class);
+    }
+
+    /**
+     * Asynchronously gets a TV episode for a request by either its series title or IMDB identifier, only
+     * materializing the fields included in the given projection. Attributes for all other fields are not set.
+     *
+     * @param request the request
+     * @param projection the projection of fields to materialize
+     * @return the future that completes with the partially populated episode
+     * @see Episode
+     * @see FieldProjection
+     */
+    public CompletableFuture<Episode> getEpisodeAsync(
+            @NonNull final GetEpisodeBasedRequest request,
+            @NonNull final FieldProjection projection) {
+        return getResourceAsync(request, Episode.class, projection);
+    }
+
+    /////////////////////////////
+    // Asynchronous Search APIs
+    /////////////////////////////
+
+    /**
+     * Asynchronously searches for movies.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of movies
+     */
+    public CompletableFuture<SearchResponse> searchAsync(@NonNull final SearchMovieRequest request) {
+        return getResourceAsync(request, SearchResponse.class);
+    }
+
+    /**
+     * Asynchronously searches for TV series.
+     *
+     * @param request the request
+     * @return the future that completes with the response containing the list of TV series
+     */
+    public CompletableFuture<SearchResponse> searchAsync(@NonNull final SearchSeriesRequest request) {
+        return getResourceAsync(request, SearchResponse.class);
+    }
+
+    /////////////
+    // Raw APIs
+    /////////////
+
+    /**
+     * Gets the raw JSON response body for a request without building the object model. This is intended for proxy
+     * use cases that forward responses as-is. The response is still validated, so a failure response (e.g.,
+     * {@code "Response": "False"}) throws an exception.
+     *
+     * @param request the request (e.g., a {@link GetMovieByIdRequest} or {@link SearchMovieRequest})
+     * @return a copy of the validated response body
+     * @see #writeRaw(QueryParameterBasedRequest, OutputStream)
+     */
+    public byte[] getRaw(@NonNull final QueryParameterBasedRequest request) {
+        return getResource(request, byte[].class).clone();
+    }
+
+    /**
+     * Asynchronously gets the raw JSON response body for a request without building the object model.
+     *
+     * @param request the request
+     * @return the future that completes with a copy of the validated response body
+     * @see #getRaw(QueryParameterBasedRequest)
+     */
+    public CompletableFuture<byte[]> getRawAsync(@NonNull final QueryParameterBasedRequest request) {
+        return getResourceAsync(request, byte[].class).thenApply(byte[]::clone);
+    }
+
+    /**
+     * Writes the raw JSON response body for a request to the given output stream without building the object model.
+     * The response is validated before any bytes are written, so nothing is written for a failure response. The
+     * output stream is not flushed or closed.
+     *
+     * @param request the request
+     * @param out the output stream to write to
+     * @return the number of bytes written
+     * @throws IOException if unable to write to the output stream
+     */
+    public long writeRaw(@NonNull final QueryParameterBasedRequest request, @NonNull final OutputStream out)
+            throws IOException {
+        final byte[] body = getResource(request, byte[].class);
+        out.write(body);
+        return body.length;
+    }
+
+    /**
+     * Writes the raw JSON response body for a request to the given channel without building the object model. The
+     * response is validated before any bytes are written, so nothing is written for a failure response. The channel
+     * is not closed.
+     *
+     * @param request the request
+     * @param channel the channel to write to
+     * @return the number of bytes written
+     * @throws IOException if unable to write to the channel
+     */
+    public long writeRaw(@NonNull final QueryParameterBasedRequest request, @NonNull final WritableByteChannel channel)
+            throws IOException {
+        final ByteBuffer body = ByteBuffer.wrap(getResource(request, byte[].class)).asReadOnlyBuffer();
+        while (body.hasRemaining()) {
+            channel.write(body);
+        }
+
+        return body.capacity();
+    }
+
+    //////////////
+    // Bulk APIs
+    //////////////
+
+    /**
+     * Gets movies for a batch of requests, executing up to {@code maxConcurrency} requests in parallel. Duplicate
+     * requests are removed, and results are returned in the order that each distinct request first appears in
+     * {@code requests}. Individual failures are returned as failed results and do not abort the batch.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the list of results
+     * @see BulkResult
+     */
+    public List<BulkResult<Movie>> getMovies(
+            @NonNull final Collection<? extends GetMovieBasedRequest> requests,
+            final int maxConcurrency) {
+        return BulkExecutor.executeAll(requests, maxConcurrency, this::getMovieAsync).join();
+    }
+
+    /**
+     * Gets movies for a batch of requests, executing up to {@code maxConcurrency} requests in parallel and only
+     * materializing the fields included in the given projection.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @param projection the projection of fields to materialize
+     * @return the list of results
+     * @see #getMovies(Collection, int)
+     * @see FieldProjection
+     */
+    public List<BulkResult<Movie>> getMovies(
+            @NonNull final Collection<? extends GetMovieBasedRequest> requests,
+            final int maxConcurrency,
+            @NonNull final FieldProjection projection) {
+        return BulkExecutor.executeAll(requests, maxConcurrency, r -> getMovieAsync(r, projection)).join();
+    }
+
+    /**
+     * Gets TV series for a batch of requests, executing up to {@code maxConcurrency} requests in parallel. Duplicate
+     * requests are removed, and results are returned in the order that each distinct request first appears in
+     * {@code requests}. Individual failures are returned as failed results and do not abort the batch.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the list of results
+     * @see BulkResult
+     */
+    public List<BulkResult<Series>> getSeries(
+            @NonNull final Collection<? extends GetSeriesBasedRequest> requests,
+            final int maxConcurrency) {
+        return BulkExecutor.executeAll(requests, maxConcurrency, this::getSeriesAsync).join();
+    }
+
+    /**
+     * Gets TV seasons for a batch of requests, executing up to {@code maxConcurrency} requests in parallel. Duplicate
+     * requests are removed, and results are returned in the order that each distinct request first appears in
+     * {@code requests}. Individual failures are returned as failed results and do not abort the batch.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the list of results
+     * @see BulkResult
+     */
+    public List<BulkResult<Season>> getSeasons(
+            @NonNull final Collection<? extends GetSeasonBasedRequest> requests,
+            final int maxConcurrency) {
+        return BulkExecutor.executeAll(requests, maxConcurrency, this::getSeasonAsync).join();
+    }
+
+    /**
+     * Gets TV episodes for a batch of requests, executing up to {@code maxConcurrency} requests in parallel.
+     * Duplicate requests are removed, and results are returned in the order that each distinct request first appears
+     * in {@code requests}. Individual failures are returned as failed results and do not abort the batch.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the list of results
+     * @see BulkResult
+     */
+    public List<BulkResult<Episode>> getEpisodes(
+            @NonNull final Collection<? extends GetEpisodeBasedRequest> requests,
+            final int maxConcurrency) {
+        return BulkExecutor.executeAll(requests, maxConcurrency, this::getEpisodeAsync).join();
+    }
+
+    //////////////////
+    // Reactive APIs
+    //////////////////
+
+    /**
+     * Publishes movies for a sequence of requests. Subscriber demand drives the lookups: no request is made until
+     * items are requested, and at most {@code min(maxConcurrency, outstanding demand)} requests are in flight at
+     * once. Results are published in completion order, and individual failures are published as failed results
+     * rather than terminating the subscription.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the publisher of movie results
+     * @see LookupPublisher
+     * @see BulkResult
+     */
+    public Flow.Publisher<BulkResult<Movie>> publishMovies(
+            @NonNull final Iterable<? extends GetMovieBasedRequest> requests,
+            final int maxConcurrency) {
+        return new LookupPublisher<GetMovieBasedRequest, Movie>(requests, maxConcurrency, this::getMovieAsync);
+    }
+
+    /**
+     * Publishes TV series for a sequence of requests, with subscriber demand driving the lookups.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the publisher of series results
+     * @see #publishMovies(Iterable, int)
+     */
+    public Flow.Publisher<BulkResult<Series>> publishSeries(
+            @NonNull final Iterable<? extends GetSeriesBasedRequest> requests,
+            final int maxConcurrency) {
+        return new LookupPublisher<GetSeriesBasedRequest, Series>(requests, maxConcurrency, this::getSeriesAsync);
+    }
+
+    /**
+     * Publishes TV seasons for a sequence of requests, with subscriber demand driving the lookups.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the publisher of season results
+     * @see #publishMovies(Iterable, int)
+     */
+    public Flow.Publisher<BulkResult<Season>> publishSeasons(
+            @NonNull final Iterable<? extends GetSeasonBasedRequest> requests,
+            final int maxConcurrency) {
+        return new LookupPublisher<GetSeasonBasedRequest, Season>(requests, maxConcurrency, this::getSeasonAsync);
+    }
+
+    /**
+     * Publishes TV episodes for a sequence of requests, with subscriber demand driving the lookups.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of requests in flight at once
+     * @return the publisher of episode results
+     * @see #publishMovies(Iterable, int)
+     */
+    public Flow.Publisher<BulkResult<Episode>> publishEpisodes(
+            @NonNull final Iterable<? extends GetEpisodeBasedRequest> requests,
+            final int maxConcurrency) {
+        return new LookupPublisher<GetEpisodeBasedRequest, Episode>(requests, maxConcurrency, this::getEpisodeAsync);
+    }
+
+    /**
+     * Publishes the search results for movies across every page of results, starting at the request's page (or the
+     * first page if not set). Subscriber demand drives the page requests: the next page is only requested when
+     * the buffered results and the pages in flight do not cover the outstanding demand, and at most
+     * {@code maxConcurrency} pages are in flight at once. Results are published in search order, and a failure to
+     * fetch a page terminates the subscription with the error. A search without any results completes without
+     * publishing any.
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of pages in flight at once
+     * @return the publisher of search results
+     * @see SearchPublisher
+     */
+    public Flow.Publisher<SearchResult> publishSearch(
+            @NonNull final SearchMovieRequest request,
+            final int maxConcurrency) {
+        return new SearchPublisher(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                maxConcurrency);
+    }
+
+    /**
+     * Publishes the search results for TV series across every page of results, with subscriber demand driving the
+     * page requests.
+     *
+     * @param request the request
+     * @param maxConcurrency the maximum number of pages in flight at once
+     * @return the publisher of search results
+     * @see #publishSearch(SearchMovieRequest, int)
+     */
+    public Flow.Publisher<SearchResult> publishSearch(
+            @NonNull final SearchSeriesRequest request,
+            final int maxConcurrency) {
+        return new SearchPublisher(
+                page -> searchAsync(request.toBuilder().page(page).build()),
+                toFirstPage(request),
+                maxConcurrency);
+    }
+
+    private static int toFirstPage(final SearchRequestBase request) {
+        return Optional.ofNullable(request.getPage()).orElse(1);
+    }
+
     private <T> T getResource(final QueryParameterBasedRequest request, final Class<T> returnType) {
-        final HttpUrl url = request.populateQueryParameters(newUrlBuilder()).build();
-        final Request httpRequest = connection.newRequestBuilder().url(url).build();
+        return getResource(request, returnType, null);
+    }
+
+    private <T> T getResource(
+            final QueryParameterBasedRequest request,
+            final Class<T> returnType,
+            final FieldProjection projection) {
+        final HttpUrl url = urlTemplate.newUrl(request);
+        final String key = toRequestKey(url, returnType, projection);
+        final Supplier<T> loader =
+                () -> singleFlight.execute(key, () -> execute(url, returnType, projection));
+        if (responseCache == null) {
+            return loader.get();
+        }
+
+        return responseCache.get(key, returnType, loader);
+    }
+
+    private <T> CompletableFuture<T> getResourceAsync(
+            final QueryParameterBasedRequest request,
+            final Class<T> returnType) {
+        return getResourceAsync(request, returnType, null);
+    }
+
+    private <T> CompletableFuture<T> getResourceAsync(
+            final QueryParameterBasedRequest request,
+            final Class<T> returnType,
+            final FieldProjection projection) {
+        final HttpUrl url = urlTemplate.newUrl(request);
+        final String key = toRequestKey(url, returnType, projection);
+        final Supplier<CompletableFuture<T>> loader =
+                () -> singleFlight.executeAsync(key, () -> executeAsync(url, returnType, projection));
+        if (responseCache == null) {
+            return loader.get();
+        }
+
+        return responseCache.getAsync(key, returnType, loader);
+    }
+
+    /**
+     * Gets the key that identifies the request for caching and coalescing. Projected responses are partially
+     * populated, so they are keyed separately from complete responses and from other projections. Raw response
+     * bodies are likewise keyed separately from their parsed form.
+     */
+    private String toRequestKey(final HttpUrl url, final Class<?> returnType, final FieldProjection projection) {
+        final String key = urlTemplate.toRequestKey(url);
+        if (returnType == byte[].class) {
+            return key + RAW_KEY_SUFFIX;
+        }
+
+        return projection == null ? key : key + PROJECTION_KEY_SEPARATOR + projection.getKey();
+    }
+
+    private <T> T execute(final HttpUrl url, final Class<T> returnType, final FieldProjection projection) {
+        if (hedgingPolicy != null) {
+            return join(executeAsync(url, returnType, projection));
+        }
+
+        return retryPolicy == null
+                ? executeRateLimited(url, returnType, projection)
+                : retryPolicy.execute(() -> executeRateLimited(url, returnType, projection));
+    }
+
+    private <T> T executeRateLimited(final HttpUrl url, final Class<T> returnType, final FieldProjection projection) {
+        if (rateLimiter != null) {
+            rateLimiter.acquire();
+        }
+
+        return connection.execute(newHttpRequest(url), returnType, projection);
+    }
+
+    private <T> CompletableFuture<T> executeAsync(
+            final HttpUrl url,
+            final Class<T> returnType,
+            final FieldProjection projection) {
+        if (hedgingPolicy == null) {
+            return executeRetriedAsync(url, returnType, projection);
+        }
+
+        // Hedges never wait for a rate limit permit; they are declined if the budget is exhausted
+        return hedgingPolicy.executeAsync(
+                () -> executeRetriedAsync(url, returnType, projection),
+                () -> rateLimiter == null || rateLimiter.tryAcquire()
+                        ? connection.executeAsync(newHttpRequest(url), returnType, projection)
+                        : null);
+    }
+
+    /** Retries run here rather than in the connection so that every attempt is rate limited. */
+    private <T> CompletableFuture<T> executeRetriedAsync(
+            final HttpUrl url,
+            final Class<T> returnType,
+            final FieldProjection projection) {
+        return retryPolicy == null
+                ? executeRateLimitedAsync(url, returnType, projection)
+                : retryPolicy.executeAsync(() -> executeRateLimitedAsync(url, returnType, projection));
+    }
+
+    private <T> CompletableFuture<T> executeRateLimitedAsync(
+            final HttpUrl url,
+            final Class<T> returnType,
+            final FieldProjection projection) {
+        if (rateLimiter == null) {
+            return connection.executeAsync(newHttpRequest(url), returnType, projection);
+        }
+
+        final CompletableFuture<RateLimiter.Permit> permit = rateLimiter.acquireAsync();
+        if (permit.isDone() && !permit.isCompletedExceptionally()) {
+            // Issue the call directly so that cancelling the returned future cancels the call
+            return connection.executeAsync(newHttpRequest(url), returnType, projection);
+        }
+
+        // A dependent stage does not cancel its source, so cancellation is forwarded to the permit and then the call
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        permit.whenComplete((granted, permitEx) -> {
+            if (permitEx != null) {
+                result.completeExceptionally(permitEx);
+                return;
+            }
+
+            if (result.isDone()) {
+                // Cancelled after the permit was granted but before the call was issued
+                granted.release();
+                return;
+            }
+
+            final CompletableFuture<T> call = connection.executeAsync(newHttpRequest(url), returnType, projection);
+            result.whenComplete((value, ex) -> {
+                if (result.isCancelled()) {
+                    call.cancel(true);
+                }
+            });
+            call.whenComplete((value, ex) -> {
+                if (ex != null) {
+                    result.completeExceptionally(ex);
+                } else {
+                    result.complete(value);
+                }
+            });
+        });
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                permit.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
 
-        return connection.execute(httpRequest, new BasicParser<>(returnType));
+    private Request newHttpRequest(final HttpUrl url) {
+        return connection.newRequestBuilder().url(url).build();
     }
 
-    private HttpUrl.Builder newUrlBuilder() {
-        return HttpUrl.parse(connection.getBaseUrl())
-                .newBuilder()
-                .addQueryParameter("apikey", URLEncoder.encode(String.valueOf(apiKey), StandardCharsets.UTF_8))
-                .addQueryParameter("r", "json");
+    /** Lazily-initialized resources shared by all default connections. */
+    private static class SharedResources {
+        private static final OkHttpClient HTTP_CLIENT = HttpClientSettings.DEFAULT.newHttpClient();
+        private static final GsonFactory GSON_FACTORY = new GsonFactory();
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.cache.ResponseCache;
+import com.amilesend.omdb.client.concurrent.HedgingPolicy;
+import com.amilesend.omdb.client.concurrent.RateLimiter;
+import com.amilesend.omdb.client.connection.HttpClientSettings;
+import com.amilesend.omdb.client.connection.OmdbConnection;
+import com.amilesend.omdb.client.connection.OmdbRetryPolicy;
+import lombok.Builder;
+import lombok.Getter;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A registry of {@link OMDb} clients that share one transport for multi-tenant use. Each client has its own API key,
+ * but all clients share a single connection (and therefore one HTTP connection pool, dispatcher, and
+ * {@code GsonFactory}) as well as the optional response cache and hedging policy. Cached responses are shared across
+ * API keys since they do not depend on the API key.
+ *
+ * <p>Example:</p>
+ * <pre>
+ * OMDbFactory factory = OMDbFactory.builder()
+ *         .responseCache(ResponseCache.builder().maximumWeightBytes(64L * 1024L * 1024L).build())
+ *         .rateLimiterProvider(apiKey -&gt; RateLimiter.builder().requestsPerDay(1000L).build())
+ *         .build();
+ * OMDb tenantClient = factory.getClient("TenantApiKey");
+ * </pre>
+ */
+public class OMDbFactory {
+    /** The connection shared by all clients. */
+    @Getter
+    private final OmdbConnection connection;
+    /** The response cache shared by all clients (optional). */
+    private final ResponseCache responseCache;
+    /** Vends the rate limiter for an API key (optional). */
+    private final Function<String, RateLimiter> rateLimiterProvider;
+    /** The hedging policy shared by all clients (optional). */
+    private final HedgingPolicy hedgingPolicy;
+    /** The retry policy, and therefore the retry budget, shared by all clients (optional). */
+    private final OmdbRetryPolicy retryPolicy;
+    private final ConcurrentMap<String, OMDb> clients = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@code OMDbFactory}.
+     *
+     * @param userAgent the user agent used if {@code connection} is not specified (optional)
+     * @param httpClient the HTTP client used if {@code connection} is not specified (optional; defaults to the HTTP
+     *                   client shared by all default connections)
+     * @param httpClientSettings the HTTP client settings used if neither {@code connection} nor {@code httpClient}
+     *                           is specified (optional)
+     * @param connection the connection shared by all clients (optional)
+     * @param responseCache the response cache shared by all clients (optional)
+     * @param rateLimiterProvider vends the rate limiter for an API key, invoked once per API key (optional)
+     * @param hedgingPolicy the hedging policy shared by all clients (optional)
+     * @param retryPolicy the retry policy shared by all clients (optional)
+     */
+    @Builder
+    private OMDbFactory(
+            final String userAgent,
+            final OkHttpClient httpClient,
+            final HttpClientSettings httpClientSettings,
+            final OmdbConnection connection,
+            final ResponseCache responseCache,
+            final Function<String, RateLimiter> rateLimiterProvider,
+            final HedgingPolicy hedgingPolicy,
+            final OmdbRetryPolicy retryPolicy) {
+        final String agent = userAgent != null ? userAgent : OMDb.USER_AGENT;
+        if (connection != null) {
+            this.connection = connection;
+        } else {
+            this.connection = httpClient != null
+                    ? OMDb.newConnection(agent, httpClient)
+                    : OMDb.newConnection(agent, httpClientSettings);
+        }
+
+        this.responseCache = responseCache;
+        this.rateLimiterProvider = rateLimiterProvider;
+        this.hedgingPolicy = hedgingPolicy;
+        this.retryPolicy = retryPolicy;
+    }
+
+    /**
+     * Gets the client for the given API key, creating it on first use.
+     *
+     * @param apiKey the API key
+     * @return the client
+     */
+    public OMDb getClient(final String apiKey) {
+        Validate.notBlank(apiKey, "apiKey must not be blank");
+        return clients.computeIfAbsent(apiKey, this::newClient);
+    }
+
+    /**
+     * Removes the client for the given API key, if present (e.g., when a tenant is offboarded).
+     *
+     * @param apiKey the API key
+     */
+    public void removeClient(final String apiKey) {
+        clients.remove(apiKey);
+    }
+
+    /**
+     * Gets the number of clients that have been created.
+     *
+     * @return the number of clients
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    private OMDb newClient(final String apiKey) {
+        return OMDb.builder()
+                .apiKey(apiKey)
+                .connection(connection)
+                .responseCache(responseCache)
+                .rateLimiter(rateLimiterProvider != null ? rateLimiterProvider.apply(apiKey) : null)
+                .hedgingPolicy(hedgingPolicy)
+                .retryPolicy(retryPolicy)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import lombok.NonNull;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/** Executes asynchronous lookups for a batch of requests with a bounded number of requests in flight. */
+@UtilityClass
+public class BulkExecutor {
+    /**
+     * Executes the given lookup for each distinct request. Duplicate requests are removed, and the results are
+     * returned in the order that each distinct request first appears in {@code requests}. Individual failures are
+     * captured as a failed {@link BulkResult} and do not abort the rest of the batch.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of lookups in flight at once
+     * @param lookup the function that starts the asynchronous lookup for a request
+     * @param <R> the request type
+     * @param <T> the resolved value type
+     * @return the future that completes with the results once every lookup has finished
+     */
+    public static <R extends QueryParameterBasedRequest, T> CompletableFuture<List<BulkResult<T>>> executeAll(
+            @NonNull final Collection<? extends R> requests,
+            final int maxConcurrency,
+            @NonNull final Function<R, CompletableFuture<T>> lookup) {
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        final List<R> distinctRequests = new ArrayList<>(new LinkedHashSet<>(requests));
+        if (distinctRequests.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        return new Batch<>(distinctRequests, maxConcurrency, lookup).start();
+    }
+
+    /**
+     * Unwraps the underlying cause from exceptions raised by {@link CompletableFuture} stages.
+     *
+     * @param ex the exception
+     * @return the underlying cause
+     */
+    public static Throwable unwrap(final Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+
+        return cause;
+    }
+
+    private static class Batch<R extends QueryParameterBasedRequest, T> {
+        private final List<R> requests;
+        private final int maxConcurrency;
+        private final Function<R, CompletableFuture<T>> lookup;
+        private final AtomicReferenceArray<BulkResult<T>> results;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger remaining;
+        /** Guards the dispatch loop so that only one thread launches lookups at a time. */
+        private final AtomicInteger wip = new AtomicInteger();
+        private final CompletableFuture<List<BulkResult<T>>> completion = new CompletableFuture<>();
+        /** The index of the next request to dispatch. Only accessed within the dispatch loop. */
+        private int nextIndex;
+
+        Batch(final List<R> requests, final int maxConcurrency, final Function<R, CompletableFuture<T>> lookup) {
+            this.requests = requests;
+            this.maxConcurrency = maxConcurrency;
+            this.lookup = lookup;
+            this.results = new AtomicReferenceArray<>(requests.size());
+            this.remaining = new AtomicInteger(requests.size());
+        }
+
+        CompletableFuture<List<BulkResult<T>>> start() {
+            dispatch();
+            return completion;
+        }
+
+        private void dispatch() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+
+            do {
+                while (nextIndex < requests.size() && inFlight.get() < maxConcurrency) {
+                    inFlight.incrementAndGet();
+                    launch(nextIndex++);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+
+        private void launch(final int index) {
+            final R request = requests.get(index);
+            CompletableFuture<T> future;
+            try {
+                future = lookup.apply(request);
+            } catch (final RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+
+            future.whenComplete((value, ex) -> {
+                results.set(index, ex == null
+                        ? BulkResult.success(request, value)
+                        : BulkResult.failure(request, unwrap(ex)));
+                inFlight.decrementAndGet();
+                if (remaining.decrementAndGet() == 0) {
+                    completion.complete(toList());
+                    return;
+                }
+
+                dispatch();
+            });
+        }
+
+        private List<BulkResult<T>> toList() {
+            final List<BulkResult<T>> resultList = new ArrayList<>(results.length());
+            for (int i = 0; i < results.length(); ++i) {
+                resultList.add(results.get(i));
+            }
+
+            return Collections.unmodifiableList(resultList);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Describes the outcome of a single lookup within a bulk operation. A result holds either the resolved value or
+ * the error that caused the lookup to fail so that one failure does not abort the rest of the batch.
+ *
+ * @param <T> the resolved value type
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkResult<T> {
+    /** The request that was looked up. */
+    private final QueryParameterBasedRequest request;
+    /** The resolved value, or {@code null} if the lookup failed. */
+    private final T value;
+    /** The error that caused the lookup to fail, or {@code null} if the lookup succeeded. */
+    private final Throwable error;
+
+    /**
+     * Creates a new successful result.
+     *
+     * @param request the request
+     * @param value the resolved value
+     * @param <T> the resolved value type
+     * @return the result
+     */
+    public static <T> BulkResult<T> success(@NonNull final QueryParameterBasedRequest request, final T value) {
+        return new BulkResult<>(request, value, null);
+    }
+
+    /**
+     * Creates a new failed result.
+     *
+     * @param request the request
+     * @param error the error that caused the lookup to fail
+     * @param <T> the resolved value type
+     * @return the result
+     */
+    public static <T> BulkResult<T> failure(
+            @NonNull final QueryParameterBasedRequest request,
+            @NonNull final Throwable error) {
+        return new BulkResult<>(request, null, error);
+    }
+
+    /**
+     * Determines if the lookup succeeded.
+     *
+     * @return {@code true} if the lookup succeeded; else, {@code false}
+     */
+    public boolean isSuccess() {
+        return Objects.isNull(error);
+    }
+}
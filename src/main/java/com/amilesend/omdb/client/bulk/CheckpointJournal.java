@@ -0,0 +1,203 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * An append-only journal of the identifiers that have been completed or have failed, one entry per line:
+ * {@code C<tab>id} for a completed identifier and {@code F<tab>id<tab>error} for a failed one.
+ *
+ * <p>Entries are held in memory until {@link #flush()} so that the caller can write the associated output first;
+ * an entry is then never journaled before its output. An incomplete last line left by a crash is ignored when the
+ * journal is loaded and discarded when it is reopened.</p>
+ */
+class CheckpointJournal implements Closeable {
+    private static final char COMPLETED = 'C';
+    private static final char FAILED = 'F';
+    private static final char SEPARATOR = '\t';
+    private static final char NEWLINE = '\n';
+    private static final int TRUNCATE_SCAN_BYTES = 4096;
+
+    private final Writer writer;
+    private final StringBuilder pending = new StringBuilder();
+
+    private CheckpointJournal(final Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * Loads the identifiers recorded in the journal at the given path.
+     *
+     * @param path the journal path
+     * @param includeFailed whether to include failed identifiers along with completed ones
+     * @return the recorded identifiers, or an empty set if the journal does not exist
+     * @throws IOException if unable to read the journal
+     */
+    static Set<String> load(final Path path, final boolean includeFailed) throws IOException {
+        final Set<String> ids = new HashSet<>();
+        if (!Files.exists(path)) {
+            return ids;
+        }
+
+        final boolean isLastLineComplete = endsWithNewline(path);
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                final String next = reader.readLine();
+                if (next != null || isLastLineComplete) {
+                    addEntry(ids, line, includeFailed);
+                }
+
+                line = next;
+            }
+        }
+
+        return ids;
+    }
+
+    /**
+     * Opens the journal at the given path for appending, creating it if it does not exist.
+     *
+     * @param path the journal path
+     * @return the journal
+     * @throws IOException if unable to open the journal
+     */
+    static CheckpointJournal open(final Path path) throws IOException {
+        discardIncompleteLine(path);
+        return new CheckpointJournal(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+    }
+
+    /**
+     * Records that the given identifier was completed.
+     *
+     * @param id the identifier
+     */
+    void completed(final String id) {
+        pending.append(COMPLETED).append(SEPARATOR).append(id).append(NEWLINE);
+    }
+
+    /**
+     * Records that the given identifier failed.
+     *
+     * @param id the identifier
+     * @param error the error that caused the failure
+     */
+    void failed(final String id, final Throwable error) {
+        final String message = String.valueOf(error.getMessage()).replace(SEPARATOR, ' ').replace(NEWLINE, ' ');
+        pending.append(FAILED).append(SEPARATOR).append(id).append(SEPARATOR).append(message).append(NEWLINE);
+    }
+
+    /**
+     * Appends the recorded entries to the journal file.
+     *
+     * @throws IOException if unable to write to the journal
+     */
+    void flush() throws IOException {
+        if (pending.length() > 0) {
+            writer.append(pending);
+            pending.setLength(0);
+        }
+
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    private static void addEntry(final Set<String> ids, final String line, final boolean includeFailed) {
+        if (line.length() < 3 || line.charAt(1) != SEPARATOR) {
+            return;
+        }
+
+        final char type = line.charAt(0);
+        if (type != COMPLETED && (type != FAILED || !includeFailed)) {
+            return;
+        }
+
+        final int end = line.indexOf(SEPARATOR, 2);
+        ids.add(end < 0 ? line.substring(2) : line.substring(2, end));
+    }
+
+    /**
+     * Removes the incomplete last line of the line-oriented file at the given path, if any, so that a line that was
+     * partially written before a crash is never merged with the next appended line or trusted.
+     *
+     * @param path the file path
+     * @throws IOException if unable to read or truncate the file
+     */
+    static void discardIncompleteLine(final Path path) throws IOException {
+        if (!Files.exists(path) || endsWithNewline(path)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(TRUNCATE_SCAN_BYTES);
+            long end = channel.size();
+            while (end > 0L) {
+                final long start = Math.max(0L, end - TRUNCATE_SCAN_BYTES);
+                buffer.clear().limit((int) (end - start));
+                while (buffer.hasRemaining() && channel.read(buffer, start + buffer.position()) >= 0) {
+                    // Read the whole block
+                }
+
+                for (int i = buffer.position() - 1; i >= 0; --i) {
+                    if (buffer.get(i) == NEWLINE) {
+                        channel.truncate(start + i + 1L);
+                        return;
+                    }
+                }
+
+                end = start;
+            }
+
+            channel.truncate(0L);
+        }
+    }
+
+    private static boolean endsWithNewline(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size == 0L) {
+                return true;
+            }
+
+            final ByteBuffer lastByte = ByteBuffer.allocate(1);
+            channel.read(lastByte, size - 1L);
+            return lastByte.get(0) == NEWLINE;
+        }
+    }
+}
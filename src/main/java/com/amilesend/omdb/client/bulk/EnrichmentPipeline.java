@@ -0,0 +1,326 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.OMDb;
+import com.amilesend.omdb.client.concurrent.RateLimitExceededException;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import com.amilesend.omdb.client.model.type.RawMedia;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Enriches a large list of IMDB identifiers by fetching each one and writing the responses as newline-delimited JSON
+ * (NDJSON). Completed and failed identifiers are recorded in an append-only checkpoint journal so that a run that is
+ * interrupted (e.g., by quota exhaustion or a deploy) can be restarted without re-fetching finished work.
+ *
+ * <p>The pipeline has three stages: responses are fetched as raw bytes with up to {@code maxConcurrency} requests
+ * in flight, validated and compacted onto a single line on the thread that completes each request, and written by
+ * the calling thread. A new request is only started once a previous response has been written, so a slow output
+ * applies backpressure to the fetch stage and at most {@code maxConcurrency} responses are held in memory.</p>
+ *
+ * <p>Journal entries are only written after the output for them has been flushed. A record may therefore be written
+ * twice if the process dies between flushing the output and flushing the journal, but a journaled identifier is
+ * never missing from the output. A partially written last record is discarded from the output when the run
+ * restarts.</p>
+ *
+ * <p>Failures are handled in one of three ways:</p>
+ * <ul>
+ *   <li>Failures that match the abort condition (by default, an exhausted request limit or a rejected API key or
+ *       request) stop the run and are not journaled.</li>
+ *   <li>Failures that match the failure condition (by default, a failure response from the API such as
+ *       "Incorrect IMDb ID.") are definitive and are journaled as failed.</li>
+ *   <li>All other failures (e.g., I/O errors and server errors that remain after retries) are transient: they are
+ *       counted as deferred and are not journaled, so those identifiers are retried on the next run.</li>
+ * </ul>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * EnrichmentPipeline pipeline = EnrichmentPipeline.builder()
+ *         .client(client)
+ *         .outputPath(Path.of("movies.ndjson"))
+ *         .journalPath(Path.of("movies.journal"))
+ *         .maxConcurrency(16)
+ *         .build();
+ * EnrichmentSummary summary = pipeline.run(Path.of("imdb-ids.txt"));
+ * </pre>
+ *
+ * @see EnrichmentSummary
+ */
+public class EnrichmentPipeline {
+    /** The default maximum number of requests in flight at once. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    /**
+     * The default condition that aborts a run: the client or API request limit has been exhausted, the API key was
+     * rejected, or the request was rejected with a client error (e.g., HTTP 401), which every remaining identifier
+     * would also fail with.
+     */
+    public static final Predicate<Throwable> DEFAULT_ABORT_CONDITION = ex -> ex instanceof RateLimitExceededException
+            || (ex instanceof FailureResponseException && isAbortMessage(ex.getMessage()))
+            || (ex instanceof RequestException && !(ex.getCause() instanceof IOException));
+    /** The default condition for definitive failures that are journaled: a failure response from the API. */
+    public static final Predicate<Throwable> DEFAULT_FAILURE_CONDITION = ex -> ex instanceof FailureResponseException;
+    /** The maximum number of records written between flushes of the output and journal. */
+    private static final int FLUSH_INTERVAL = 256;
+    private static final int NEWLINE = '\n';
+
+    private final OMDb client;
+    private final Path outputPath;
+    private final Path journalPath;
+    private final int maxConcurrency;
+    private final boolean retryFailed;
+    private final Function<String, QueryParameterBasedRequest> requestFactory;
+    private final Predicate<Throwable> abortCondition;
+    private final Predicate<Throwable> failureCondition;
+
+    /**
+     * Creates a new {@code EnrichmentPipeline}.
+     *
+     * @param client the client used to fetch each identifier
+     * @param outputPath the path of the NDJSON output file, which is appended to
+     * @param journalPath the path of the checkpoint journal, which is appended to
+     * @param maxConcurrency the maximum number of requests in flight at once, or {@code null} to use
+     *                       {@link #DEFAULT_MAX_CONCURRENCY}
+     * @param retryFailed whether identifiers journaled as failed are retried, or {@code null} to skip them
+     * @param requestFactory creates the request for an identifier, or {@code null} to fetch movies by identifier
+     * @param abortCondition the condition for failures that abort the run, or {@code null} to use
+     *                       {@link #DEFAULT_ABORT_CONDITION}
+     * @param failureCondition the condition for definitive failures that are journaled as failed, or {@code null}
+     *                         to use {@link #DEFAULT_FAILURE_CONDITION}; other failures are retried on the next run
+     */
+    @Builder
+    private EnrichmentPipeline(
+            @NonNull final OMDb client,
+            @NonNull final Path outputPath,
+            @NonNull final Path journalPath,
+            final Integer maxConcurrency,
+            final Boolean retryFailed,
+            final Function<String, QueryParameterBasedRequest> requestFactory,
+            final Predicate<Throwable> abortCondition,
+            final Predicate<Throwable> failureCondition) {
+        this.client = client;
+        this.outputPath = outputPath;
+        this.journalPath = journalPath;
+        this.maxConcurrency = Optional.ofNullable(maxConcurrency).orElse(DEFAULT_MAX_CONCURRENCY);
+        this.retryFailed = Optional.ofNullable(retryFailed).orElse(Boolean.FALSE);
+        this.requestFactory = Optional.ofNullable(requestFactory)
+                .orElse(id -> GetMovieByIdRequest.builder().imdbId(id).build());
+        this.abortCondition = Optional.ofNullable(abortCondition).orElse(DEFAULT_ABORT_CONDITION);
+        this.failureCondition = Optional.ofNullable(failureCondition).orElse(DEFAULT_FAILURE_CONDITION);
+
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be > 0");
+    }
+
+    /**
+     * Runs the pipeline for the identifiers in the given file, one per line. Blank lines are ignored.
+     *
+     * @param idsPath the path of the file of identifiers
+     * @return the summary of the run
+     * @throws IOException if unable to read the identifiers, or to write the output or journal
+     */
+    public EnrichmentSummary run(@NonNull final Path idsPath) throws IOException {
+        try (Stream<String> ids = Files.lines(idsPath, StandardCharsets.UTF_8)) {
+            return run(ids.iterator());
+        }
+    }
+
+    /**
+     * Runs the pipeline for the given identifiers. Identifiers that are already journaled (or journaled as failed,
+     * unless {@code retryFailed} is set) and repeated identifiers are skipped. The calling thread writes the output
+     * and blocks until every identifier has been processed or the run is aborted.
+     *
+     * @param ids the identifiers
+     * @return the summary of the run
+     * @throws IOException if unable to write the output or journal
+     */
+    public EnrichmentSummary run(@NonNull final Iterator<String> ids) throws IOException {
+        final Set<String> seenIds = CheckpointJournal.load(journalPath, !retryFailed);
+        // A crash can leave a partially written record; it is never journaled, so it is fetched again
+        CheckpointJournal.discardIncompleteLine(outputPath);
+        // The output is closed, and therefore flushed, before the journal
+        try (CheckpointJournal journal = CheckpointJournal.open(journalPath);
+                OutputStream out = new BufferedOutputStream(Files.newOutputStream(
+                        outputPath, StandardOpenOption.CREATE, StandardOpenOption.APPEND))) {
+            return new Run(seenIds, out, journal).execute(ids);
+        }
+    }
+
+    private static boolean isAbortMessage(final String message) {
+        final String value = String.valueOf(message);
+        return value.contains("limit reached") || value.contains("API key");
+    }
+
+    /** The state of a single run. Only the calling thread accesses its fields, apart from the queue. */
+    private class Run {
+        private final Set<String> seenIds;
+        private final OutputStream out;
+        private final CheckpointJournal journal;
+        /** The fetched and parsed responses that are ready to be written. */
+        private final BlockingQueue<Outcome> ready = new LinkedBlockingQueue<>();
+        private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+        /** The number of identifiers that have been started but not yet written. */
+        private int outstanding;
+        private int unflushed;
+        private long skippedCount;
+        private long successCount;
+        private long failureCount;
+        private long deferredCount;
+        private Throwable abortCause;
+
+        Run(final Set<String> seenIds, final OutputStream out, final CheckpointJournal journal) {
+            this.seenIds = seenIds;
+            this.out = out;
+            this.journal = journal;
+        }
+
+        EnrichmentSummary execute(final Iterator<String> ids) throws IOException {
+            try {
+                while (true) {
+                    while (abortCause == null && outstanding < maxConcurrency && ids.hasNext()) {
+                        start(ids.next());
+                    }
+
+                    if (outstanding == 0) {
+                        break;
+                    }
+
+                    write(take());
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                abortCause = ex;
+            } finally {
+                for (final CompletableFuture<?> future : inFlight) {
+                    future.cancel(true);
+                }
+            }
+
+            flush();
+            return EnrichmentSummary.builder()
+                    .skippedCount(skippedCount)
+                    .successCount(successCount)
+                    .failureCount(failureCount)
+                    .deferredCount(deferredCount)
+                    .abortCause(abortCause)
+                    .build();
+        }
+
+        private void start(final String rawId) {
+            final String id = rawId == null ? "" : rawId.trim();
+            if (id.isEmpty()) {
+                return;
+            }
+
+            if (!seenIds.add(id)) {
+                ++skippedCount;
+                return;
+            }
+
+            CompletableFuture<byte[]> future;
+            try {
+                future = client.getRawAsync(requestFactory.apply(id));
+            } catch (final RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+
+            ++outstanding;
+            inFlight.add(future);
+            final CompletableFuture<byte[]> fetched = future;
+            fetched.thenApply(RawMedia::of).whenComplete((media, ex) -> {
+                inFlight.remove(fetched);
+                ready.add(new Outcome(id, media, ex == null ? null : BulkExecutor.unwrap(ex)));
+            });
+        }
+
+        /** Takes the next ready response, flushing the written records first if none is ready yet. */
+        private Outcome take() throws InterruptedException, IOException {
+            final Outcome outcome = ready.poll();
+            if (outcome != null) {
+                return outcome;
+            }
+
+            flush();
+            return ready.take();
+        }
+
+        private void write(final Outcome outcome) throws IOException {
+            --outstanding;
+            if (outcome.error == null) {
+                outcome.media.writeTo(out);
+                out.write(NEWLINE);
+                journal.completed(outcome.id);
+                ++successCount;
+            } else if (abortCondition.test(outcome.error)) {
+                if (abortCause == null) {
+                    abortCause = outcome.error;
+                }
+            } else if (failureCondition.test(outcome.error)) {
+                journal.failed(outcome.id, outcome.error);
+                ++failureCount;
+            } else {
+                ++deferredCount;
+            }
+
+            if (++unflushed >= FLUSH_INTERVAL) {
+                flush();
+            }
+        }
+
+        /** Flushes the output before the journal so that no journaled record is missing from the output. */
+        private void flush() throws IOException {
+            out.flush();
+            journal.flush();
+            unflushed = 0;
+        }
+    }
+
+    /** The outcome of fetching and parsing a single identifier. */
+    private static class Outcome {
+        private final String id;
+        private final RawMedia media;
+        private final Throwable error;
+
+        Outcome(final String id, final RawMedia media, final Throwable error) {
+            this.id = id;
+            this.media = media;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Summarizes a run of an {@link EnrichmentPipeline}.
+ *
+ * @see EnrichmentPipeline
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class EnrichmentSummary {
+    /** The number of identifiers that were skipped because they were already journaled or repeated. */
+    private final long skippedCount;
+    /** The number of identifiers that were written to the output. */
+    private final long successCount;
+    /** The number of identifiers that failed definitively and were journaled as failed. */
+    private final long failureCount;
+    /**
+     * The number of identifiers that failed transiently (e.g., with an I/O error) and were not journaled, so they
+     * are retried on the next run.
+     */
+    private final long deferredCount;
+    /** The error that aborted the run, or {@code null} if every identifier was processed. */
+    private final Throwable abortCause;
+
+    /**
+     * Determines if the run was aborted before every identifier was processed. The remaining identifiers are
+     * processed when the pipeline is run again.
+     *
+     * @return {@code true} if the run was aborted; else, {@code false}
+     */
+    public boolean isAborted() {
+        return Objects.nonNull(abortCause);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.cache;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A point-in-time snapshot of {@link ResponseCache} statistics.
+ *
+ * @see ResponseCache#getStats()
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CacheStats {
+    /** The number of lookups that returned a cached value. */
+    private final long hitCount;
+    /** The number of lookups that required a load. */
+    private final long missCount;
+    /** The number of loads that completed successfully. */
+    private final long loadSuccessCount;
+    /** The number of loads that failed. */
+    private final long loadFailureCount;
+    /** The total time spent loading values, in nanoseconds. */
+    private final long totalLoadTimeNanos;
+    /** The number of entries evicted due to the size bound. */
+    private final long evictionCount;
+    /** The total estimated weight of entries evicted due to the size bound. */
+    private final long evictionWeight;
+    /** The number of entries removed because they expired. */
+    private final long expirationCount;
+
+    /**
+     * Gets the ratio of lookups that returned a cached value.
+     *
+     * @return the hit rate, or {@code 1.0} if there have been no lookups
+     */
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return requestCount == 0L ? 1.0D : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Gets the average time spent loading a value, in nanoseconds.
+     *
+     * @return the average load time
+     */
+    public double getAverageLoadPenaltyNanos() {
+        final long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0L ? 0.0D : (double) totalLoadTimeNanos / loadCount;
+    }
+}
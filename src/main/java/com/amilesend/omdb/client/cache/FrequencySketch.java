@@ -0,0 +1,123 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.cache;
+
+/**
+ * A probabilistic, count-min based estimate of the popularity of keys within a time window. Each key is tracked
+ * with a small saturating counter in each row, and all counters are periodically halved so that historic
+ * popularity decays. Not thread-safe; callers are expected to synchronize access.
+ */
+class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAX_COUNT = 15;
+    private static final int MIN_WIDTH = 64;
+    private static final int MAX_WIDTH = 1 << 22;
+    private static final int SAMPLE_SIZE_FACTOR = 10;
+    /** The number of counters per row allocated for each expected entry to reduce collisions. */
+    private static final int COUNTERS_PER_ENTRY = 4;
+    private static final int[] SEEDS = {0x97cb3127, 0xc2b2ae35, 0x85ebca6b, 0x27d4eb2f};
+
+    private byte[] counters;
+    private int width;
+    private int sampleSize;
+    private int additions;
+
+    /**
+     * Creates a new sketch sized for the expected number of entries.
+     *
+     * @param expectedEntries the expected number of entries
+     */
+    FrequencySketch(final long expectedEntries) {
+        allocate(tableWidth(expectedEntries));
+    }
+
+    /**
+     * Grows the sketch if it is undersized for the given number of entries. Growing discards the popularity
+     * history, so the sketch is resized geometrically to keep this infrequent.
+     *
+     * @param expectedEntries the expected number of entries
+     */
+    void ensureCapacity(final long expectedEntries) {
+        final int requiredWidth = tableWidth(expectedEntries);
+        if (requiredWidth > width) {
+            allocate(Math.min(MAX_WIDTH, Math.max(requiredWidth, width << 1)));
+        }
+    }
+
+    /**
+     * Increments the popularity of the given key hash.
+     *
+     * @param hash the key hash
+     */
+    void increment(final int hash) {
+        boolean isAdded = false;
+        for (int row = 0; row < DEPTH; ++row) {
+            final int index = indexOf(hash, row);
+            if (counters[index] < MAX_COUNT) {
+                ++counters[index];
+                isAdded = true;
+            }
+        }
+
+        if (isAdded && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    /**
+     * Gets the estimated popularity of the given key hash.
+     *
+     * @param hash the key hash
+     * @return the estimated frequency, between 0 and 15
+     */
+    int frequency(final int hash) {
+        int frequency = MAX_COUNT;
+        for (int row = 0; row < DEPTH; ++row) {
+            frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+        }
+
+        return frequency;
+    }
+
+    /** Halves every counter so that the popularity of keys decays over time. */
+    private void reset() {
+        for (int i = 0; i < counters.length; ++i) {
+            counters[i] = (byte) (counters[i] >>> 1);
+        }
+
+        additions >>>= 1;
+    }
+
+    private void allocate(final int newWidth) {
+        width = newWidth;
+        counters = new byte[width * DEPTH];
+        sampleSize = SAMPLE_SIZE_FACTOR * width;
+        additions = 0;
+    }
+
+    private int indexOf(final int hash, final int row) {
+        int h = (hash ^ (hash >>> 16)) * SEEDS[row];
+        h ^= h >>> 15;
+        return row * width + (h & (width - 1));
+    }
+
+    private static int tableWidth(final long expectedEntries) {
+        final long clamped = Math.max(MIN_WIDTH, Math.min(MAX_WIDTH, expectedEntries * COUNTERS_PER_ENTRY));
+        return Integer.highestOneBit((int) clamped - 1) << 1;
+    }
+}
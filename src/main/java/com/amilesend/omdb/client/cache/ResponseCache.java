@@ -0,0 +1,493 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.cache;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.model.type.RawMedia;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Singular;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An in-memory, read-through cache for OMDb responses that is bounded by the estimated number of retained bytes.
+ *
+ * <p>Entries are admitted with a W-TinyLFU policy: new entries enter a small LRU admission window, and when the
+ * window overflows its oldest entry only displaces an entry in the main segmented LRU region if it has been
+ * requested more frequently. This keeps the frequently requested set resident when large one-off scans pass
+ * through the cache.</p>
+ *
+ * <p>Each entry expires after a time-to-live that is configurable per response type (e.g., {@code Season} data for
+ * an airing show changes more often than {@code Movie} data).</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * ResponseCache cache = ResponseCache.builder()
+ *         .maximumWeightBytes(64L * 1024L * 1024L)
+ *         .defaultTimeToLive(Duration.ofDays(7L))
+ *         .timeToLive(Season.class, Duration.ofHours(6L))
+ *         .build();
+ * </pre>
+ *
+ * @see CacheStats
+ * @see Weigher
+ */
+public class ResponseCache {
+    private static final long ENTRY_OVERHEAD_BYTES = 96L;
+    /**
+     * The default weigher that estimates the retained size from the raw body size for {@link RawMedia} and
+     * {@code byte[]} values, or from a walk of the value's fields otherwise.
+     */
+    public static final Weigher DEFAULT_WEIGHER =
+            (key, value) -> ENTRY_OVERHEAD_BYTES + 2L * key.length() + estimateValueBytes(value);
+    private static final long ESTIMATED_AVERAGE_ENTRY_BYTES = 4096L;
+    private static final double WINDOW_RATIO = 0.01D;
+    private static final double PROTECTED_RATIO = 0.80D;
+
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final Duration defaultTimeToLive;
+    private final Map<Class<?>, Duration> timeToLives;
+    private final Weigher weigher;
+    private final LongSupplier ticker;
+
+    private final Map<String, Node> data = new HashMap<>();
+    private final AccessQueue window = new AccessQueue();
+    private final AccessQueue probation = new AccessQueue();
+    private final AccessQueue protectedQueue = new AccessQueue();
+    private final FrequencySketch sketch;
+    private long windowWeight;
+    private long protectedWeight;
+    private long totalWeight;
+
+    private long hitCount;
+    private long missCount;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private long totalLoadTimeNanos;
+    private long evictionCount;
+    private long evictionWeight;
+    private long expirationCount;
+
+    /**
+     * Creates a new {@code ResponseCache}.
+     *
+     * @param maximumWeightBytes the maximum estimated number of bytes retained by cached entries
+     * @param defaultTimeToLive the time-to-live for response types without a specific time-to-live; {@code null}
+     *                          if entries do not expire
+     * @param timeToLives the time-to-live for specific response types (and their subtypes)
+     * @param weigher the weigher used to estimate the retained size of entries (optional)
+     * @param ticker the nanosecond time source (optional)
+     */
+    @Builder
+    private ResponseCache(
+            final long maximumWeightBytes,
+            final Duration defaultTimeToLive,
+            @Singular("timeToLive") final Map<Class<?>, Duration> timeToLives,
+            final Weigher weigher,
+            final LongSupplier ticker) {
+        Validate.isTrue(maximumWeightBytes > 0L, "maximumWeightBytes must be > 0");
+
+        this.maximumWeight = maximumWeightBytes;
+        this.windowMaximum = Math.max(1L, (long) (maximumWeightBytes * WINDOW_RATIO));
+        this.protectedMaximum = (long) ((maximumWeightBytes - windowMaximum) * PROTECTED_RATIO);
+        this.defaultTimeToLive = defaultTimeToLive;
+        this.timeToLives = timeToLives;
+        this.weigher = Objects.requireNonNullElse(weigher, DEFAULT_WEIGHER);
+        this.ticker = Objects.requireNonNullElse(ticker, System::nanoTime);
+        this.sketch = new FrequencySketch(maximumWeightBytes / ESTIMATED_AVERAGE_ENTRY_BYTES);
+    }
+
+    /**
+     * Gets the cached value for the given key, or loads and caches it with the given {@code loader} if it is not
+     * present. The loader is invoked outside the cache's lock.
+     *
+     * @param key the cache key
+     * @param type the expected value type
+     * @param loader the loader used to fetch the value on a cache miss
+     * @param <T> the value type
+     * @return the value
+     */
+    public <T> T get(@NonNull final String key, @NonNull final Class<T> type, @NonNull final Supplier<T> loader) {
+        final T cached = getIfPresent(key, type);
+        if (cached != null) {
+            return cached;
+        }
+
+        final long startTime = ticker.getAsLong();
+        final T value;
+        try {
+            value = loader.get();
+        } catch (final RuntimeException ex) {
+            recordLoadFailure(ticker.getAsLong() - startTime);
+            throw ex;
+        }
+
+        recordLoadSuccess(ticker.getAsLong() - startTime);
+        put(key, value);
+        return value;
+    }
+
+    /**
+     * Gets the cached value for the given key, or asynchronously loads and caches it with the given {@code loader}
+     * if it is not present. Cancelling the returned future cancels the load.
+     *
+     * @param key the cache key
+     * @param type the expected value type
+     * @param loader the loader used to fetch the value on a cache miss
+     * @param <T> the value type
+     * @return the future that completes with the value
+     */
+    public <T> CompletableFuture<T> getAsync(
+            @NonNull final String key,
+            @NonNull final Class<T> type,
+            @NonNull final Supplier<CompletableFuture<T>> loader) {
+        final T cached = getIfPresent(key, type);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        final long startTime = ticker.getAsLong();
+        final CompletableFuture<T> load = loader.get();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        load.whenComplete((value, ex) -> {
+            if (ex != null) {
+                recordLoadFailure(ticker.getAsLong() - startTime);
+                result.completeExceptionally(ex);
+                return;
+            }
+
+            recordLoadSuccess(ticker.getAsLong() - startTime);
+            put(key, value);
+            result.complete(value);
+        });
+        // A dependent stage does not cancel its source, so forward cancellation to the load explicitly
+        result.whenComplete((value, ex) -> {
+            if (result.isCancelled()) {
+                load.cancel(true);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Gets the cached value for the given key.
+     *
+     * @param key the cache key
+     * @param type the expected value type
+     * @param <T> the value type
+     * @return the cached value, or {@code null} if not present, expired, or not of the expected type
+     */
+    public synchronized <T> T getIfPresent(@NonNull final String key, @NonNull final Class<T> type) {
+        sketch.increment(key.hashCode());
+
+        final Node node = data.get(key);
+        if (node == null) {
+            ++missCount;
+            return null;
+        }
+
+        if (node.expiresAtNanos - ticker.getAsLong() <= 0L) {
+            remove(node);
+            ++expirationCount;
+            ++missCount;
+            return null;
+        }
+
+        if (!type.isInstance(node.value)) {
+            ++missCount;
+            return null;
+        }
+
+        ++hitCount;
+        onAccess(node);
+        return type.cast(node.value);
+    }
+
+    /**
+     * Caches the given value. Values whose configured time-to-live is zero or whose estimated size exceeds the
+     * maximum weight are not cached.
+     *
+     * @param key the cache key
+     * @param value the value
+     */
+    public void put(@NonNull final String key, final Object value) {
+        if (value == null) {
+            return;
+        }
+
+        final Duration timeToLive = timeToLiveFor(value.getClass());
+        if (timeToLive != null && (timeToLive.isZero() || timeToLive.isNegative())) {
+            return;
+        }
+
+        final long weight = Math.max(1L, weigher.weigh(key, value));
+
+        synchronized (this) {
+            final Node existing = data.get(key);
+            if (existing != null) {
+                remove(existing);
+            }
+
+            if (weight > maximumWeight) {
+                return;
+            }
+
+            final long expiresAtNanos = timeToLive == null
+                    ? ticker.getAsLong() + Long.MAX_VALUE / 2L
+                    : ticker.getAsLong() + timeToLive.toNanos();
+            final Node node = new Node(key, value, weight, expiresAtNanos);
+            data.put(key, node);
+            sketch.ensureCapacity(data.size());
+            node.queue = window;
+            window.addLast(node);
+            windowWeight += weight;
+            totalWeight += weight;
+            evict();
+        }
+    }
+
+    /**
+     * Removes the cached value for the given key.
+     *
+     * @param key the cache key
+     */
+    public synchronized void invalidate(@NonNull final String key) {
+        final Node node = data.get(key);
+        if (node != null) {
+            remove(node);
+        }
+    }
+
+    /** Removes all cached values. */
+    public synchronized void invalidateAll() {
+        data.clear();
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        windowWeight = 0L;
+        protectedWeight = 0L;
+        totalWeight = 0L;
+    }
+
+    /**
+     * Gets the number of cached entries, including expired entries that have not yet been removed.
+     *
+     * @return the number of entries
+     */
+    public synchronized int getEstimatedSize() {
+        return data.size();
+    }
+
+    /**
+     * Gets the total estimated number of bytes retained by the cached entries.
+     *
+     * @return the weighted size
+     */
+    public synchronized long getWeightedSize() {
+        return totalWeight;
+    }
+
+    /**
+     * Gets a snapshot of the cache statistics.
+     *
+     * @return the statistics
+     */
+    public synchronized CacheStats getStats() {
+        return CacheStats.builder()
+                .hitCount(hitCount)
+                .missCount(missCount)
+                .loadSuccessCount(loadSuccessCount)
+                .loadFailureCount(loadFailureCount)
+                .totalLoadTimeNanos(totalLoadTimeNanos)
+                .evictionCount(evictionCount)
+                .evictionWeight(evictionWeight)
+                .expirationCount(expirationCount)
+                .build();
+    }
+
+    private Duration timeToLiveFor(final Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            final Duration timeToLive = timeToLives.get(current);
+            if (timeToLive != null) {
+                return timeToLive;
+            }
+        }
+
+        return defaultTimeToLive;
+    }
+
+    private synchronized void recordLoadSuccess(final long loadTimeNanos) {
+        ++loadSuccessCount;
+        totalLoadTimeNanos += loadTimeNanos;
+    }
+
+    private synchronized void recordLoadFailure(final long loadTimeNanos) {
+        ++loadFailureCount;
+        totalLoadTimeNanos += loadTimeNanos;
+    }
+
+    private void onAccess(final Node node) {
+        if (node.queue == window || node.queue == protectedQueue) {
+            node.queue.moveToBack(node);
+            return;
+        }
+
+        // Promote from probation to protected, demoting the protected region's oldest entries if it overflows
+        probation.remove(node);
+        node.queue = protectedQueue;
+        protectedQueue.addLast(node);
+        protectedWeight += node.weight;
+        while (protectedWeight > protectedMaximum && protectedQueue.first != node) {
+            final Node demoted = protectedQueue.first;
+            protectedQueue.remove(demoted);
+            protectedWeight -= demoted.weight;
+            demoted.queue = probation;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void evict() {
+        // Move overflow from the admission window into probation as candidates for the main region
+        while (windowWeight > windowMaximum && window.first != null) {
+            final Node candidate = window.first;
+            window.remove(candidate);
+            windowWeight -= candidate.weight;
+            candidate.queue = probation;
+            probation.addLast(candidate);
+        }
+
+        while (totalWeight > maximumWeight) {
+            final Node victim = probation.first != null
+                    ? probation.first
+                    : protectedQueue.first != null ? protectedQueue.first : window.first;
+            final Node candidate = probation.last;
+            if (candidate == null || candidate == victim) {
+                evictNode(victim);
+            } else if (sketch.frequency(candidate.key.hashCode()) > sketch.frequency(victim.key.hashCode())) {
+                evictNode(victim);
+            } else {
+                evictNode(candidate);
+            }
+        }
+    }
+
+    private void evictNode(final Node node) {
+        ++evictionCount;
+        evictionWeight += node.weight;
+        remove(node);
+    }
+
+    private void remove(final Node node) {
+        data.remove(node.key);
+        node.queue.remove(node);
+        if (node.queue == window) {
+            windowWeight -= node.weight;
+        } else if (node.queue == protectedQueue) {
+            protectedWeight -= node.weight;
+        }
+
+        totalWeight -= node.weight;
+        node.queue = null;
+    }
+
+    private static long estimateValueBytes(final Object value) {
+        if (value instanceof RawMedia) {
+            return ((RawMedia) value).getBodySize();
+        }
+
+        if (value instanceof byte[]) {
+            return ((byte[]) value).length;
+        }
+
+        return SizeEstimator.estimate(value);
+    }
+
+    private static class Node {
+        private final String key;
+        private final Object value;
+        private final long weight;
+        private final long expiresAtNanos;
+        private AccessQueue queue;
+        private Node previous;
+        private Node next;
+
+        Node(final String key, final Object value, final long weight, final long expiresAtNanos) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    /** An intrusive doubly-linked list ordered from least to most recently used. */
+    private static class AccessQueue {
+        private Node first;
+        private Node last;
+
+        void addLast(final Node node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+
+            last = node;
+        }
+
+        void remove(final Node node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+
+            node.previous = null;
+            node.next = null;
+        }
+
+        void moveToBack(final Node node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            first = null;
+            last = null;
+        }
+    }
+}
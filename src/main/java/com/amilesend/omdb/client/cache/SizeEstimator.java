@@ -0,0 +1,129 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.cache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estimates the retained size of a parsed response by walking its fields. Field lists are computed once per class,
+ * and the walk only reads references and string lengths, so estimating a size does not allocate proportionally to
+ * the object graph (unlike rendering the value as a string).
+ *
+ * <p>The estimate assumes compact (Latin-1) strings and 64-bit object headers, and it does not account for values
+ * that are shared between objects. Types outside the response model (e.g., {@code LocalDate} or boxed numbers) are
+ * counted as a fixed-size object, and enum constants are not counted.</p>
+ */
+class SizeEstimator {
+    private static final long OBJECT_HEADER_BYTES = 16L;
+    private static final long REFERENCE_BYTES = 8L;
+    private static final long STRING_OVERHEAD_BYTES = 40L;
+    /** Guards against cyclic references; the response models are shallow trees. */
+    private static final int MAX_DEPTH = 8;
+
+    private static final ClassValue<Field[]> FIELDS = new ClassValue<>() {
+        @Override
+        protected Field[] computeValue(final Class<?> type) {
+            final List<Field> fields = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class;
+                    current = current.getSuperclass()) {
+                for (final Field field : current.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())
+                            && !field.getType().isPrimitive()
+                            && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private SizeEstimator() {
+    }
+
+    /**
+     * Estimates the number of bytes retained by the given value.
+     *
+     * @param value the value
+     * @return the estimated retained size in bytes
+     */
+    static long estimate(final Object value) {
+        return estimate(value, 0);
+    }
+
+    private static long estimate(final Object value, final int depth) {
+        if (value == null || value instanceof Enum) {
+            return 0L;
+        }
+
+        if (value instanceof CharSequence) {
+            return STRING_OVERHEAD_BYTES + ((CharSequence) value).length();
+        }
+
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_BYTES + ((byte[]) value).length;
+        }
+
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER_BYTES;
+        }
+
+        if (value instanceof Collection) {
+            long size = OBJECT_HEADER_BYTES;
+            for (final Object element : (Collection<?>) value) {
+                size += REFERENCE_BYTES + estimate(element, depth + 1);
+            }
+
+            return size;
+        }
+
+        if (value instanceof Map) {
+            long size = OBJECT_HEADER_BYTES;
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += OBJECT_HEADER_BYTES
+                        + estimate(entry.getKey(), depth + 1)
+                        + estimate(entry.getValue(), depth + 1);
+            }
+
+            return size;
+        }
+
+        final Class<?> type = value.getClass();
+        if (type.getName().startsWith("java.")) {
+            return OBJECT_HEADER_BYTES + REFERENCE_BYTES;
+        }
+
+        final Field[] fields = FIELDS.get(type);
+        long size = OBJECT_HEADER_BYTES + REFERENCE_BYTES * fields.length;
+        for (final Field field : fields) {
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (final IllegalAccessException ex) {
+                size += OBJECT_HEADER_BYTES;
+            }
+        }
+
+        return size;
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Reduces tail latency by hedging requests: if a request has not completed within a delay derived from a
+ * percentile of recently observed latencies, a second identical request is issued. Whichever completes first
+ * successfully wins and the other is cancelled.
+ *
+ * <p>Hedges are limited by a budget so that they are capped at a fraction of requests: each request deposits
+ * {@code maxHedgeRatio} tokens and each hedge withdraws one token.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * HedgingPolicy hedgingPolicy = HedgingPolicy.builder()
+ *         .percentile(0.95D)
+ *         .maxHedgeRatio(0.05D)
+ *         .build();
+ * </pre>
+ */
+public class HedgingPolicy {
+    private static final double DEFAULT_PERCENTILE = 0.95D;
+    private static final double DEFAULT_MAX_HEDGE_RATIO = 0.05D;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofSeconds(1L);
+    private static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(10L);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5L);
+    private static final int DEFAULT_SAMPLE_SIZE = 1024;
+    /** The number of recorded latencies between recomputations of the hedge delay. */
+    private static final int RECOMPUTE_INTERVAL = 32;
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+    /** The maximum number of hedges that may accumulate in the budget during quiet periods. */
+    private static final long MAX_HEDGE_TOKENS = 10L;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long depositMilliTokens;
+    private final AtomicLong balanceMilliTokens = new AtomicLong();
+    /** A ring buffer of recent successful request latencies. */
+    private final AtomicLongArray latencySamples;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong hedgeCount = new AtomicLong();
+    private volatile long hedgeDelayNanos;
+
+    /**
+     * Creates a new {@code HedgingPolicy}.
+     *
+     * @param percentile the latency percentile, between 0 and 1, after which a hedge is issued (defaults to 0.95)
+     * @param maxHedgeRatio the maximum ratio of hedges to requests (defaults to 0.05)
+     * @param initialDelay the hedge delay used until enough latencies are observed (defaults to 1 second)
+     * @param minDelay the minimum hedge delay (defaults to 10 milliseconds)
+     * @param maxDelay the maximum hedge delay (defaults to 5 seconds)
+     * @param sampleSize the number of recent latencies used to compute the percentile (defaults to 1024)
+     */
+    @Builder
+    private HedgingPolicy(
+            final Double percentile,
+            final Double maxHedgeRatio,
+            final Duration initialDelay,
+            final Duration minDelay,
+            final Duration maxDelay,
+            final Integer sampleSize) {
+        this.percentile = Objects.requireNonNullElse(percentile, DEFAULT_PERCENTILE);
+        final double ratio = Objects.requireNonNullElse(maxHedgeRatio, DEFAULT_MAX_HEDGE_RATIO);
+        this.minDelayNanos = Objects.requireNonNullElse(minDelay, DEFAULT_MIN_DELAY).toNanos();
+        this.maxDelayNanos = Objects.requireNonNullElse(maxDelay, DEFAULT_MAX_DELAY).toNanos();
+        final int samples = Objects.requireNonNullElse(sampleSize, DEFAULT_SAMPLE_SIZE);
+
+        Validate.isTrue(this.percentile > 0.0D && this.percentile < 1.0D, "percentile must be between 0 and 1");
+        Validate.isTrue(ratio >= 0.0D && ratio <= 1.0D, "maxHedgeRatio must be between 0 and 1");
+        Validate.isTrue(minDelayNanos >= 0L, "minDelay must not be negative");
+        Validate.isTrue(maxDelayNanos >= minDelayNanos, "maxDelay must be >= minDelay");
+        Validate.isTrue(samples >= RECOMPUTE_INTERVAL, "sampleSize must be >= " + RECOMPUTE_INTERVAL);
+
+        this.depositMilliTokens = Math.round(ratio * MILLI_TOKENS_PER_TOKEN);
+        this.latencySamples = new AtomicLongArray(samples);
+        this.hedgeDelayNanos = clampDelay(Objects.requireNonNullElse(initialDelay, DEFAULT_INITIAL_DELAY).toNanos());
+    }
+
+    /**
+     * Executes the given call, issuing a hedge with the same call if it is slow.
+     *
+     * @param call the call
+     * @param <T> the result type
+     * @return the future that completes with the first successful result
+     */
+    public <T> CompletableFuture<T> executeAsync(@NonNull final Supplier<CompletableFuture<T>> call) {
+        return executeAsync(call, call);
+    }
+
+    /**
+     * Executes the {@code primaryCall}, issuing the {@code hedgeCall} if it is slow. The hedge call may return
+     * {@code null} to decline hedging (e.g., when no request quota is available).
+     *
+     * <p>If one call fails while the other is in flight, the result of the other call is used. Cancelling the
+     * returned future cancels both calls.</p>
+     *
+     * @param primaryCall the primary call
+     * @param hedgeCall the hedge call
+     * @param <T> the result type
+     * @return the future that completes with the first successful result, or exceptionally with the last failure
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final Supplier<CompletableFuture<T>> primaryCall,
+            @NonNull final Supplier<CompletableFuture<T>> hedgeCall) {
+        deposit();
+
+        final long startTime = System.nanoTime();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicInteger numOutstanding = new AtomicInteger(1);
+        final AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+        final CompletableFuture<T> primary = invoke(primaryCall);
+
+        result.whenComplete((value, ex) -> {
+            primary.cancel(true);
+            final CompletableFuture<T> hedgeFuture = hedge.get();
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(true);
+            }
+        });
+        primary.whenComplete((value, ex) -> onAttemptComplete(result, numOutstanding, startTime, value, ex));
+
+        CompletableFuture.delayedExecutor(hedgeDelayNanos, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone() || !tryWithdraw()) {
+                return;
+            }
+
+            final CompletableFuture<T> hedgeFuture = invoke(hedgeCall);
+            if (hedgeFuture == null) {
+                refund();
+                return;
+            }
+
+            hedgeCount.incrementAndGet();
+            hedge.set(hedgeFuture);
+            if (numOutstanding.getAndIncrement() == 0 || result.isDone()) {
+                // The primary call already completed the result
+                hedgeFuture.cancel(true);
+                return;
+            }
+
+            hedgeFuture.whenComplete((value, ex) -> onAttemptComplete(result, numOutstanding, startTime, value, ex));
+        });
+
+        return result;
+    }
+
+    /**
+     * Gets the current delay after which a hedge is issued.
+     *
+     * @return the hedge delay
+     */
+    public Duration getHedgeDelay() {
+        return Duration.ofNanos(hedgeDelayNanos);
+    }
+
+    /**
+     * Gets the total number of hedges that have been issued.
+     *
+     * @return the number of hedges
+     */
+    public long getHedgeCount() {
+        return hedgeCount.get();
+    }
+
+    private <T> void onAttemptComplete(
+            final CompletableFuture<T> result,
+            final AtomicInteger numOutstanding,
+            final long startTime,
+            final T value,
+            final Throwable ex) {
+        if (ex == null) {
+            if (result.complete(value)) {
+                recordLatency(System.nanoTime() - startTime);
+            }
+            return;
+        }
+
+        // Only fail once no other attempt can still succeed
+        if (numOutstanding.decrementAndGet() == 0) {
+            result.completeExceptionally(unwrap(ex));
+        }
+    }
+
+    private void recordLatency(final long latencyNanos) {
+        final long count = sampleCount.getAndIncrement();
+        latencySamples.set((int) (count % latencySamples.length()), latencyNanos);
+        if ((count + 1L) % RECOMPUTE_INTERVAL == 0L) {
+            recomputeHedgeDelay(Math.min(count + 1L, latencySamples.length()));
+        }
+    }
+
+    private void recomputeHedgeDelay(final long numSamples) {
+        final long[] sorted = new long[(int) numSamples];
+        for (int i = 0; i < sorted.length; ++i) {
+            sorted[i] = latencySamples.get(i);
+        }
+        Arrays.sort(sorted);
+
+        final int index = Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1);
+        hedgeDelayNanos = clampDelay(sorted[index]);
+    }
+
+    private long clampDelay(final long delayNanos) {
+        return Math.max(minDelayNanos, Math.min(maxDelayNanos, delayNanos));
+    }
+
+    private void deposit() {
+        balanceMilliTokens.accumulateAndGet(depositMilliTokens,
+                (balance, deposit) -> Math.min(MAX_HEDGE_TOKENS * MILLI_TOKENS_PER_TOKEN, balance + deposit));
+    }
+
+    private boolean tryWithdraw() {
+        while (true) {
+            final long balance = balanceMilliTokens.get();
+            if (balance < MILLI_TOKENS_PER_TOKEN) {
+                return false;
+            }
+            if (balanceMilliTokens.compareAndSet(balance, balance - MILLI_TOKENS_PER_TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private void refund() {
+        balanceMilliTokens.addAndGet(MILLI_TOKENS_PER_TOKEN);
+    }
+
+    private static <T> CompletableFuture<T> invoke(final Supplier<CompletableFuture<T>> call) {
+        try {
+            return call.get();
+        } catch (final RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import com.amilesend.client.connection.RequestException;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/** Thrown when a request is rejected by a {@link RateLimiter} because its request budget is exhausted. */
+public class RateLimitExceededException extends RequestException {
+    /** The estimated duration until the request budget permits another request. */
+    @Getter
+    private final Duration retryAfter;
+
+    /**
+     * Creates a new {@code RateLimitExceededException}.
+     *
+     * @param message the message
+     * @param retryAfter the estimated duration until the request budget permits another request
+     */
+    public RateLimitExceededException(final String message, final Duration retryAfter) {
+        super(message, null);
+        this.retryAfter = retryAfter;
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * A client-side rate limiter that enforces the request budgets of an OMDb API key. Budgets are tracked per second
+ * and per day using the generic cell rate algorithm, where each budget is a single atomic timestamp that is
+ * advanced with compare-and-set so that acquiring a permit never takes a lock.
+ *
+ * <p>Clients that share an API key should share the same {@code RateLimiter} instance.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * RateLimiter rateLimiter = RateLimiter.builder()
+ *         .requestsPerSecond(10L)
+ *         .requestsPerDay(1000L)
+ *         .mode(RateLimiter.Mode.FAIL_FAST)
+ *         .build();
+ * </pre>
+ */
+public class RateLimiter {
+    private static final Duration ONE_SECOND = Duration.ofSeconds(1L);
+    private static final Duration ONE_DAY = Duration.ofDays(1L);
+
+    /** The behavior when the request budget is exhausted. */
+    @Getter
+    private final Mode mode;
+    /** The maximum duration to block for a permit in {@link Mode#BLOCK} mode. */
+    private final long maxWaitNanos;
+    private final LongSupplier ticker;
+    private final Bucket perSecond;
+    private final Bucket perDay;
+
+    /**
+     * Creates a new {@code RateLimiter}.
+     *
+     * @param requestsPerSecond the number of requests allowed per second, or {@code 0} if unlimited
+     * @param requestsPerDay the number of requests allowed per day, or {@code 0} if unlimited
+     * @param mode the behavior when the budget is exhausted (defaults to {@link Mode#BLOCK})
+     * @param maxWait the maximum duration to block for a permit before failing (optional; defaults to unbounded)
+     * @param ticker the nanosecond time source (optional)
+     */
+    @Builder
+    private RateLimiter(
+            final long requestsPerSecond,
+            final long requestsPerDay,
+            final Mode mode,
+            final Duration maxWait,
+            final LongSupplier ticker) {
+        Validate.isTrue(requestsPerSecond >= 0L, "requestsPerSecond must be >= 0");
+        Validate.isTrue(requestsPerDay >= 0L, "requestsPerDay must be >= 0");
+        Validate.isTrue(requestsPerSecond > 0L || requestsPerDay > 0L,
+                "At least one of requestsPerSecond or requestsPerDay must be > 0");
+        Validate.isTrue(maxWait == null || !maxWait.isNegative(), "maxWait must not be negative");
+
+        this.mode = Objects.requireNonNullElse(mode, Mode.BLOCK);
+        this.maxWaitNanos = maxWait == null ? Long.MAX_VALUE : maxWait.toNanos();
+        this.ticker = Objects.requireNonNullElse(ticker, System::nanoTime);
+        final long now = this.ticker.getAsLong();
+        this.perSecond = requestsPerSecond > 0L ? new Bucket(requestsPerSecond, ONE_SECOND, now) : null;
+        this.perDay = requestsPerDay > 0L ? new Bucket(requestsPerDay, ONE_DAY, now) : null;
+    }
+
+    /**
+     * Acquires a permit to issue a request, blocking the calling thread if the budget is exhausted and the mode
+     * is {@link Mode#BLOCK}. The permit is returned to the budget if the thread is interrupted while waiting.
+     *
+     * @return the acquired permit
+     * @throws RateLimitExceededException if the budget is exhausted and the mode is {@link Mode#FAIL_FAST}, the
+     *         required wait exceeds the maximum wait, or the thread is interrupted while waiting
+     */
+    public Permit acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos == 0L) {
+            return new Permit();
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            refund();
+            throw new RateLimitExceededException("Interrupted while waiting for a request permit",
+                    Duration.ofNanos(waitNanos));
+        }
+
+        return new Permit();
+    }
+
+    /**
+     * Acquires a permit to issue a request without blocking the calling thread. If the budget is exhausted and the
+     * mode is {@link Mode#BLOCK}, the returned future completes once the permit is available. Cancelling the
+     * returned future before it completes returns the permit to the budget.
+     *
+     * @return the future that completes with the acquired permit, or completes exceptionally with a
+     *         {@link RateLimitExceededException}
+     */
+    public CompletableFuture<Permit> acquireAsync() {
+        final long waitNanos;
+        try {
+            waitNanos = reserve();
+        } catch (final RateLimitExceededException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+
+        if (waitNanos == 0L) {
+            return CompletableFuture.completedFuture(new Permit());
+        }
+
+        final CompletableFuture<Permit> permit = new CompletableFuture<>();
+        permit.whenComplete((ignored, ex) -> {
+            if (permit.isCancelled()) {
+                refund();
+            }
+        });
+        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS)
+                .execute(() -> permit.complete(new Permit()));
+        return permit;
+    }
+
+    /**
+     * Attempts to acquire a permit without waiting, regardless of the mode.
+     *
+     * @return {@code true} if the permit was acquired; else, {@code false}
+     */
+    public boolean tryAcquire() {
+        return tryReserve(ticker.getAsLong()) == 0L;
+    }
+
+    /**
+     * Reserves a permit and returns how long the caller must wait before using it.
+     *
+     * @return the wait duration in nanoseconds
+     */
+    private long reserve() {
+        final long now = ticker.getAsLong();
+        if (mode == Mode.FAIL_FAST) {
+            final long waitNanos = tryReserve(now);
+            if (waitNanos > 0L) {
+                throw new RateLimitExceededException("Request budget exhausted", Duration.ofNanos(waitNanos));
+            }
+
+            return 0L;
+        }
+
+        final long waitNanos = Math.max(
+                perSecond != null ? perSecond.reserve(now) : 0L,
+                perDay != null ? perDay.reserve(now) : 0L);
+        if (waitNanos > maxWaitNanos) {
+            refund();
+            throw new RateLimitExceededException("Request budget exhausted beyond the maximum wait",
+                    Duration.ofNanos(waitNanos));
+        }
+
+        return waitNanos;
+    }
+
+    private long tryReserve(final long now) {
+        final long perSecondWaitNanos = perSecond != null ? perSecond.tryReserve(now) : 0L;
+        if (perSecondWaitNanos > 0L) {
+            return perSecondWaitNanos;
+        }
+
+        final long perDayWaitNanos = perDay != null ? perDay.tryReserve(now) : 0L;
+        if (perDayWaitNanos > 0L) {
+            if (perSecond != null) {
+                perSecond.release();
+            }
+
+            return perDayWaitNanos;
+        }
+
+        return 0L;
+    }
+
+    /** Returns a reserved permit to both budgets. */
+    private void refund() {
+        if (perSecond != null) {
+            perSecond.release();
+        }
+        if (perDay != null) {
+            perDay.release();
+        }
+    }
+
+    /**
+     * A permit acquired from the budget. A permit that is not used to issue a request (e.g., because the request was
+     * cancelled after the permit was granted) can be returned to the budget with {@link #release()}.
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit() {
+        }
+
+        /**
+         * Returns this permit to the budget. Must only be called if the permit was not used to issue a request.
+         * Only the first call has an effect.
+         */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                refund();
+            }
+        }
+    }
+
+    /** Defines the behavior when the request budget is exhausted. */
+    public enum Mode {
+        /** Wait until the budget permits the request. */
+        BLOCK,
+        /** Reject the request with a {@link RateLimitExceededException}. */
+        FAIL_FAST
+    }
+
+    /**
+     * A budget of requests per period. The theoretical arrival time advances by the emission interval for each
+     * permit, and a permit is allowed while it is no more than one period ahead of the current time.
+     */
+    private static class Bucket {
+        private final long emissionIntervalNanos;
+        private final long periodNanos;
+        private final AtomicLong theoreticalArrivalTime;
+
+        Bucket(final long limit, final Duration period, final long now) {
+            this.emissionIntervalNanos = Math.max(1L, period.toNanos() / limit);
+            this.periodNanos = emissionIntervalNanos * limit;
+            this.theoreticalArrivalTime = new AtomicLong(now);
+        }
+
+        /** Reserves a permit if available now and returns {@code 0}; else, returns the wait without reserving. */
+        long tryReserve(final long now) {
+            while (true) {
+                final long current = theoreticalArrivalTime.get();
+                final long next = (current - now > 0L ? current : now) + emissionIntervalNanos;
+                final long waitNanos = next - periodNanos - now;
+                if (waitNanos > 0L) {
+                    return waitNanos;
+                }
+                if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                    return 0L;
+                }
+            }
+        }
+
+        /** Unconditionally reserves a permit and returns the wait until it may be used. */
+        long reserve(final long now) {
+            while (true) {
+                final long current = theoreticalArrivalTime.get();
+                final long next = (current - now > 0L ? current : now) + emissionIntervalNanos;
+                if (theoreticalArrivalTime.compareAndSet(current, next)) {
+                    return Math.max(0L, next - periodNanos - now);
+                }
+            }
+        }
+
+        /** Returns a reserved permit. */
+        void release() {
+            theoreticalArrivalTime.addAndGet(-emissionIntervalNanos);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls for the same key so that only one underlying call is in flight at a time and all
+ * callers share its result. Once the call completes, the next call for the key starts a new underlying call.
+ *
+ * <p>Cancelling a future returned by {@link #executeAsync(String, Supplier)} only detaches that caller; the
+ * underlying call is cancelled once every asynchronous caller sharing it has cancelled.</p>
+ */
+public class SingleFlight {
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the {@code loader} for the given key, or waits for the result of the call already in flight for it.
+     *
+     * @param key the key that identifies equivalent calls
+     * @param loader the loader that performs the call
+     * @param <T> the result type
+     * @return the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(@NonNull final String key, @NonNull final Supplier<T> loader) {
+        while (true) {
+            final Flight flight = new Flight();
+            final Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                return lead(key, flight, loader);
+            }
+
+            if (existing.tryJoin()) {
+                return (T) await(existing);
+            }
+
+            // The existing call was abandoned by all of its callers
+            inFlight.remove(key, existing);
+        }
+    }
+
+    /**
+     * Asynchronously executes the {@code loader} for the given key, or shares the result of the call already in
+     * flight for it.
+     *
+     * @param key the key that identifies equivalent calls
+     * @param loader the loader that performs the call
+     * @param <T> the result type
+     * @return the future that completes with the result
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final String key,
+            @NonNull final Supplier<CompletableFuture<T>> loader) {
+        while (true) {
+            final Flight flight = new Flight();
+            final Flight existing = inFlight.putIfAbsent(key, flight);
+            if (existing == null) {
+                leadAsync(key, flight, loader);
+                return subscribe(key, flight);
+            }
+
+            if (existing.tryJoin()) {
+                return subscribe(key, existing);
+            }
+
+            inFlight.remove(key, existing);
+        }
+    }
+
+    /**
+     * Gets the number of distinct calls currently in flight.
+     *
+     * @return the number of calls in flight
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> T lead(final String key, final Flight flight, final Supplier<T> loader) {
+        final T value;
+        try {
+            value = loader.get();
+        } catch (final RuntimeException | Error ex) {
+            inFlight.remove(key, flight);
+            flight.result.completeExceptionally(ex);
+            throw ex;
+        }
+
+        inFlight.remove(key, flight);
+        flight.result.complete(value);
+        return value;
+    }
+
+    private <T> void leadAsync(final String key, final Flight flight, final Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<T> source;
+        try {
+            source = loader.get();
+        } catch (final RuntimeException ex) {
+            source = CompletableFuture.failedFuture(ex);
+        }
+
+        flight.source = source;
+        source.whenComplete((value, ex) -> {
+            inFlight.remove(key, flight);
+            if (ex != null) {
+                flight.result.completeExceptionally(unwrap(ex));
+            } else {
+                flight.result.complete(value);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> subscribe(final String key, final Flight flight) {
+        final CompletableFuture<T> subscriber = new CompletableFuture<>();
+        flight.result.whenComplete((value, ex) -> {
+            if (ex != null) {
+                subscriber.completeExceptionally(unwrap(ex));
+            } else {
+                subscriber.complete((T) value);
+            }
+        });
+        subscriber.whenComplete((value, ex) -> {
+            if (subscriber.isCancelled() && flight.leave()) {
+                inFlight.remove(key, flight);
+                flight.cancel();
+            }
+        });
+
+        return subscriber;
+    }
+
+    private static Object await(final Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (final CompletionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw ex;
+        }
+    }
+
+    private static Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /** A call in flight and the number of callers waiting for it. */
+    private static class Flight {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        /** The number of waiting callers; once it drops to zero, the flight is abandoned and cannot be joined. */
+        private final AtomicInteger waiters = new AtomicInteger(1);
+        private volatile Future<?> source;
+
+        boolean tryJoin() {
+            while (true) {
+                final int current = waiters.get();
+                if (current == 0) {
+                    return false;
+                }
+                if (waiters.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        boolean leave() {
+            return waiters.decrementAndGet() == 0;
+        }
+
+        void cancel() {
+            final Future<?> current = source;
+            if (current != null) {
+                current.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.ResponseException;
+
+/**
+ * Thrown when the OMDb API returns a well-formed failure response (e.g., "Movie not found!"). Such failures are
+ * application-level outcomes and are not retried.
+ *
+ * @see com.amilesend.omdb.client.model.FailureResponse
+ */
+public class FailureResponseException extends ResponseException {
+    /**
+     * Creates a new {@code FailureResponseException}.
+     *
+     * @param message the error message returned by the API
+     */
+    public FailureResponseException(final String message) {
+        super(message);
+    }
+}
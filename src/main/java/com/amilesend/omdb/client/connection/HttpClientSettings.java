@@ -0,0 +1,110 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Defines the HTTP client dispatcher, connection pool, and timeout settings. The defaults are sized for concurrent
+ * fan-out against the single OMDb host; OkHttp's own defaults limit asynchronous requests to 5 per host and retain
+ * at most 5 idle connections.
+ *
+ * <p>Example:</p>
+ * <pre>
+ * HttpClientSettings settings = HttpClientSettings.builder()
+ *         .maxRequestsPerHost(32)
+ *         .maxIdleConnections(32)
+ *         .readTimeout(Duration.ofSeconds(10L))
+ *         .build();
+ * </pre>
+ */
+@Builder(toBuilder = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public class HttpClientSettings {
+    /** The default settings. */
+    public static final HttpClientSettings DEFAULT = HttpClientSettings.builder().build();
+
+    /** The maximum number of concurrent asynchronous requests across all hosts. */
+    @Builder.Default
+    private final int maxRequests = 64;
+    /** The maximum number of concurrent asynchronous requests to a single host. */
+    @Builder.Default
+    private final int maxRequestsPerHost = 64;
+    /** The maximum number of idle connections retained in the connection pool. */
+    @Builder.Default
+    private final int maxIdleConnections = 16;
+    /** The duration that an idle connection is kept alive in the connection pool. */
+    @Builder.Default
+    private final Duration keepAlive = Duration.ofMinutes(5L);
+    /** The timeout to establish a connection. */
+    @Builder.Default
+    private final Duration connectTimeout = Duration.ofSeconds(10L);
+    /** The maximum inactivity between reads of the response. */
+    @Builder.Default
+    private final Duration readTimeout = Duration.ofSeconds(30L);
+    /** The maximum inactivity between writes of the request. */
+    @Builder.Default
+    private final Duration writeTimeout = Duration.ofSeconds(10L);
+    /** The timeout for the complete call, or {@link Duration#ZERO} for no timeout. */
+    @Builder.Default
+    private final Duration callTimeout = Duration.ZERO;
+
+    /**
+     * Creates a new {@link OkHttpClient} with these settings.
+     *
+     * @return the HTTP client
+     */
+    public OkHttpClient newHttpClient() {
+        return configure(new OkHttpClient.Builder()).build();
+    }
+
+    /**
+     * Applies these settings to the given HTTP client builder. A new dispatcher and connection pool are created.
+     *
+     * @param builder the HTTP client builder
+     * @return the builder
+     */
+    public OkHttpClient.Builder configure(final OkHttpClient.Builder builder) {
+        Validate.isTrue(maxRequests > 0, "maxRequests must be > 0");
+        Validate.isTrue(maxRequestsPerHost > 0, "maxRequestsPerHost must be > 0");
+        Validate.isTrue(maxIdleConnections >= 0, "maxIdleConnections must be >= 0");
+
+        final Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return builder.dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toNanos(), TimeUnit.NANOSECONDS))
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(writeTimeout)
+                .callTimeout(callTimeout);
+    }
+}
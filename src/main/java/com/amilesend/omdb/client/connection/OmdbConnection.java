@@ -25,19 +25,24 @@ import com.amilesend.client.connection.ResponseParseException;
 import com.amilesend.client.parse.parser.GsonParser;
 import com.amilesend.client.util.VisibleForTesting;
 import com.amilesend.omdb.client.model.FailureResponse;
+import com.amilesend.omdb.client.parse.FieldProjection;
 import com.amilesend.omdb.client.parse.GsonFactory;
+import com.amilesend.omdb.client.parse.ResponseStatusJsonReader;
 import com.google.gson.JsonParseException;
 import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.Request;
 import okhttp3.Response;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The Open Movie Database Connection.
@@ -46,12 +51,14 @@ import java.util.Objects;
  */
 @SuperBuilder
 public class OmdbConnection extends Connection<GsonFactory> {
+    private static final int SERVER_ERROR_CODE = 500;
+
     @Override
     public <T> T execute(@NonNull final Request request, @NonNull final GsonParser<T> parser)
             throws ConnectionException {
         try {
             try (final Response response = super.execute(request)) {
-                final byte[] body = readBody(response.body().byteStream());
+                final byte[] body = response.body().bytes();
                 validateResponseBody(body);
                 return parser.parse(getGsonFactory().getInstance(this), body);
             }
@@ -62,11 +69,175 @@ public class OmdbConnection extends Connection<GsonFactory> {
         }
     }
 
+    /**
+     * Executes the given request and parses the response body into the given return type. The body is streamed
+     * directly from the underlying connection, and the OMDb response status is validated while the body is parsed
+     * so that the response is only read once.
+     *
+     * @param request the request
+     * @param returnType the class type of the response body
+     * @param <T> the response body type
+     * @return the parsed response body
+     * @throws ConnectionException if an error occurred while executing the request or if the response is a failure
+     */
+    public <T> T execute(@NonNull final Request request, @NonNull final Class<T> returnType)
+            throws ConnectionException {
+        return execute(request, returnType, null);
+    }
+
+    /**
+     * Executes the given request and parses the response body into the given return type, only materializing the
+     * top-level fields included in the given projection.
+     *
+     * @param request the request
+     * @param returnType the class type of the response body
+     * @param projection the projection of top-level fields to materialize, or {@code null} for all fields
+     * @param <T> the response body type
+     * @return the parsed response body
+     * @throws ConnectionException if an error occurred while executing the request or if the response is a failure
+     * @see FieldProjection
+     */
+    public <T> T execute(
+            @NonNull final Request request,
+            @NonNull final Class<T> returnType,
+            final FieldProjection projection) throws ConnectionException {
+        try {
+            try (final Response response = super.execute(request)) {
+                return readBody(response, returnType, projection);
+            }
+        } catch (final IOException ex) {
+            throw new RequestException("Unable to execute request: " + ex.getMessage(), ex);
+        } catch (final JsonParseException ex) {
+            throw new ResponseParseException("Error parsing response: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Asynchronously executes the given request and parses the response body into the given return type. The
+     * request is enqueued on the underlying HTTP client's dispatcher so that no calling thread is blocked while the
+     * request is in flight. Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * <p>Note: The configured retry strategy is only applied to synchronous requests.</p>
+     *
+     * @param request the request
+     * @param returnType the class type of the response body
+     * @param <T> the response body type
+     * @return the future that completes with the parsed response body, or exceptionally with a
+     *         {@link ConnectionException} if an error occurred or if the response is a failure
+     */
+    public <T> CompletableFuture<T> executeAsync(@NonNull final Request request, @NonNull final Class<T> returnType) {
+        return executeAsync(request, returnType, null);
+    }
+
+    /**
+     * Asynchronously executes the given request and parses the response body into the given return type, only
+     * materializing the top-level fields included in the given projection.
+     *
+     * @param request the request
+     * @param returnType the class type of the response body
+     * @param projection the projection of top-level fields to materialize, or {@code null} for all fields
+     * @param <T> the response body type
+     * @return the future that completes with the parsed response body, or exceptionally with a
+     *         {@link ConnectionException} if an error occurred or if the response is a failure
+     * @see #executeAsync(Request, Class)
+     * @see FieldProjection
+     */
+    public <T> CompletableFuture<T> executeAsync(
+            @NonNull final Request request,
+            @NonNull final Class<T> returnType,
+            final FieldProjection projection) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Call call = getHttpClient().newCall(request);
+        future.whenComplete((result, ex) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        call.enqueue(new Callback() {
+            @Override
+            public void onFailure(@NonNull final Call call, @NonNull final IOException ex) {
+                future.completeExceptionally(
+                        new RequestException("Unable to execute request: " + ex.getMessage(), ex));
+            }
+
+            @Override
+            public void onResponse(@NonNull final Call call, @NonNull final Response response) {
+                try (response) {
+                    validateResponseCode(response);
+                    future.complete(readBody(response, returnType, projection));
+                } catch (final IOException ex) {
+                    future.completeExceptionally(
+                            new RequestException("Unable to execute request: " + ex.getMessage(), ex));
+                } catch (final JsonParseException ex) {
+                    future.completeExceptionally(
+                            new ResponseParseException("Error parsing response: " + ex.getMessage(), ex));
+                } catch (final RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                }
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Executes the given request and returns the raw response body without building the object model. The body is
+     * validated so that OMDb failure responses (e.g., {@code "Response": "False"}) are still surfaced as exceptions.
+     *
+     * @param request the request
+     * @return the validated response body
+     * @throws ConnectionException if an error occurred while executing the request or if the response is a failure
+     */
+    public byte[] executeRaw(@NonNull final Request request) throws ConnectionException {
+        return execute(request, byte[].class);
+    }
+
+    /**
+     * Asynchronously executes the given request and returns the raw response body without building the object
+     * model. Cancelling the returned future cancels the underlying HTTP call.
+     *
+     * @param request the request
+     * @return the future that completes with the validated response body, or exceptionally with a
+     *         {@link ConnectionException} if an error occurred or if the response is a failure
+     * @see #executeRaw(Request)
+     */
+    public CompletableFuture<byte[]> executeRawAsync(@NonNull final Request request) {
+        return executeAsync(request, byte[].class);
+    }
+
+    /**
+     * Reads the response body as the given return type. A {@code byte[]} return type yields the validated raw body;
+     * all other types are parsed and validated in a single pass.
+     */
+    private <T> T readBody(final Response response, final Class<T> returnType, final FieldProjection projection)
+            throws IOException {
+        if (returnType == byte[].class) {
+            final byte[] body = response.body().bytes();
+            validateResponseBody(body);
+            return returnType.cast(body);
+        }
+
+        return parse(response.body().charStream(), returnType, projection);
+    }
+
+    /**
+     * Parses and validates the response body in a single pass, only materializing the top-level fields included in
+     * the given projection.
+     *
+     * @param bodyReader the response body reader
+     * @param returnType the class type of the response body
+     * @param projection the projection of top-level fields to materialize, or {@code null} for all fields
+     * @param <T> the response body type
+     * @return the parsed response body
+     * @throws IOException if unable to read the response body
+     */
     @VisibleForTesting
-    byte[] readBody(final InputStream compressedBody) throws IOException {
-        try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            compressedBody.transferTo(outputStream);
-            return outputStream.toByteArray();
+    <T> T parse(final Reader bodyReader, final Class<T> returnType, final FieldProjection projection)
+            throws IOException {
+        try (final ResponseStatusJsonReader jsonReader = new ResponseStatusJsonReader(bodyReader, projection)) {
+            final T parsed = getGsonFactory().getInstance(this).fromJson(jsonReader, returnType);
+            validateResponse(jsonReader.getFailureResponse());
+            return parsed;
         }
     }
 
@@ -78,14 +249,35 @@ public class OmdbConnection extends Connection<GsonFactory> {
      */
     @VisibleForTesting
     void validateResponseBody(final byte[] bodyContents) throws IOException {
-        try (final InputStreamReader contentReader = new InputStreamReader(new ByteArrayInputStream(bodyContents))) {
-            final FailureResponse failureResponse = getGsonFactory()
-                    .getInstance(this)
-                    .fromJson(contentReader, FailureResponse.class);
-            final Boolean responseValue = failureResponse.getResponse();
-            if (Objects.isNull(responseValue) || !responseValue.booleanValue()) {
-                throw new ResponseException(failureResponse.getError());
+        try (final ResponseStatusJsonReader jsonReader = new ResponseStatusJsonReader(
+                new InputStreamReader(new ByteArrayInputStream(bodyContents), StandardCharsets.UTF_8))) {
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                jsonReader.nextName();
+                jsonReader.skipValue();
             }
+            jsonReader.endObject();
+            validateResponse(jsonReader.getFailureResponse());
+        }
+    }
+
+    private static void validateResponseCode(final Response response) {
+        if (response.isSuccessful()) {
+            return;
+        }
+
+        final int code = response.code();
+        if (code >= SERVER_ERROR_CODE) {
+            throw new ResponseException("Error with service response: " + code);
+        }
+
+        throw new RequestException("Error with request: " + code, null);
+    }
+
+    private static void validateResponse(final FailureResponse failureResponse) {
+        final Boolean responseValue = failureResponse.getResponse();
+        if (Objects.isNull(responseValue) || !responseValue.booleanValue()) {
+            throw new FailureResponseException(failureResponse.getError());
         }
     }
 }
@@ -19,6 +19,7 @@ package com.amilesend.omdb.client.connection;
 
 import com.amilesend.client.connection.ConnectionBuilder;
 import com.amilesend.omdb.client.parse.GsonFactory;
+import lombok.NonNull;
 
 /**
  * Builder used to construct new {@link OmdbConnection} objects.
@@ -26,6 +27,18 @@ import com.amilesend.omdb.client.parse.GsonFactory;
  * @see OmdbConnection
  */
 public class OmdbConnectionBuilder extends ConnectionBuilder<OmdbConnectionBuilder, GsonFactory, OmdbConnection> {
+    /**
+     * Sets the HTTP client to a new client configured with the given dispatcher, connection pool, and timeout
+     * settings.
+     *
+     * @param settings the HTTP client settings
+     * @return this builder
+     * @see HttpClientSettings
+     */
+    public OmdbConnectionBuilder httpClientSettings(@NonNull final HttpClientSettings settings) {
+        return httpClient(settings.newHttpClient());
+    }
+
     @Override
     public OmdbConnection build() {
         validateAttributes();
@@ -0,0 +1,270 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.ConnectionException;
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.NonNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Retries transient OMDb request failures with exponential backoff and decorrelated jitter, limited by a retry
+ * budget.
+ *
+ * <p>Only transient failures are retried: I/O errors (e.g., connection resets and timeouts) and server errors.
+ * Application-level failures such as "Movie not found!" or "Request limit reached!" (see
+ * {@link FailureResponseException}), client errors, and parse errors are not retried.</p>
+ *
+ * <p>The retry budget caps retries as a ratio of the requests issued so that retries cannot amplify an outage:
+ * each request deposits {@code retryBudgetRatio} tokens, each retry withdraws one token, and a retry is only
+ * attempted if a token is available. The budget starts with, and is capped at, {@code minRetryTokens} plus the
+ * deposits of the most recent requests, which allows low-traffic clients to retry.</p>
+ *
+ * <p>Retries are opt-in and are configured on the client so that every attempt acquires its own rate limit
+ * permit:</p>
+ * <pre>
+ * OMDb client = OMDb.builder()
+ *         .apiKey("MyApiKey")
+ *         .rateLimiter(rateLimiter)
+ *         .retryPolicy(OmdbRetryPolicy.builder().build())
+ *         .build();
+ * </pre>
+ */
+public class OmdbRetryPolicy {
+    private static final long MILLI_TOKENS_PER_TOKEN = 1000L;
+    private static final int DEFAULT_MAX_ATTEMPTS = 3;
+    private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100L);
+    private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(5L);
+    private static final double DEFAULT_RETRY_BUDGET_RATIO = 0.1D;
+    private static final int DEFAULT_MIN_RETRY_TOKENS = 10;
+    /** The number of requests whose deposits may accumulate in the budget. */
+    private static final int BUDGET_WINDOW_REQUESTS = 1000;
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long depositMilliTokens;
+    private final long maxBalanceMilliTokens;
+    /** The retry budget balance in thousandths of a token. */
+    private final AtomicLong balanceMilliTokens;
+
+    /**
+     * Creates a new {@code OmdbRetryPolicy}.
+     *
+     * @param maxAttempts the maximum number of attempts per request, including the first (defaults to 3)
+     * @param baseDelay the minimum delay between attempts (defaults to 100 milliseconds)
+     * @param maxDelay the maximum delay between attempts (defaults to 5 seconds)
+     * @param retryBudgetRatio the maximum ratio of retries to requests (defaults to 0.1)
+     * @param minRetryTokens the number of retries permitted regardless of traffic (defaults to 10)
+     */
+    @Builder
+    private OmdbRetryPolicy(
+            final Integer maxAttempts,
+            final Duration baseDelay,
+            final Duration maxDelay,
+            final Double retryBudgetRatio,
+            final Integer minRetryTokens) {
+        this.maxAttempts = Objects.requireNonNullElse(maxAttempts, DEFAULT_MAX_ATTEMPTS);
+        this.baseDelayNanos = Objects.requireNonNullElse(baseDelay, DEFAULT_BASE_DELAY).toNanos();
+        this.maxDelayNanos = Objects.requireNonNullElse(maxDelay, DEFAULT_MAX_DELAY).toNanos();
+        final double ratio = Objects.requireNonNullElse(retryBudgetRatio, DEFAULT_RETRY_BUDGET_RATIO);
+        final int reserve = Objects.requireNonNullElse(minRetryTokens, DEFAULT_MIN_RETRY_TOKENS);
+
+        Validate.isTrue(this.maxAttempts >= 1, "maxAttempts must be >= 1");
+        Validate.isTrue(baseDelayNanos > 0L, "baseDelay must be positive");
+        Validate.isTrue(maxDelayNanos >= baseDelayNanos, "maxDelay must be >= baseDelay");
+        Validate.isTrue(ratio >= 0.0D, "retryBudgetRatio must be >= 0");
+        Validate.isTrue(reserve >= 0, "minRetryTokens must be >= 0");
+
+        this.depositMilliTokens = Math.round(ratio * MILLI_TOKENS_PER_TOKEN);
+        final long reserveMilliTokens = reserve * MILLI_TOKENS_PER_TOKEN;
+        this.maxBalanceMilliTokens = reserveMilliTokens + depositMilliTokens * BUDGET_WINDOW_REQUESTS;
+        this.balanceMilliTokens = new AtomicLong(reserveMilliTokens);
+    }
+
+    /**
+     * Executes the given call, retrying transient failures.
+     *
+     * @param call the call
+     * @param <T> the result type
+     * @return the result
+     * @throws ConnectionException the last failure if the call cannot be retried
+     */
+    public <T> T execute(@NonNull final Supplier<T> call) {
+        deposit();
+        long delayNanos = baseDelayNanos;
+        for (int attempt = 1; ; ++attempt) {
+            try {
+                return call.get();
+            } catch (final ConnectionException ex) {
+                if (!shouldRetry(attempt, ex)) {
+                    throw ex;
+                }
+
+                delayNanos = nextDelayNanos(delayNanos);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(delayNanos);
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Asynchronously executes the given call, retrying transient failures without blocking a thread between
+     * attempts. Cancelling the returned future cancels the attempt in flight and any further retries.
+     *
+     * @param call the call
+     * @param <T> the result type
+     * @return the future that completes with the result, or exceptionally with the last failure
+     */
+    public <T> CompletableFuture<T> executeAsync(@NonNull final Supplier<CompletableFuture<T>> call) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicReference<CompletableFuture<T>> current = new AtomicReference<>();
+        result.whenComplete((value, ex) -> {
+            final CompletableFuture<T> attempt = current.get();
+            if (result.isCancelled() && attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+
+        deposit();
+        attemptAsync(call, result, current, 1, baseDelayNanos);
+        return result;
+    }
+
+    /**
+     * Determines if the given failure is transient and can be retried.
+     *
+     * @param failure the failure
+     * @return {@code true} if the failure can be retried; else, {@code false}
+     */
+    public boolean isRetryable(final Throwable failure) {
+        if (failure instanceof FailureResponseException) {
+            return false;
+        }
+
+        if (failure instanceof ResponseException) {
+            // Server errors
+            return true;
+        }
+
+        // Client errors are request exceptions without an I/O cause
+        return failure instanceof RequestException && failure.getCause() instanceof IOException;
+    }
+
+    /**
+     * Gets the number of retries currently permitted by the retry budget.
+     *
+     * @return the available number of retries
+     */
+    public long getAvailableRetries() {
+        return balanceMilliTokens.get() / MILLI_TOKENS_PER_TOKEN;
+    }
+
+    private <T> void attemptAsync(
+            final Supplier<CompletableFuture<T>> call,
+            final CompletableFuture<T> result,
+            final AtomicReference<CompletableFuture<T>> current,
+            final int attempt,
+            final long previousDelayNanos) {
+        if (result.isDone()) {
+            return;
+        }
+
+        CompletableFuture<T> attemptFuture;
+        try {
+            attemptFuture = call.get();
+        } catch (final RuntimeException ex) {
+            attemptFuture = CompletableFuture.failedFuture(ex);
+        }
+
+        current.set(attemptFuture);
+        if (result.isCancelled()) {
+            attemptFuture.cancel(true);
+            return;
+        }
+
+        attemptFuture.whenComplete((value, ex) -> {
+            if (ex == null) {
+                result.complete(value);
+                return;
+            }
+
+            final Throwable failure = unwrap(ex);
+            if (!shouldRetry(attempt, failure)) {
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            final long delayNanos = nextDelayNanos(previousDelayNanos);
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> attemptAsync(call, result, current, attempt + 1, delayNanos));
+        });
+    }
+
+    private boolean shouldRetry(final int attempt, final Throwable failure) {
+        return attempt < maxAttempts && isRetryable(failure) && tryWithdraw();
+    }
+
+    /** Decorrelated jitter: a random delay between the base delay and three times the previous delay. */
+    private long nextDelayNanos(final long previousDelayNanos) {
+        final long upperBound = Math.min(maxDelayNanos, Math.max(baseDelayNanos, previousDelayNanos) * 3L);
+        if (upperBound <= baseDelayNanos) {
+            return baseDelayNanos;
+        }
+
+        return ThreadLocalRandom.current().nextLong(baseDelayNanos, upperBound + 1L);
+    }
+
+    private void deposit() {
+        balanceMilliTokens.accumulateAndGet(depositMilliTokens,
+                (balance, deposit) -> Math.min(maxBalanceMilliTokens, balance + deposit));
+    }
+
+    private boolean tryWithdraw() {
+        while (true) {
+            final long balance = balanceMilliTokens.get();
+            if (balance < MILLI_TOKENS_PER_TOKEN) {
+                return false;
+            }
+            if (balanceMilliTokens.compareAndSet(balance, balance - MILLI_TOKENS_PER_TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private static Throwable unwrap(final Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import lombok.NonNull;
+import okhttp3.HttpUrl;
+
+/**
+ * Builds request URLs from an immutable prefix that is computed once per client. The prefix contains the base URL,
+ * the API key, and the JSON response type, so each request only appends (and encodes once) its own query
+ * parameters to a copy of the already-parsed prefix.
+ */
+public class RequestUrlTemplate {
+    /** The API key query parameter name. */
+    public static final String API_KEY_PARAMETER = "apikey";
+    /** The response type query parameter name. */
+    public static final String RESPONSE_TYPE_PARAMETER = "r";
+
+    private final HttpUrl prefix;
+    /** The length of the prefix's encoded query, used to extract the request-specific query from a URL. */
+    private final int prefixQueryLength;
+
+    /**
+     * Creates a new {@code RequestUrlTemplate}.
+     *
+     * @param baseUrl the base URL
+     * @param apiKey the API key
+     */
+    public RequestUrlTemplate(@NonNull final String baseUrl, final String apiKey) {
+        Validate.notBlank(apiKey, "apiKey must not be blank");
+
+        this.prefix = HttpUrl.get(baseUrl)
+                .newBuilder()
+                .addQueryParameter(API_KEY_PARAMETER, apiKey)
+                .addQueryParameter(RESPONSE_TYPE_PARAMETER, QueryParameterBasedRequest.JSON_RESPONSE_TYPE)
+                .build();
+        this.prefixQueryLength = prefix.encodedQuery().length();
+    }
+
+    /**
+     * Builds the URL for the given request.
+     *
+     * @param request the request
+     * @return the URL
+     */
+    public HttpUrl newUrl(@NonNull final QueryParameterBasedRequest request) {
+        return request.populateQueryParameters(prefix.newBuilder()).build();
+    }
+
+    /**
+     * Gets the request-specific portion of the encoded query for a URL built by this template. The key excludes the
+     * API key and identifies equivalent requests.
+     *
+     * @param url the URL built by this template
+     * @return the request key
+     */
+    public String toRequestKey(@NonNull final HttpUrl url) {
+        final String query = url.encodedQuery();
+        return query == null || query.length() <= prefixQueryLength
+                ? ""
+                : query.substring(prefixQueryLength + 1);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * A snapshot of the progress of a series crawl.
+ *
+ * @see SeriesCrawler
+ * @see CrawlProgressListener
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CrawlProgress {
+    /** The IMDB identifier of the series being crawled. */
+    private final String seriesImdbId;
+    /** The total number of seasons to fetch. */
+    private final int totalSeasons;
+    /** The number of seasons that have been fetched or have failed. */
+    private final int completedSeasons;
+    /** The number of episodes to fetch that are known so far. This grows as seasons are fetched. */
+    private final int totalEpisodes;
+    /** The number of episodes that have been fetched or have failed. */
+    private final int completedEpisodes;
+    /** The number of seasons and episodes that have failed. */
+    private final int failures;
+
+    /**
+     * Determines if every season and episode has been fetched or has failed.
+     *
+     * @return {@code true} if the crawl is done; else, {@code false}
+     */
+    public boolean isDone() {
+        return completedSeasons == totalSeasons && completedEpisodes == totalEpisodes;
+    }
+}
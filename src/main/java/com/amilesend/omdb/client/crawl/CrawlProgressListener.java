@@ -0,0 +1,34 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+/**
+ * Receives progress updates for a series crawl. Updates are delivered on the threads that complete the underlying
+ * requests, so implementations must be thread-safe and should not block.
+ *
+ * @see SeriesCrawler
+ */
+@FunctionalInterface
+public interface CrawlProgressListener {
+    /**
+     * Invoked after the series, a season, or an episode has been fetched or has failed.
+     *
+     * @param progress the progress snapshot
+     */
+    void onProgress(CrawlProgress progress);
+}
@@ -0,0 +1,70 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes a crawled season along with the results of its episode lookups. A season that could not be fetched
+ * holds the error that caused it to fail and has no episodes.
+ *
+ * @see CrawledSeries
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CrawledSeason {
+    /** The season number. */
+    private final int number;
+    /** The season, or {@code null} if it could not be fetched. */
+    private final Season season;
+    /** The error that caused the season to fail, or {@code null} if the season was fetched. */
+    private final Throwable error;
+    /** The episode lookup results in episode order. */
+    private final List<BulkResult<Episode>> episodes;
+
+    /**
+     * Gets the episode lookup results in episode order.
+     *
+     * @return the episode lookup results
+     */
+    public List<BulkResult<Episode>> getEpisodes() {
+        return Collections.unmodifiableList(Optional.ofNullable(episodes).orElse(Collections.emptyList()));
+    }
+
+    /**
+     * Determines if the season and all of its episodes were fetched.
+     *
+     * @return {@code true} if the season is complete; else, {@code false}
+     */
+    public boolean isComplete() {
+        return Objects.isNull(error) && getEpisodes().stream().allMatch(BulkResult::isSuccess);
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+import com.amilesend.omdb.client.model.tv.type.Series;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Describes a fully assembled series tree of seasons and episodes. Seasons and episodes that could not be fetched
+ * are returned as failed entries so that a partial crawl is still usable.
+ *
+ * @see SeriesCrawler
+ * @see CrawledSeason
+ */
+@Builder
+@Getter
+@EqualsAndHashCode
+@ToString
+public class CrawledSeries {
+    /** The series. */
+    private final Series series;
+    /** The crawled seasons in season order. */
+    private final List<CrawledSeason> seasons;
+
+    /**
+     * Gets the crawled seasons in season order.
+     *
+     * @return the crawled seasons
+     */
+    public List<CrawledSeason> getSeasons() {
+        return Collections.unmodifiableList(Optional.ofNullable(seasons).orElse(Collections.emptyList()));
+    }
+
+    /**
+     * Determines if every season and episode was fetched.
+     *
+     * @return {@code true} if the crawl is complete; else, {@code false}
+     */
+    public boolean isComplete() {
+        return getSeasons().stream().allMatch(CrawledSeason::isComplete);
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.OMDb;
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.tv.GetEpisodeByIdRequest;
+import com.amilesend.omdb.client.model.tv.GetSeasonByIdRequest;
+import com.amilesend.omdb.client.model.tv.GetSeriesBasedRequest;
+import com.amilesend.omdb.client.model.tv.GetSeriesByIdRequest;
+import com.amilesend.omdb.client.model.tv.GetSeriesByTitleRequest;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.amilesend.omdb.client.model.tv.type.SeasonEpisode;
+import com.amilesend.omdb.client.model.tv.type.Series;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Crawls a complete TV series into a tree of seasons and episodes. The series is fetched first to determine its
+ * number of seasons, every season is then fetched in parallel, and the episode lookups are fanned out with up to
+ * {@code maxConcurrency} lookups in flight at once. All requests go through the client, so its response cache, rate
+ * limiter, and retry policy apply.
+ *
+ * <p>Seasons and episodes that fail are returned as failed entries in the assembled tree rather than failing the
+ * crawl, and progress is reported to an optional {@link CrawlProgressListener}. Only a failure to fetch the series
+ * itself fails the crawl.</p>
+ *
+ * <p>Example:</p>
+ * <pre>
+ * SeriesCrawler crawler = SeriesCrawler.builder()
+ *         .client(client)
+ *         .maxConcurrency(16)
+ *         .progressListener(p -&gt; log.info("{}/{} episodes", p.getCompletedEpisodes(), p.getTotalEpisodes()))
+ *         .build();
+ * CrawledSeries gameOfThrones = crawler.crawl(GetSeriesByIdRequest.builder().imdbId("tt0944947").build());
+ * </pre>
+ *
+ * @see CrawledSeries
+ */
+@Slf4j
+public class SeriesCrawler {
+    /** The default maximum number of episode lookups in flight at once. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+
+    private final OMDb client;
+    private final int maxConcurrency;
+    private final CrawlProgressListener progressListener;
+
+    /**
+     * Creates a new {@code SeriesCrawler}.
+     *
+     * @param client the client used to fetch the series, seasons, and episodes
+     * @param maxConcurrency the maximum number of episode lookups in flight at once, or {@code null} to use
+     *                       {@link #DEFAULT_MAX_CONCURRENCY}
+     * @param progressListener the optional progress listener
+     */
+    @Builder
+    private SeriesCrawler(
+            @NonNull final OMDb client,
+            final Integer maxConcurrency,
+            final CrawlProgressListener progressListener) {
+        this.client = client;
+        this.maxConcurrency = Optional.ofNullable(maxConcurrency).orElse(DEFAULT_MAX_CONCURRENCY);
+        this.progressListener = progressListener;
+
+        Validate.isTrue(this.maxConcurrency > 0, "maxConcurrency must be > 0");
+    }
+
+    /**
+     * Crawls the series for a request by either its title or IMDB identifier.
+     *
+     * @param request the series request
+     * @return the assembled series tree
+     * @see GetSeriesByIdRequest
+     * @see GetSeriesByTitleRequest
+     */
+    public CrawledSeries crawl(@NonNull final GetSeriesBasedRequest request) {
+        try {
+            return crawlAsync(request).join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+
+            throw ex;
+        }
+    }
+
+    /**
+     * Asynchronously crawls the series for a request by either its title or IMDB identifier.
+     *
+     * @param request the series request
+     * @return the future that completes with the assembled series tree, or exceptionally if the series could not be
+     *         fetched
+     */
+    public CompletableFuture<CrawledSeries> crawlAsync(@NonNull final GetSeriesBasedRequest request) {
+        return client.getSeriesAsync(request).thenCompose(series -> new Crawl(series).start());
+    }
+
+    /** The state of a single crawl. */
+    private class Crawl {
+        private final Series series;
+        private final int totalSeasons;
+        /** The episode requests for each fetched season, in episode order. */
+        private final Map<Integer, List<GetEpisodeByIdRequest>> episodeRequests = new ConcurrentHashMap<>();
+        private final AtomicInteger completedSeasons = new AtomicInteger();
+        private final AtomicInteger totalEpisodes = new AtomicInteger();
+        private final AtomicInteger completedEpisodes = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        Crawl(final Series series) {
+            this.series = series;
+            this.totalSeasons = Optional.ofNullable(series.getTotalSeasons()).orElse(0);
+        }
+
+        CompletableFuture<CrawledSeries> start() {
+            publishProgress();
+            final List<CompletableFuture<CrawledSeason>> seasons = IntStream.rangeClosed(1, totalSeasons)
+                    .mapToObj(this::fetchSeason)
+                    .collect(Collectors.toList());
+            return CompletableFuture.allOf(seasons.toArray(new CompletableFuture[0]))
+                    .thenCompose(ignored -> fetchEpisodes(seasons.stream()
+                            .map(CompletableFuture::join)
+                            .collect(Collectors.toList())));
+        }
+
+        private CompletableFuture<CrawledSeason> fetchSeason(final int number) {
+            CompletableFuture<Season> future;
+            try {
+                future = client.getSeasonAsync(GetSeasonByIdRequest.builder()
+                        .imdbId(series.getImdbId())
+                        .season(number)
+                        .build());
+            } catch (final RuntimeException ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+
+            return future.handle((season, ex) -> {
+                final CrawledSeason.CrawledSeasonBuilder builder = CrawledSeason.builder().number(number);
+                if (ex != null) {
+                    failures.incrementAndGet();
+                    builder.error(BulkExecutor.unwrap(ex));
+                } else {
+                    final List<GetEpisodeByIdRequest> requests = toEpisodeRequests(number, season);
+                    episodeRequests.put(number, requests);
+                    totalEpisodes.addAndGet(requests.size());
+                    builder.season(season);
+                }
+
+                completedSeasons.incrementAndGet();
+                publishProgress();
+                return builder.build();
+            });
+        }
+
+        private CompletableFuture<CrawledSeries> fetchEpisodes(final List<CrawledSeason> seasons) {
+            final List<GetEpisodeByIdRequest> requests = seasons.stream()
+                    .map(s -> episodeRequests.getOrDefault(s.getNumber(), Collections.emptyList()))
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+            return BulkExecutor.executeAll(requests, maxConcurrency, this::fetchEpisode)
+                    .thenApply(results -> assemble(seasons, results));
+        }
+
+        private CompletableFuture<Episode> fetchEpisode(final GetEpisodeByIdRequest request) {
+            return client.getEpisodeAsync(request).whenComplete((episode, ex) -> {
+                if (ex != null) {
+                    failures.incrementAndGet();
+                }
+
+                completedEpisodes.incrementAndGet();
+                publishProgress();
+            });
+        }
+
+        /** Assigns the episode results, which are in season and episode order, back to their seasons. */
+        private CrawledSeries assemble(
+                final List<CrawledSeason> seasons,
+                final List<BulkResult<Episode>> results) {
+            final List<CrawledSeason> assembled = new ArrayList<>(seasons.size());
+            int index = 0;
+            for (final CrawledSeason season : seasons) {
+                final int numEpisodes =
+                        episodeRequests.getOrDefault(season.getNumber(), Collections.emptyList()).size();
+                assembled.add(CrawledSeason.builder()
+                        .number(season.getNumber())
+                        .season(season.getSeason())
+                        .error(season.getError())
+                        .episodes(results.subList(index, index + numEpisodes))
+                        .build());
+                index += numEpisodes;
+            }
+
+            return CrawledSeries.builder()
+                    .series(series)
+                    .seasons(assembled)
+                    .build();
+        }
+
+        private List<GetEpisodeByIdRequest> toEpisodeRequests(final int seasonNumber, final Season season) {
+            final Set<GetEpisodeByIdRequest> requests = new LinkedHashSet<>();
+            for (final SeasonEpisode episode : season.getEpisodes()) {
+                final Integer episodeNumber = episode.getEpisode();
+                if (Objects.nonNull(episodeNumber)) {
+                    requests.add(GetEpisodeByIdRequest.builder()
+                            .imdbId(series.getImdbId())
+                            .season(seasonNumber)
+                            .episode(episodeNumber)
+                            .build());
+                }
+            }
+
+            return new ArrayList<>(requests);
+        }
+
+        private void publishProgress() {
+            if (progressListener == null) {
+                return;
+            }
+
+            try {
+                progressListener.onProgress(CrawlProgress.builder()
+                        .seriesImdbId(series.getImdbId())
+                        .totalSeasons(totalSeasons)
+                        .completedSeasons(completedSeasons.get())
+                        .totalEpisodes(totalEpisodes.get())
+                        .completedEpisodes(completedEpisodes.get())
+                        .failures(failures.get())
+                        .build());
+            } catch (final RuntimeException ex) {
+                log.warn("Progress listener failed for series {}", series.getImdbId(), ex);
+            }
+        }
+    }
+}
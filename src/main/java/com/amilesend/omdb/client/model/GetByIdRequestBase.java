@@ -24,9 +24,6 @@ import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotNull;
 
@@ -54,6 +51,6 @@ public abstract class GetByIdRequestBase implements QueryParameterBasedRequest {
         appendIfNotBlank(urlBuilder, "i", imdbId);
         appendIfNotNull(urlBuilder, "plot", plot);
 
-        return urlBuilder.addQueryParameter("r", URLEncoder.encode(JSON_RESPONSE_TYPE, StandardCharsets.UTF_8));
+        return urlBuilder;
     }
 }
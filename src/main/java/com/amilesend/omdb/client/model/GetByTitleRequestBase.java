@@ -24,9 +24,6 @@ import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotNull;
 
@@ -58,6 +55,6 @@ public abstract class GetByTitleRequestBase implements QueryParameterBasedReques
         appendIfNotNull(urlBuilder, "y", year);
         appendIfNotNull(urlBuilder, "plot", plot);
 
-        return urlBuilder.addQueryParameter("r", URLEncoder.encode(JSON_RESPONSE_TYPE, StandardCharsets.UTF_8));
+        return urlBuilder;
     }
 }
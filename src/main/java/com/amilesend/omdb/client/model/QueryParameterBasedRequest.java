@@ -20,8 +20,6 @@ package com.amilesend.omdb.client.model;
 import com.amilesend.client.util.StringUtils;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 /** Defines a request that contain parameters to be constructed as query parameters in an HTTP request. */
@@ -52,7 +50,7 @@ public interface QueryParameterBasedRequest {
             return urlBuilder;
         }
 
-        return urlBuilder.addQueryParameter(name, URLEncoder.encode(value.toString(), StandardCharsets.UTF_8));
+        return urlBuilder.addQueryParameter(name, value.toString());
     }
 
     /**
@@ -68,7 +66,7 @@ public interface QueryParameterBasedRequest {
             final String name,
             final String value) {
         if (StringUtils.isNotBlank(value)) {
-            urlBuilder.addQueryParameter(name, URLEncoder.encode(value, StandardCharsets.UTF_8));
+            urlBuilder.addQueryParameter(name, value);
         }
 
         return urlBuilder;
@@ -23,9 +23,6 @@ import lombok.NonNull;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotBlank;
 import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendIfNotNull;
 
@@ -34,7 +31,7 @@ import static com.amilesend.omdb.client.model.QueryParameterBasedRequest.appendI
  *
  * @see QueryParameterBasedRequest
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @Data
 public class SearchRequestBase implements QueryParameterBasedRequest {
     /** The title of the content to search for. */
@@ -54,6 +51,6 @@ public class SearchRequestBase implements QueryParameterBasedRequest {
         appendIfNotNull(urlBuilder, "y", year);
         appendIfNotNull(urlBuilder, "page", page);
 
-        return urlBuilder.addQueryParameter("r", URLEncoder.encode(JSON_RESPONSE_TYPE, StandardCharsets.UTF_8));
+        return urlBuilder;
     }
 }
@@ -25,9 +25,6 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * The request to fetch movie information by its associates IMDB identifier.
  *
@@ -41,6 +38,6 @@ public class GetMovieByIdRequest extends GetByIdRequestBase implements GetMovieB
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull final HttpUrl.Builder urlBuilder) {
         return super.populateQueryParameters(urlBuilder)
-                .addQueryParameter("type", URLEncoder.encode(MediaType.MOVIE.getValue(), StandardCharsets.UTF_8));
+                .addQueryParameter("type", MediaType.MOVIE.getValue());
     }
 }
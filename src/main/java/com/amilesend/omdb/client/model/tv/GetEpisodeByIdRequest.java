@@ -27,9 +27,6 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * The request to fetch TV episode information by its associates IMDB identifier.
  *
@@ -52,10 +49,8 @@ public class GetEpisodeByIdRequest extends GetByIdRequestBase implements GetEpis
         Validate.isTrue( episode >= 0, "episode must be >= 0");
 
         return super.populateQueryParameters(urlBuilder)
-                .addQueryParameter("type", URLEncoder.encode(
-                        MediaType.EPISODE.getValue(),
-                        StandardCharsets.UTF_8))
-                .addQueryParameter("Season", URLEncoder.encode(String.valueOf(season), StandardCharsets.UTF_8))
-                .addQueryParameter("Episode", URLEncoder.encode(String.valueOf(episode), StandardCharsets.UTF_8));
+                .addQueryParameter("type", MediaType.EPISODE.getValue())
+                .addQueryParameter("Season", String.valueOf(season))
+                .addQueryParameter("Episode", String.valueOf(episode));
     }
 }
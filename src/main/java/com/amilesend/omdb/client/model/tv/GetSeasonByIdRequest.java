@@ -27,9 +27,6 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * The request to fetch TV season information by its associates IMDB identifier.
  *
@@ -49,9 +46,7 @@ public class GetSeasonByIdRequest extends GetByIdRequestBase implements GetSeaso
         Validate.isTrue(season > 0, "season must be > 0");
 
         return super.populateQueryParameters(urlBuilder)
-                .addQueryParameter("type", URLEncoder.encode(
-                        MediaType.SERIES.getValue(),
-                        StandardCharsets.UTF_8))
-                .addQueryParameter("Season", URLEncoder.encode(String.valueOf(season), StandardCharsets.UTF_8));
+                .addQueryParameter("type", MediaType.SERIES.getValue())
+                .addQueryParameter("Season", String.valueOf(season));
     }
 }
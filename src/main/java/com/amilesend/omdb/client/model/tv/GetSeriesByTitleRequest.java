@@ -25,9 +25,6 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * The request to fetch TV series information by its series name.
  *
@@ -41,8 +38,6 @@ public class GetSeriesByTitleRequest extends GetByTitleRequestBase implements Ge
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull final HttpUrl.Builder urlBuilder) {
         return super.populateQueryParameters(urlBuilder)
-                .addQueryParameter("type", URLEncoder.encode(
-                        MediaType.SERIES.getValue(),
-                        StandardCharsets.UTF_8));
+                .addQueryParameter("type", MediaType.SERIES.getValue());
     }
 }
@@ -25,23 +25,18 @@ import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import okhttp3.HttpUrl;
 
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
 /**
  * Defines the request to search for TV series.
  *
  * @see SearchRequestBase
  */
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
 public class SearchSeriesRequest extends SearchRequestBase {
     @Override
     public HttpUrl.Builder populateQueryParameters(@NonNull final HttpUrl.Builder urlBuilder) {
         return super.populateQueryParameters(urlBuilder)
-                .addQueryParameter("type", URLEncoder.encode(
-                        MediaType.SERIES.getValue(),
-                        StandardCharsets.UTF_8));
+                .addQueryParameter("type", MediaType.SERIES.getValue());
     }
 }
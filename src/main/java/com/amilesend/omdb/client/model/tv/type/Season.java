@@ -74,6 +74,6 @@ public class Season {
      * @return the list of episodes
      */
     public List<SeasonEpisode> getEpisodes() {
-        return Collections.unmodifiableList(episodes);
+        return Collections.unmodifiableList(Optional.ofNullable(episodes).orElse(Collections.emptyList()));
     }
 }
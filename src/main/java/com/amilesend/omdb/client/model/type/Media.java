@@ -0,0 +1,164 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.model.type;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Defines the common accessors for media (i.e., movie, TV series, TV episode) so that alternative representations
+ * can be used interchangeably.
+ *
+ * @see MediaBase
+ * @see RawMedia
+ */
+public interface Media {
+    /**
+     * Gets the title.
+     *
+     * @return the title
+     */
+    String getTitle();
+
+    /**
+     * Gets the year of release.
+     *
+     * @return the year of release
+     */
+    String getYear();
+
+    /**
+     * Gets the associated rating.
+     *
+     * @return the rating
+     */
+    String getRated();
+
+    /**
+     * Gets the date of release.
+     *
+     * @return the date of release
+     */
+    LocalDate getReleased();
+
+    /**
+     * Gets the runtime.
+     *
+     * @return the runtime
+     */
+    String getRuntime();
+
+    /**
+     * Gets the plot description.
+     *
+     * @return the plot description
+     */
+    String getPlot();
+
+    /**
+     * Gets the description of received awards.
+     *
+     * @return the awards description
+     */
+    String getAwards();
+
+    /**
+     * Gets the URL of the poster image.
+     *
+     * @return the poster URL
+     */
+    String getPoster();
+
+    /**
+     * Gets the metacritic score.
+     *
+     * @return the metacritic score
+     */
+    String getMetascore();
+
+    /**
+     * Gets the IMDB identifier.
+     *
+     * @return the IMDB identifier
+     */
+    String getImdbId();
+
+    /**
+     * Gets the list of ratings.
+     *
+     * @return the list of ratings
+     * @see Rating
+     */
+    List<Rating> getRatings();
+
+    /**
+     * Gets the IMDB rating.
+     *
+     * @return the rating
+     */
+    Double getImdbRating();
+
+    /**
+     * Gets the IMDB votes associated with the rating.
+     *
+     * @return the number of votes
+     */
+    Integer getImdbVotes();
+
+    /**
+     * Gets the list of genres.
+     *
+     * @return the list of genres
+     */
+    List<String> getGenres();
+
+    /**
+     * Gets the list of directors.
+     *
+     * @return the list of directors
+     */
+    List<String> getDirectors();
+
+    /**
+     * Gets the list of credited writers.
+     *
+     * @return the list of writers
+     */
+    List<String> getWriters();
+
+    /**
+     * Gets the list of credited actors.
+     *
+     * @return the list of actors
+     */
+    List<String> getActors();
+
+    /**
+     * Gets the list of languages.
+     *
+     * @return the list of languages
+     */
+    List<String> getLanguages();
+
+    /**
+     * Gets the list of countries.
+     *
+     * @return the list of countries
+     */
+    List<String> getCountries();
+}
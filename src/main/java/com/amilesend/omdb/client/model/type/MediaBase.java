@@ -28,6 +28,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static com.amilesend.omdb.client.model.type.TypeHelper.STRING_LIST_DELIMITER;
 import static com.amilesend.omdb.client.model.type.TypeHelper.parseCommonDelimitedList;
@@ -36,7 +37,7 @@ import static com.amilesend.omdb.client.model.type.TypeHelper.parseCommonDelimit
 @SuperBuilder
 @EqualsAndHashCode
 @ToString
-public abstract class MediaBase {
+public abstract class MediaBase implements Media {
     /** The movie title. */
     @Getter
     private final String title;
@@ -92,6 +93,12 @@ public abstract class MediaBase {
     @Getter
     @SerializedName("imdbID")
     private final String imdbId;
+    /**
+     * The attribute values decoded from their string representations on first access. This is {@code null} for
+     * instances that are allocated without running field initializers (e.g., a reflection-based Gson instance).
+     */
+    @ToString.Exclude
+    private final transient AtomicReference<DecodedAttributes> decodedAttributes = new AtomicReference<>();
 
     /**
      * Gets the list of ratings.
@@ -99,6 +106,7 @@ public abstract class MediaBase {
      * @return the list of ratings
      * @see Rating
      */
+    @Override
     public List<Rating> getRatings() {
         return Optional.ofNullable(ratings)
                 .map(Collections::unmodifiableList)
@@ -110,11 +118,10 @@ public abstract class MediaBase {
      *
      * @return the rating
      */
+    @Override
     public Double getImdbRating() {
-        return Optional.ofNullable(imdbRating)
-                .filter(StringUtils::isNotBlank)
-                .map(Double::parseDouble)
-                .orElse(null);
+        final DecodedAttributes decoded = getDecodedAttributes();
+        return decoded.isImdbRatingDecoded ? decoded.imdbRating : parseImdbRating(imdbRating);
     }
 
     /**
@@ -122,12 +129,10 @@ public abstract class MediaBase {
      *
      * @return the number of votes
      */
+    @Override
     public Integer getImdbVotes() {
-        return Optional.ofNullable(imdbVotes)
-                .filter(StringUtils::isNotBlank)
-                .map(v -> v.replaceAll(STRING_LIST_DELIMITER, StringUtils.EMPTY))
-                .map(Integer::parseInt)
-                .orElse(null);
+        final DecodedAttributes decoded = getDecodedAttributes();
+        return decoded.isImdbVotesDecoded ? decoded.imdbVotes : parseImdbVotes(imdbVotes);
     }
 
     /**
@@ -135,8 +140,9 @@ public abstract class MediaBase {
      *
      * @return the list of genres
      */
+    @Override
     public List<String> getGenres() {
-        return parseCommonDelimitedList(genre);
+        return getDecodedAttributes().genres;
     }
 
     /**
@@ -144,8 +150,9 @@ public abstract class MediaBase {
      *
      * @return the list of directors
      */
+    @Override
     public List<String> getDirectors() {
-        return parseCommonDelimitedList(director);
+        return getDecodedAttributes().directors;
     }
 
     /**
@@ -153,8 +160,9 @@ public abstract class MediaBase {
      *
      * @return the list of writers
      */
+    @Override
     public List<String> getWriters() {
-        return parseCommonDelimitedList(writer);
+        return getDecodedAttributes().writers;
     }
 
     /**
@@ -162,8 +170,9 @@ public abstract class MediaBase {
      *
      * @return the list of actors
      */
+    @Override
     public List<String> getActors() {
-        return parseCommonDelimitedList(actors);
+        return getDecodedAttributes().actors;
     }
 
     /**
@@ -171,8 +180,9 @@ public abstract class MediaBase {
      *
      * @return the list of languages
      */
+    @Override
     public List<String> getLanguages() {
-        return parseCommonDelimitedList(language);
+        return getDecodedAttributes().languages;
     }
 
     /**
@@ -180,7 +190,82 @@ public abstract class MediaBase {
      *
      * @return the list of countries
      */
+    @Override
     public List<String> getCountries() {
-        return parseCommonDelimitedList(country);
+        return getDecodedAttributes().countries;
+    }
+
+    private DecodedAttributes getDecodedAttributes() {
+        if (decodedAttributes == null) {
+            return new DecodedAttributes(this);
+        }
+
+        final DecodedAttributes decoded = decodedAttributes.get();
+        if (decoded != null) {
+            return decoded;
+        }
+
+        decodedAttributes.compareAndSet(null, new DecodedAttributes(this));
+        return decodedAttributes.get();
+    }
+
+    static Double parseImdbRating(final String imdbRating) {
+        return Optional.ofNullable(imdbRating)
+                .filter(StringUtils::isNotBlank)
+                .map(Double::parseDouble)
+                .orElse(null);
+    }
+
+    static Integer parseImdbVotes(final String imdbVotes) {
+        return Optional.ofNullable(imdbVotes)
+                .filter(StringUtils::isNotBlank)
+                .map(v -> v.replaceAll(STRING_LIST_DELIMITER, StringUtils.EMPTY))
+                .map(Integer::parseInt)
+                .orElse(null);
+    }
+
+    /** Immutable typed values that are decoded once from the raw string attributes. */
+    private static class DecodedAttributes {
+        private final List<String> genres;
+        private final List<String> directors;
+        private final List<String> writers;
+        private final List<String> actors;
+        private final List<String> languages;
+        private final List<String> countries;
+        private final Double imdbRating;
+        /** {@code false} if the IMDB rating is malformed so that the getter reports the parse failure. */
+        private final boolean isImdbRatingDecoded;
+        private final Integer imdbVotes;
+        /** {@code false} if the IMDB votes are malformed so that the getter reports the parse failure. */
+        private final boolean isImdbVotesDecoded;
+
+        DecodedAttributes(final MediaBase media) {
+            genres = parseCommonDelimitedList(media.genre);
+            directors = parseCommonDelimitedList(media.director);
+            writers = parseCommonDelimitedList(media.writer);
+            actors = parseCommonDelimitedList(media.actors);
+            languages = parseCommonDelimitedList(media.language);
+            countries = parseCommonDelimitedList(media.country);
+
+            Double rating = null;
+            boolean isRatingDecoded = true;
+            try {
+                rating = parseImdbRating(media.imdbRating);
+            } catch (final NumberFormatException ex) {
+                isRatingDecoded = false;
+            }
+            imdbRating = rating;
+            isImdbRatingDecoded = isRatingDecoded;
+
+            Integer votes = null;
+            boolean isVotesDecoded = true;
+            try {
+                votes = parseImdbVotes(media.imdbVotes);
+            } catch (final NumberFormatException ex) {
+                isVotesDecoded = false;
+            }
+            imdbVotes = votes;
+            isImdbVotesDecoded = isVotesDecoded;
+        }
     }
 }
@@ -0,0 +1,551 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.model.type;
+
+import com.amilesend.client.util.StringUtils;
+import com.amilesend.omdb.client.parse.adapters.LocalDateTypeAdapter;
+import com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import lombok.NonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.amilesend.omdb.client.model.type.MediaBase.parseImdbRating;
+import static com.amilesend.omdb.client.model.type.MediaBase.parseImdbVotes;
+import static com.amilesend.omdb.client.model.type.TypeHelper.parseCommonDelimitedList;
+import static com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor.NOT_AVAILABLE;
+
+/**
+ * A compact, read-only {@link Media} representation that retains the raw UTF-8 response body and a small index of
+ * the value offsets for the known top-level fields. Individual fields are only decoded when accessed, and decoded
+ * values are not retained. This is suited for caching large numbers of responses that are rarely read
+ * field-by-field.
+ * <p>
+ * Attributes that are specific to a media type (e.g., {@code "DVD"} for movies or {@code "seriesID"} for episodes)
+ * are available via {@link #getString(String)}.
+ *
+ * <p>Example:</p>
+ * <pre>
+ * RawMedia movie = RawMedia.of(responseBodyBytes);
+ * String title = movie.getTitle();
+ * </pre>
+ */
+public final class RawMedia implements Media {
+    private static final StringTypeAdaptor STRING_ADAPTER = new StringTypeAdaptor();
+    private static final LocalDateTypeAdapter LOCAL_DATE_ADAPTER = new LocalDateTypeAdapter();
+    private static final Field[] FIELDS = Field.values();
+    private static final int NOT_PRESENT = -1;
+
+    /** The raw UTF-8 response body. */
+    private final byte[] body;
+    /** The start offset of each known field's value, indexed by field ordinal. */
+    private final int[] valueOffsets;
+
+    private RawMedia(final byte[] body, final int[] valueOffsets) {
+        this.body = body;
+        this.valueOffsets = valueOffsets;
+    }
+
+    /**
+     * Creates a new {@code RawMedia} for the given UTF-8 encoded JSON response body. Insignificant whitespace is
+     * removed from the body; if there is none, the array is retained as-is and must not be modified by the caller
+     * afterward.
+     *
+     * @param body the response body
+     * @return the media
+     * @throws JsonParseException if the body is not a JSON object
+     */
+    public static RawMedia of(@NonNull final byte[] body) {
+        final byte[] compacted = compact(body);
+        return new RawMedia(compacted, index(compacted));
+    }
+
+    /**
+     * Gets the decoded string value for the given top-level JSON field name. Like the parsed models, blank and
+     * {@code "N/A"} values are returned as {@code null}.
+     *
+     * @param fieldName the JSON field name (e.g., {@code "Title"}, {@code "DVD"}, or {@code "seriesID"})
+     * @return the value, or {@code null} if the field is absent, not indexed, or not available
+     */
+    public String getString(@NonNull final String fieldName) {
+        for (final Field field : FIELDS) {
+            if (field.jsonName.equals(fieldName)) {
+                return readString(field);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the number of bytes of the retained response body.
+     *
+     * @return the body size in bytes
+     */
+    public int getBodySize() {
+        return body.length;
+    }
+
+    /**
+     * Gets a copy of the raw UTF-8 response body.
+     *
+     * @return the response body
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(body, body.length);
+    }
+
+    /**
+     * Writes the raw UTF-8 response body to the given output stream without copying it.
+     *
+     * @param out the output stream
+     * @throws IOException if unable to write to the output stream
+     */
+    public void writeTo(@NonNull final OutputStream out) throws IOException {
+        out.write(body);
+    }
+
+    @Override
+    public String getTitle() {
+        return readString(Field.TITLE);
+    }
+
+    @Override
+    public String getYear() {
+        return readString(Field.YEAR);
+    }
+
+    @Override
+    public String getRated() {
+        return readString(Field.RATED);
+    }
+
+    @Override
+    public LocalDate getReleased() {
+        return read(Field.RELEASED, LOCAL_DATE_ADAPTER::read);
+    }
+
+    @Override
+    public String getRuntime() {
+        return readString(Field.RUNTIME);
+    }
+
+    @Override
+    public String getPlot() {
+        return readString(Field.PLOT);
+    }
+
+    @Override
+    public String getAwards() {
+        return readString(Field.AWARDS);
+    }
+
+    @Override
+    public String getPoster() {
+        return readString(Field.POSTER);
+    }
+
+    @Override
+    public String getMetascore() {
+        return readString(Field.METASCORE);
+    }
+
+    @Override
+    public String getImdbId() {
+        return readString(Field.IMDB_ID);
+    }
+
+    @Override
+    public List<Rating> getRatings() {
+        final List<Rating> ratings = read(Field.RATINGS, RawMedia::readRatings);
+        return ratings != null ? ratings : Collections.emptyList();
+    }
+
+    @Override
+    public Double getImdbRating() {
+        return parseImdbRating(readString(Field.IMDB_RATING));
+    }
+
+    @Override
+    public Integer getImdbVotes() {
+        return parseImdbVotes(readString(Field.IMDB_VOTES));
+    }
+
+    @Override
+    public List<String> getGenres() {
+        return parseCommonDelimitedList(readString(Field.GENRE));
+    }
+
+    @Override
+    public List<String> getDirectors() {
+        return parseCommonDelimitedList(readString(Field.DIRECTOR));
+    }
+
+    @Override
+    public List<String> getWriters() {
+        return parseCommonDelimitedList(readString(Field.WRITER));
+    }
+
+    @Override
+    public List<String> getActors() {
+        return parseCommonDelimitedList(readString(Field.ACTORS));
+    }
+
+    @Override
+    public List<String> getLanguages() {
+        return parseCommonDelimitedList(readString(Field.LANGUAGE));
+    }
+
+    @Override
+    public List<String> getCountries() {
+        return parseCommonDelimitedList(readString(Field.COUNTRY));
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        return o instanceof RawMedia && Arrays.equals(body, ((RawMedia) o).body);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(body);
+    }
+
+    @Override
+    public String toString() {
+        return "RawMedia(imdbId=" + getImdbId() + ", title=" + getTitle() + ", bodySize=" + body.length + ")";
+    }
+
+    private String readString(final Field field) {
+        final int start = valueOffsets[field.ordinal()];
+        if (start == NOT_PRESENT) {
+            return null;
+        }
+
+        final int end = skipValue(body, start);
+        if (body[start] != '"' || indexOf(body, (byte) '\\', start, end) >= 0) {
+            // Escaped or non-string values are decoded by the adapter
+            return read(field, STRING_ADAPTER::read);
+        }
+
+        final String value = new String(body, start + 1, end - start - 2, StandardCharsets.UTF_8);
+        return StringUtils.isBlank(value) || NOT_AVAILABLE.equals(value) ? null : value;
+    }
+
+    private <T> T read(final Field field, final ValueReader<T> valueReader) {
+        final int start = valueOffsets[field.ordinal()];
+        if (start == NOT_PRESENT) {
+            return null;
+        }
+
+        final int end = skipValue(body, start);
+        try (final JsonReader reader = new JsonReader(new InputStreamReader(
+                new ByteArrayInputStream(body, start, end - start), StandardCharsets.UTF_8))) {
+            return valueReader.read(reader);
+        } catch (final IOException ex) {
+            throw new JsonParseException("Unable to read field " + field.jsonName + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private static List<Rating> readRatings(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final List<Rating> ratings = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            String source = null;
+            String value = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                if ("Source".equals(name)) {
+                    source = STRING_ADAPTER.read(in);
+                } else if ("Value".equals(name)) {
+                    value = STRING_ADAPTER.read(in);
+                } else {
+                    in.skipValue();
+                }
+            }
+            in.endObject();
+            ratings.add(new Rating(source, value));
+        }
+        in.endArray();
+
+        return Collections.unmodifiableList(ratings);
+    }
+
+    ///////////////////////////
+    // Top-level field index
+    ///////////////////////////
+
+    /**
+     * Scans the top-level object once and records the value start offsets of the known fields. Values are skipped
+     * without being decoded. When a field is repeated, the last value wins as with the parsed models.
+     */
+    private static int[] index(final byte[] body) {
+        final int[] offsets = new int[FIELDS.length];
+        Arrays.fill(offsets, NOT_PRESENT);
+
+        int pos = skipWhitespace(body, 0);
+        expect(body, pos++, '{');
+        pos = skipWhitespace(body, pos);
+        if (byteAt(body, pos) == '}') {
+            return offsets;
+        }
+
+        while (true) {
+            expect(body, pos, '"');
+            final int nameStart = pos + 1;
+            final int nameEnd = endOfString(body, pos);
+            pos = skipWhitespace(body, nameEnd + 1);
+            expect(body, pos++, ':');
+
+            final int valueStart = skipWhitespace(body, pos);
+            final int valueEnd = skipValue(body, valueStart);
+            final Field field = findField(body, nameStart, nameEnd);
+            if (field != null) {
+                offsets[field.ordinal()] = valueStart;
+            }
+
+            pos = skipWhitespace(body, valueEnd);
+            if (byteAt(body, pos) == '}') {
+                return offsets;
+            }
+            expect(body, pos++, ',');
+            pos = skipWhitespace(body, pos);
+        }
+    }
+
+    /** Removes whitespace outside of strings, returning the given array if there is none to remove. */
+    private static byte[] compact(final byte[] body) {
+        final int length = copySignificantBytes(body, null);
+        if (length == body.length) {
+            return body;
+        }
+
+        final byte[] compacted = new byte[length];
+        copySignificantBytes(body, compacted);
+        return compacted;
+    }
+
+    /** Copies the bytes outside of insignificant whitespace to the target (if not null) and returns the count. */
+    private static int copySignificantBytes(final byte[] body, final byte[] target) {
+        int length = 0;
+        boolean isInString = false;
+        for (int pos = 0; pos < body.length; ++pos) {
+            final byte b = body[pos];
+            if (!isInString && isWhitespace(b)) {
+                continue;
+            }
+
+            if (target != null) {
+                target[length] = b;
+            }
+            ++length;
+
+            if (!isInString) {
+                isInString = b == '"';
+            } else if (b == '\\') {
+                if (++pos < body.length) {
+                    if (target != null) {
+                        target[length] = body[pos];
+                    }
+                    ++length;
+                }
+            } else if (b == '"') {
+                isInString = false;
+            }
+        }
+
+        return length;
+    }
+
+    private static Field findField(final byte[] body, final int nameStart, final int nameEnd) {
+        final int length = nameEnd - nameStart;
+        for (final Field field : FIELDS) {
+            if (field.jsonNameBytes.length == length
+                    && Arrays.equals(body, nameStart, nameEnd, field.jsonNameBytes, 0, length)) {
+                return field;
+            }
+        }
+
+        return null;
+    }
+
+    /** Gets the position immediately after the value that starts at the given position. */
+    private static int skipValue(final byte[] body, final int start) {
+        final byte first = byteAt(body, start);
+        if (first == '"') {
+            return endOfString(body, start) + 1;
+        }
+
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            int pos = start;
+            while (true) {
+                final byte b = byteAt(body, pos);
+                if (b == '"') {
+                    pos = endOfString(body, pos) + 1;
+                    continue;
+                }
+
+                if (b == '{' || b == '[') {
+                    ++depth;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return pos + 1;
+                }
+                ++pos;
+            }
+        }
+
+        int pos = start;
+        while (pos < body.length && !isLiteralTerminator(body[pos])) {
+            ++pos;
+        }
+
+        if (pos == start) {
+            throw malformed(start);
+        }
+
+        return pos;
+    }
+
+    /** Gets the position of the closing quote for the string that starts at the given opening quote position. */
+    private static int endOfString(final byte[] body, final int openingQuote) {
+        int pos = openingQuote + 1;
+        while (true) {
+            final byte b = byteAt(body, pos);
+            if (b == '\\') {
+                pos += 2;
+            } else if (b == '"') {
+                return pos;
+            } else {
+                ++pos;
+            }
+        }
+    }
+
+    private static int skipWhitespace(final byte[] body, final int start) {
+        int pos = start;
+        while (pos < body.length && isWhitespace(body[pos])) {
+            ++pos;
+        }
+
+        return pos;
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    private static boolean isLiteralTerminator(final byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    private static void expect(final byte[] body, final int pos, final char expected) {
+        if (byteAt(body, pos) != expected) {
+            throw malformed(pos);
+        }
+    }
+
+    private static byte byteAt(final byte[] body, final int pos) {
+        if (pos >= body.length) {
+            throw malformed(pos);
+        }
+
+        return body[pos];
+    }
+
+    private static int indexOf(final byte[] body, final byte target, final int start, final int end) {
+        for (int i = start; i < end; ++i) {
+            if (body[i] == target) {
+                return i;
+            }
+        }
+
+        return NOT_PRESENT;
+    }
+
+    private static JsonParseException malformed(final int pos) {
+        return new JsonParseException("Malformed JSON object at offset " + pos);
+    }
+
+    /** Reads a value from a reader positioned at the value. */
+    @FunctionalInterface
+    private interface ValueReader<T> {
+        T read(JsonReader in) throws IOException;
+    }
+
+    /** The indexed top-level fields. */
+    private enum Field {
+        TITLE("Title"),
+        YEAR("Year"),
+        RATED("Rated"),
+        RELEASED("Released"),
+        RUNTIME("Runtime"),
+        GENRE("Genre"),
+        DIRECTOR("Director"),
+        WRITER("Writer"),
+        ACTORS("Actors"),
+        PLOT("Plot"),
+        LANGUAGE("Language"),
+        COUNTRY("Country"),
+        AWARDS("Awards"),
+        POSTER("Poster"),
+        RATINGS("Ratings"),
+        METASCORE("Metascore"),
+        IMDB_RATING("imdbRating"),
+        IMDB_VOTES("imdbVotes"),
+        IMDB_ID("imdbID"),
+        TYPE("Type"),
+        DVD("DVD"),
+        BOX_OFFICE("BoxOffice"),
+        PRODUCTION("Production"),
+        WEBSITE("Website"),
+        TOTAL_SEASONS("totalSeasons"),
+        SEASON("Season"),
+        EPISODE("Episode"),
+        SERIES_ID("seriesID");
+
+        private final String jsonName;
+        private final byte[] jsonNameBytes;
+
+        Field(final String jsonName) {
+            this.jsonName = jsonName;
+            this.jsonNameBytes = jsonName.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -20,10 +20,9 @@ package com.amilesend.omdb.client.model.type;
 import com.amilesend.client.util.StringUtils;
 import lombok.experimental.UtilityClass;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /** Helper class to help parse response attributes. */
 @UtilityClass
@@ -42,9 +41,23 @@ public class TypeHelper {
             return Collections.emptyList();
         }
 
-        return Arrays.stream(commonDelimitedList.split(STRING_LIST_DELIMITER))
-                .map(String::trim)
-                .filter(StringUtils::isNotBlank)
-                .collect(Collectors.toUnmodifiableList());
+        final List<String> values = new ArrayList<>();
+        final int delimiterLength = STRING_LIST_DELIMITER.length();
+        int beginIndex = 0;
+        while (beginIndex <= commonDelimitedList.length()) {
+            int endIndex = commonDelimitedList.indexOf(STRING_LIST_DELIMITER, beginIndex);
+            if (endIndex < 0) {
+                endIndex = commonDelimitedList.length();
+            }
+
+            final String value = commonDelimitedList.substring(beginIndex, endIndex).trim();
+            if (!value.isEmpty()) {
+                values.add(value);
+            }
+
+            beginIndex = endIndex + delimiterLength;
+        }
+
+        return Collections.unmodifiableList(values);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.client.util.Validate;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Names the top-level response fields to materialize when parsing a response. All other top-level fields are
+ * skipped at the token level so that no values are allocated for them, and the corresponding model attributes are
+ * left unset. Field names are the OMDb JSON field names (e.g., {@code "imdbID"}, {@code "Title"}, {@code "Year"},
+ * {@code "imdbRating"}).
+ *
+ * <p>Example:</p>
+ * <pre>
+ * FieldProjection projection = FieldProjection.of("imdbID", "Title", "Year", "imdbRating");
+ * Movie movie = client.getMovie(request, projection);
+ * </pre>
+ */
+@EqualsAndHashCode(of = "key")
+@ToString(of = "key")
+public class FieldProjection {
+    /** The JSON field names to materialize. */
+    @Getter
+    private final Set<String> fieldNames;
+    /** The canonical representation of the projection used to distinguish cached projected responses. */
+    @Getter
+    private final String key;
+
+    private FieldProjection(final Set<String> fieldNames) {
+        this.fieldNames = Set.copyOf(fieldNames);
+        this.key = String.join(",", new TreeSet<>(fieldNames));
+    }
+
+    /**
+     * Creates a new {@code FieldProjection} for the given JSON field names.
+     *
+     * @param fieldNames the JSON field names to materialize
+     * @return the projection
+     */
+    public static FieldProjection of(@NonNull final String... fieldNames) {
+        return of(Set.copyOf(Arrays.asList(fieldNames)));
+    }
+
+    /**
+     * Creates a new {@code FieldProjection} for the given JSON field names.
+     *
+     * @param fieldNames the JSON field names to materialize
+     * @return the projection
+     */
+    public static FieldProjection of(@NonNull final Set<String> fieldNames) {
+        Validate.isTrue(!fieldNames.isEmpty(), "fieldNames must not be empty");
+        return new FieldProjection(fieldNames);
+    }
+
+    /**
+     * Determines if the given top-level JSON field is materialized.
+     *
+     * @param fieldName the field name
+     * @return {@code true} if the field is materialized; else, {@code false}
+     */
+    public boolean includes(final String fieldName) {
+        return fieldNames.contains(fieldName);
+    }
+}
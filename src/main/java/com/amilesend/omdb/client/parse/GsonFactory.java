@@ -24,12 +24,12 @@ import com.amilesend.client.parse.strategy.AnnotationBasedSerializationExclusion
 import com.amilesend.omdb.client.model.type.MediaType;
 import com.amilesend.omdb.client.parse.adapters.LocalDateTypeAdapter;
 import com.amilesend.omdb.client.parse.adapters.MediaTypeTypeAdapter;
+import com.amilesend.omdb.client.parse.adapters.ModelTypeAdapterFactory;
 import com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.gsonfire.GsonFireBuilder;
-import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
@@ -39,14 +39,32 @@ import java.time.LocalDate;
  * @see GsonFactoryBase
  * @see Connection
  */
-@NoArgsConstructor
 public class GsonFactory extends GsonFactoryBase<Connection> {
+    /** The optional pool used to deduplicate string values for the configured field names. */
+    private final StringPool stringPool;
+
+    /** Creates a new {@code GsonFactory} that does not pool string values. */
+    public GsonFactory() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@code GsonFactory}.
+     *
+     * @param stringPool the pool used to deduplicate string values, or {@code null} to not pool values
+     * @see StringPool
+     */
+    public GsonFactory(final StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
     @Override
     protected GsonBuilder configure(final GsonBuilder gsonBuilder, final Connection connection) {
         return gsonBuilder.setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE)
-                .registerTypeAdapter(String.class, new StringTypeAdaptor())
+                .registerTypeAdapter(String.class, new StringTypeAdaptor(stringPool))
                 .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
-                .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter());
+                .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter())
+                .registerTypeAdapterFactory(new ModelTypeAdapterFactory());
     }
 
     @Override
@@ -0,0 +1,205 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.omdb.client.model.FailureResponse;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A {@link JsonReader} that captures the top-level OMDb {@code Response} and {@code Error} status fields while
+ * the consuming type adapter reads the rest of the document. This allows a response to be validated and
+ * materialized into its target type in a single pass over the response body. An optional {@link FieldProjection}
+ * limits the top-level fields that are returned to the consuming type adapter.
+ *
+ * @see FailureResponse
+ */
+public class ResponseStatusJsonReader extends JsonReader {
+    /** The top-level response status field name. */
+    public static final String RESPONSE_FIELD_NAME = "Response";
+    /** The top-level error message field name. */
+    public static final String ERROR_FIELD_NAME = "Error";
+
+    /** The optional projection of top-level fields to return to the consuming type adapter. */
+    private final FieldProjection projection;
+    /** The current object and array nesting depth. */
+    private int depth;
+    /** The top-level field name that has been read ahead but not yet returned via {@link #nextName()}. */
+    private String pendingName;
+    private String response;
+    private String error;
+
+    /**
+     * Creates a new {@code ResponseStatusJsonReader} that reads from the given {@code reader}.
+     *
+     * @param reader the reader
+     */
+    public ResponseStatusJsonReader(final Reader reader) {
+        this(reader, null);
+    }
+
+    /**
+     * Creates a new {@code ResponseStatusJsonReader} that reads from the given {@code reader} and only returns the
+     * top-level fields included in the given {@code projection}. The values of all other top-level fields are
+     * skipped without being materialized.
+     *
+     * @param reader the reader
+     * @param projection the projection of top-level fields to return, or {@code null} to return all fields
+     */
+    public ResponseStatusJsonReader(final Reader reader, final FieldProjection projection) {
+        super(reader);
+        this.projection = projection;
+    }
+
+    /**
+     * Gets the captured response status as a {@link FailureResponse}.
+     *
+     * @return the response status
+     */
+    public FailureResponse getFailureResponse() {
+        return FailureResponse.builder()
+                .response(response)
+                .error(error)
+                .build();
+    }
+
+    @Override
+    public void beginObject() throws IOException {
+        super.beginObject();
+        ++depth;
+    }
+
+    @Override
+    public void endObject() throws IOException {
+        super.endObject();
+        --depth;
+    }
+
+    @Override
+    public void beginArray() throws IOException {
+        super.beginArray();
+        ++depth;
+    }
+
+    @Override
+    public void endArray() throws IOException {
+        super.endArray();
+        --depth;
+    }
+
+    @Override
+    public boolean hasNext() throws IOException {
+        if (pendingName != null) {
+            return true;
+        }
+
+        if (depth != 1) {
+            return super.hasNext();
+        }
+
+        while (super.hasNext()) {
+            if (super.peek() != JsonToken.NAME) {
+                return true;
+            }
+
+            final String name = super.nextName();
+            if (captureStatusField(name)) {
+                continue;
+            }
+
+            if (projection != null && !projection.includes(name)) {
+                super.skipValue();
+                continue;
+            }
+
+            pendingName = name;
+            return true;
+        }
+
+        return false;
+    }
+
+    @Override
+    public JsonToken peek() throws IOException {
+        if (pendingName == null && depth == 1 && super.peek() == JsonToken.NAME) {
+            hasNext();
+        }
+
+        return pendingName != null ? JsonToken.NAME : super.peek();
+    }
+
+    @Override
+    public String nextName() throws IOException {
+        if (pendingName == null && depth == 1) {
+            hasNext();
+        }
+
+        if (pendingName != null) {
+            final String name = pendingName;
+            pendingName = null;
+            return name;
+        }
+
+        return super.nextName();
+    }
+
+    @Override
+    public void skipValue() throws IOException {
+        // The name was already consumed from the underlying reader; skip its associated value.
+        pendingName = null;
+        super.skipValue();
+    }
+
+    /**
+     * Reads the value for the given top-level field name if it is one of the status fields.
+     *
+     * @param name the field name that was just consumed
+     * @return {@code true} if the field was a status field and its value was consumed; else, {@code false}
+     * @throws IOException if unable to read the value
+     */
+    protected boolean captureStatusField(final String name) throws IOException {
+        if (RESPONSE_FIELD_NAME.equals(name)) {
+            response = nextStatusValue();
+            return true;
+        }
+
+        if (ERROR_FIELD_NAME.equals(name)) {
+            error = nextStatusValue();
+            return true;
+        }
+
+        return false;
+    }
+
+    private String nextStatusValue() throws IOException {
+        final JsonToken token = super.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return super.nextString();
+        }
+
+        if (token == JsonToken.BOOLEAN) {
+            return String.valueOf(super.nextBoolean());
+        }
+
+        super.skipValue();
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.client.util.Validate;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A bounded, concurrent pool that deduplicates string values read for the configured response fields. Many
+ * attributes (e.g., the rating, genres, languages, countries and rating sources) are drawn from a small vocabulary,
+ * so sharing one instance per distinct value reduces the retained heap of large in-memory catalogs.
+ * <p>
+ * Once the pool holds {@code maxSize} distinct values, new values are returned as-is without being pooled.
+ *
+ * <p>Example:</p>
+ * <pre>
+ * StringPool stringPool = StringPool.builder()
+ *         .maxSize(8192)
+ *         .fieldNames(Set.of("Rated", "Genre", "Language", "Country", "Source", "Runtime"))
+ *         .build();
+ * OmdbConnection connection = new OmdbConnectionBuilder()
+ *         // ... other connection attributes
+ *         .gsonFactory(new GsonFactory(stringPool))
+ *         .build();
+ * </pre>
+ */
+public class StringPool {
+    /** The default maximum number of distinct pooled values. */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+    /** The default set of JSON field names whose values are pooled. */
+    public static final Set<String> DEFAULT_FIELD_NAMES = Set.of("Rated", "Genre", "Language", "Country", "Source");
+
+    private final ConcurrentMap<String, String> pool = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    /** The maximum number of distinct pooled values. */
+    @Getter
+    private final int maxSize;
+    /** The JSON field names whose values are pooled. */
+    @Getter
+    private final Set<String> fieldNames;
+
+    /**
+     * Creates a new {@code StringPool}.
+     *
+     * @param maxSize the maximum number of distinct pooled values (defaults to {@link #DEFAULT_MAX_SIZE})
+     * @param fieldNames the JSON field names whose values are pooled (defaults to {@link #DEFAULT_FIELD_NAMES})
+     */
+    @Builder
+    private StringPool(final Integer maxSize, final Set<String> fieldNames) {
+        Validate.isTrue(maxSize == null || maxSize > 0, "maxSize must be positive");
+
+        this.maxSize = maxSize != null ? maxSize : DEFAULT_MAX_SIZE;
+        this.fieldNames = fieldNames != null ? Set.copyOf(fieldNames) : DEFAULT_FIELD_NAMES;
+    }
+
+    /**
+     * Determines if values for the given JSON field name are pooled.
+     *
+     * @param fieldName the field name
+     * @return {@code true} if values are pooled; else, {@code false}
+     */
+    public boolean isPooled(final String fieldName) {
+        return fieldName != null && fieldNames.contains(fieldName);
+    }
+
+    /**
+     * Gets the pooled instance that is equal to the given value, adding it to the pool if absent and the pool is
+     * not full.
+     *
+     * @param value the value
+     * @return the pooled instance, or {@code value} if it is {@code null} or the pool is full
+     */
+    public String intern(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final String pooled = pool.get(value);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        if (size.get() >= maxSize) {
+            return value;
+        }
+
+        final String existing = pool.putIfAbsent(value, value);
+        if (existing != null) {
+            return existing;
+        }
+
+        size.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * Gets the number of distinct pooled values.
+     *
+     * @return the number of pooled values
+     */
+    public int getSize() {
+        return size.get();
+    }
+}
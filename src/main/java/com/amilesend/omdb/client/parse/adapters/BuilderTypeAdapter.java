@@ -0,0 +1,172 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse.adapters;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Base streaming adapter that populates a model through its builder by dispatching on each field name read from
+ * the {@link JsonReader}. Field names follow the {@code UPPER_CAMEL_CASE} naming policy, or the
+ * {@code SerializedName} value when one is declared on the model field. Unknown fields are skipped.
+ * <p>
+ * Serialization is delegated to the reflection-based adapter that would otherwise be used for the type, which is
+ * only resolved on first use.
+ *
+ * @param <T> the model type
+ * @param <B> the builder type
+ * @see ModelTypeAdapterFactory
+ */
+abstract class BuilderTypeAdapter<T, B> extends TypeAdapter<T> {
+    private final Gson gson;
+    private final TypeAdapterFactory skipPast;
+    private final TypeToken<T> typeToken;
+    private final TypeAdapter<String> stringAdapter;
+    private final TypeAdapter<LocalDate> localDateAdapter;
+    private volatile TypeAdapter<T> writeDelegate;
+
+    /**
+     * Creates a new {@code BuilderTypeAdapter}.
+     *
+     * @param gson the Gson instance used to resolve field adapters
+     * @param skipPast the factory that created this adapter
+     * @param typeToken the model type
+     */
+    protected BuilderTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast, final TypeToken<T> typeToken) {
+        this.gson = gson;
+        this.skipPast = skipPast;
+        this.typeToken = typeToken;
+        this.stringAdapter = gson.getAdapter(String.class);
+        this.localDateAdapter = gson.getAdapter(LocalDate.class);
+    }
+
+    @Override
+    public void write(final JsonWriter out, final T value) throws IOException {
+        TypeAdapter<T> delegate = writeDelegate;
+        if (delegate == null) {
+            delegate = gson.getDelegateAdapter(skipPast, typeToken);
+            writeDelegate = delegate;
+        }
+
+        delegate.write(out, value);
+    }
+
+    @Override
+    public T read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final B builder = newBuilder();
+        in.beginObject();
+        while (in.hasNext()) {
+            final String name = in.nextName();
+            if (!readField(name, in, builder)) {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+
+        return build(builder);
+    }
+
+    /**
+     * Creates a new builder for the model type.
+     *
+     * @return the builder
+     */
+    protected abstract B newBuilder();
+
+    /**
+     * Reads the value for the given field name into the builder.
+     *
+     * @param name the field name
+     * @param in the reader positioned at the field value
+     * @param builder the builder
+     * @return {@code true} if the value was consumed; else, {@code false} if the field is unknown
+     * @throws IOException if unable to read the value
+     */
+    protected abstract boolean readField(String name, JsonReader in, B builder) throws IOException;
+
+    /**
+     * Builds the model instance.
+     *
+     * @param builder the builder
+     * @return the model instance
+     */
+    protected abstract T build(B builder);
+
+    /**
+     * Reads a string value for the given field name.
+     *
+     * @param name the JSON field name
+     * @param in the reader
+     * @return the value
+     * @throws IOException if unable to read the value
+     * @see StringTypeAdaptor#read(JsonReader, String)
+     */
+    protected String readString(final String name, final JsonReader in) throws IOException {
+        return stringAdapter instanceof StringTypeAdaptor
+                ? ((StringTypeAdaptor) stringAdapter).read(in, name)
+                : stringAdapter.read(in);
+    }
+
+    /**
+     * Reads a date value.
+     *
+     * @param in the reader
+     * @return the value
+     * @throws IOException if unable to read the value
+     */
+    protected LocalDate readLocalDate(final JsonReader in) throws IOException {
+        return localDateAdapter.read(in);
+    }
+
+    /**
+     * Gets the adapter for a list of the given element type.
+     *
+     * @param elementType the element type
+     * @param <E> the element type
+     * @return the list adapter
+     */
+    @SuppressWarnings("unchecked")
+    protected <E> TypeAdapter<List<E>> getListAdapter(final Class<E> elementType) {
+        return (TypeAdapter<List<E>>) gson.getAdapter(TypeToken.getParameterized(List.class, elementType));
+    }
+
+    /**
+     * Gets the adapter for the given type.
+     *
+     * @param type the type
+     * @param <E> the type
+     * @return the adapter
+     */
+    protected <E> TypeAdapter<E> getAdapter(final Class<E> type) {
+        return gson.getAdapter(type);
+    }
+}
@@ -18,57 +18,65 @@
 package com.amilesend.omdb.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 import static com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor.NOT_AVAILABLE;
+import static com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor.nextStringOrNull;
 
-/** GSON adapter to format and serializes {@link LocalDate} objects. */
+/**
+ * GSON adapter to format and serializes {@link LocalDate} objects. Values are read directly from the
+ * {@link JsonReader} without materializing an intermediate {@code JsonElement}.
+ */
 @Slf4j
-public class LocalDateTypeAdapter implements JsonSerializer<LocalDate>, JsonDeserializer<LocalDate> {
+public class LocalDateTypeAdapter extends TypeAdapter<LocalDate> {
     /** Date formatter for movie information. */
     public static final DateTimeFormatter MOVIE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd MMM yyyy");
     /** Date formatter for TV episode information. */
     public static final DateTimeFormatter EPISODES_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    private static final int MOVIE_DATE_LENGTH = 11;
+    private static final int EPISODE_DATE_LENGTH = 10;
+
     @Override
-    public JsonElement serialize(
-            final LocalDate date,
-            final Type typeOfSrc,
-            final JsonSerializationContext context) {
+    public void write(final JsonWriter out, final LocalDate date) throws IOException {
+        if (date == null) {
+            out.nullValue();
+            return;
+        }
+
         // Default to movie format--not used by the client
-        return new JsonPrimitive(date.format(MOVIE_DATE_FORMATTER));
+        out.value(date.format(MOVIE_DATE_FORMATTER));
     }
 
     @Override
-    public LocalDate deserialize(
-            final JsonElement jsonElement,
-            final Type typeOfT,
-            final JsonDeserializationContext context) throws JsonParseException {
-        if (jsonElement.isJsonNull()) {
+    public LocalDate read(final JsonReader in) throws IOException {
+        final String timeAsString = nextStringOrNull(in);
+        if (StringUtils.isBlank(timeAsString) || NOT_AVAILABLE.equals(timeAsString)) {
             return null;
         }
 
-        final String timeAsString = jsonElement.getAsString();
-        if (StringUtils.isBlank(timeAsString) || NOT_AVAILABLE.equals(timeAsString)) {
-            return null;
+        final LocalDate date = parseKnownFormat(timeAsString);
+        if (date != null) {
+            return date;
         }
 
+        // Fall back to the formatters for values that have the expected shape but are not a valid calendar date
+        // so that the resolution and error behavior stays consistent with the documented patterns.
         try {
             return LocalDate.parse(timeAsString, MOVIE_DATE_FORMATTER);
         } catch (final DateTimeParseException ex) {
-            log.debug("Date format does not match pattern: \"dd MMM yyyy\"", ex);
+            log.debug("Date format does not match pattern: \"dd MMM yyyy\" [{}]", timeAsString);
         }
 
         try {
@@ -77,4 +85,86 @@ public class LocalDateTypeAdapter implements JsonSerializer<LocalDate>, JsonDese
             throw new JsonParseException("Date format does not match pattern: \"dd MMM yyyy\" or \"yyyy-MM-dd\"", ex);
         }
     }
+
+    /**
+     * Parses the given value by inspecting its characters when it matches either the movie ({@code dd MMM yyyy})
+     * or the episode ({@code yyyy-MM-dd}) date format. This avoids the cost of the formatters and of the
+     * exceptions thrown when the first attempted formatter does not match.
+     *
+     * @param value the value to parse
+     * @return the date, or {@code null} if the value does not match either format or is not a valid date
+     */
+    static LocalDate parseKnownFormat(final String value) {
+        final int length = value.length();
+        if (length == MOVIE_DATE_LENGTH && value.charAt(2) == ' ' && value.charAt(6) == ' ') {
+            return toDate(
+                    parseDigits(value, 7, 11),
+                    parseMonthAbbreviation(value.charAt(3), value.charAt(4), value.charAt(5)),
+                    parseDigits(value, 0, 2));
+        }
+
+        if (length == EPISODE_DATE_LENGTH && value.charAt(4) == '-' && value.charAt(7) == '-') {
+            return toDate(parseDigits(value, 0, 4), parseDigits(value, 5, 7), parseDigits(value, 8, 10));
+        }
+
+        return null;
+    }
+
+    private static LocalDate toDate(final int year, final int month, final int dayOfMonth) {
+        if (year < 0 || month < 1 || month > 12 || dayOfMonth < 1
+                || dayOfMonth > Month.of(month).length(Year.isLeap(year))) {
+            return null;
+        }
+
+        return LocalDate.of(year, month, dayOfMonth);
+    }
+
+    private static int parseDigits(final String value, final int beginIndex, final int endIndex) {
+        int result = 0;
+        for (int i = beginIndex; i < endIndex; ++i) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            result = result * 10 + (c - '0');
+        }
+
+        return result;
+    }
+
+    private static int parseMonthAbbreviation(final char first, final char second, final char third) {
+        switch (first) {
+            case 'J':
+                if (second == 'a' && third == 'n') {
+                    return 1;
+                }
+                if (second == 'u' && third == 'n') {
+                    return 6;
+                }
+                return second == 'u' && third == 'l' ? 7 : -1;
+            case 'F':
+                return second == 'e' && third == 'b' ? 2 : -1;
+            case 'M':
+                if (second == 'a' && third == 'r') {
+                    return 3;
+                }
+                return second == 'a' && third == 'y' ? 5 : -1;
+            case 'A':
+                if (second == 'p' && third == 'r') {
+                    return 4;
+                }
+                return second == 'u' && third == 'g' ? 8 : -1;
+            case 'S':
+                return second == 'e' && third == 'p' ? 9 : -1;
+            case 'O':
+                return second == 'c' && third == 't' ? 10 : -1;
+            case 'N':
+                return second == 'o' && third == 'v' ? 11 : -1;
+            case 'D':
+                return second == 'e' && third == 'c' ? 12 : -1;
+            default:
+                return -1;
+        }
+    }
 }
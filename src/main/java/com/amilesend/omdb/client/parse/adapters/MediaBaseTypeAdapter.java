@@ -0,0 +1,128 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse.adapters;
+
+import com.amilesend.omdb.client.model.type.MediaBase;
+import com.amilesend.omdb.client.model.type.Rating;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Base streaming adapter for {@link MediaBase} types that reads the common media attributes.
+ *
+ * @param <T> the media type
+ * @param <B> the media builder type
+ */
+abstract class MediaBaseTypeAdapter<T extends MediaBase, B extends MediaBase.MediaBaseBuilder<?, ?>>
+        extends BuilderTypeAdapter<T, B> {
+    private final TypeAdapter<List<Rating>> ratingsAdapter;
+
+    /**
+     * Creates a new {@code MediaBaseTypeAdapter}.
+     *
+     * @param gson the Gson instance used to resolve field adapters
+     * @param skipPast the factory that created this adapter
+     * @param typeToken the media type
+     */
+    protected MediaBaseTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast, final TypeToken<T> typeToken) {
+        super(gson, skipPast, typeToken);
+        this.ratingsAdapter = getListAdapter(Rating.class);
+    }
+
+    @Override
+    protected boolean readField(final String name, final JsonReader in, final B builder) throws IOException {
+        switch (name) {
+            case "Title":
+                builder.title(readString(name, in));
+                return true;
+            case "Year":
+                builder.year(readString(name, in));
+                return true;
+            case "Rated":
+                builder.rated(readString(name, in));
+                return true;
+            case "Released":
+                builder.released(readLocalDate(in));
+                return true;
+            case "Runtime":
+                builder.runtime(readString(name, in));
+                return true;
+            case "Genre":
+                builder.genre(readString(name, in));
+                return true;
+            case "Director":
+                builder.director(readString(name, in));
+                return true;
+            case "Writer":
+                builder.writer(readString(name, in));
+                return true;
+            case "Actors":
+                builder.actors(readString(name, in));
+                return true;
+            case "Plot":
+                builder.plot(readString(name, in));
+                return true;
+            case "Language":
+                builder.language(readString(name, in));
+                return true;
+            case "Country":
+                builder.country(readString(name, in));
+                return true;
+            case "Awards":
+                builder.awards(readString(name, in));
+                return true;
+            case "Poster":
+                builder.poster(readString(name, in));
+                return true;
+            case "Ratings":
+                builder.ratings(ratingsAdapter.read(in));
+                return true;
+            case "Metascore":
+                builder.metascore(readString(name, in));
+                return true;
+            case "imdbRating":
+                builder.imdbRating(readString(name, in));
+                return true;
+            case "imdbVotes":
+                builder.imdbVotes(readString(name, in));
+                return true;
+            case "imdbID":
+                builder.imdbId(readString(name, in));
+                return true;
+            default:
+                return readMediaField(name, in, builder);
+        }
+    }
+
+    /**
+     * Reads the value for a field that is specific to the media type into the builder.
+     *
+     * @param name the field name
+     * @param in the reader positioned at the field value
+     * @param builder the builder
+     * @return {@code true} if the value was consumed; else, {@code false} if the field is unknown
+     * @throws IOException if unable to read the value
+     */
+    protected abstract boolean readMediaField(String name, JsonReader in, B builder) throws IOException;
+}
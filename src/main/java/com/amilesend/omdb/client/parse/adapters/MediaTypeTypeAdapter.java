@@ -19,33 +19,44 @@ package com.amilesend.omdb.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
 import com.amilesend.omdb.client.model.type.MediaType;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
-import java.util.Optional;
+import java.io.IOException;
 
-/** GSON adapter to format and serializes {@link MediaType} enums. */
-public class MediaTypeTypeAdapter implements JsonSerializer<MediaType>, JsonDeserializer<MediaType> {
+import static com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor.nextStringOrNull;
+
+/**
+ * GSON adapter to format and serializes {@link MediaType} enums. Values are read directly from the
+ * {@link JsonReader} without materializing an intermediate {@code JsonElement}.
+ */
+public class MediaTypeTypeAdapter extends TypeAdapter<MediaType> {
     @Override
-    public JsonElement serialize(final MediaType mediaType, final Type type, final JsonSerializationContext context) {
-        return new JsonPrimitive(mediaType.getValue());
+    public void write(final JsonWriter out, final MediaType mediaType) throws IOException {
+        if (mediaType == null) {
+            out.nullValue();
+            return;
+        }
+
+        out.value(mediaType.getValue());
     }
 
     @Override
-    public MediaType deserialize(
-            final JsonElement jsonElement,
-            final Type type,
-            final JsonDeserializationContext context) throws JsonParseException {
-        return Optional.ofNullable(jsonElement)
-                .map(JsonElement::getAsString)
-                .filter(StringUtils::isNotBlank)
-                .map(MediaType::fromValue)
-                .orElseThrow(() -> new JsonParseException("Unknown MediaType value: " + jsonElement.getAsString()));
+    public MediaType read(final JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        final String value = nextStringOrNull(in);
+        final MediaType mediaType = StringUtils.isNotBlank(value) ? MediaType.fromValue(value) : null;
+        if (mediaType == null) {
+            throw new JsonParseException("Unknown MediaType value: " + value);
+        }
+
+        return mediaType;
     }
 }
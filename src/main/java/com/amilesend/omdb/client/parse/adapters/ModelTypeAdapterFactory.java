@@ -0,0 +1,378 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse.adapters;
+
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.amilesend.omdb.client.model.tv.type.SeasonEpisode;
+import com.amilesend.omdb.client.model.tv.type.Series;
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.Rating;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Vends dedicated streaming adapters for the response model types that populate each model through its builder.
+ * This avoids the reflective field access and the adapter construction cost of the reflection-based adapters.
+ * <p>
+ * Field names must be kept in sync with the model classes: the {@code SerializedName} value when declared on the
+ * field; else, the field name per the {@code UPPER_CAMEL_CASE} naming policy.
+ */
+public class ModelTypeAdapterFactory implements TypeAdapterFactory {
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(final Gson gson, final TypeToken<T> typeToken) {
+        final Class<? super T> rawType = typeToken.getRawType();
+        if (rawType == Movie.class) {
+            return (TypeAdapter<T>) new MovieTypeAdapter(gson, this);
+        }
+        if (rawType == Series.class) {
+            return (TypeAdapter<T>) new SeriesTypeAdapter(gson, this);
+        }
+        if (rawType == Episode.class) {
+            return (TypeAdapter<T>) new EpisodeTypeAdapter(gson, this);
+        }
+        if (rawType == Season.class) {
+            return (TypeAdapter<T>) new SeasonTypeAdapter(gson, this);
+        }
+        if (rawType == SeasonEpisode.class) {
+            return (TypeAdapter<T>) new SeasonEpisodeTypeAdapter(gson, this);
+        }
+        if (rawType == SearchResponse.class) {
+            return (TypeAdapter<T>) new SearchResponseTypeAdapter(gson, this);
+        }
+        if (rawType == SearchResult.class) {
+            return (TypeAdapter<T>) new SearchResultTypeAdapter(gson, this);
+        }
+        if (rawType == Rating.class) {
+            return (TypeAdapter<T>) new RatingTypeAdapter(gson, this);
+        }
+
+        return null;
+    }
+
+    static class MovieTypeAdapter extends MediaBaseTypeAdapter<Movie, Movie.MovieBuilder<?, ?>> {
+        MovieTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(Movie.class));
+        }
+
+        @Override
+        protected Movie.MovieBuilder<?, ?> newBuilder() {
+            return Movie.builder();
+        }
+
+        @Override
+        protected boolean readMediaField(final String name, final JsonReader in, final Movie.MovieBuilder<?, ?> builder)
+                throws IOException {
+            switch (name) {
+                case "DVD":
+                    builder.dvd(readLocalDate(in));
+                    return true;
+                case "BoxOffice":
+                    builder.boxOffice(readString(name, in));
+                    return true;
+                case "Production":
+                    builder.production(readString(name, in));
+                    return true;
+                case "Website":
+                    builder.website(readString(name, in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Movie build(final Movie.MovieBuilder<?, ?> builder) {
+            return builder.build();
+        }
+    }
+
+    static class SeriesTypeAdapter extends MediaBaseTypeAdapter<Series, Series.SeriesBuilder<?, ?>> {
+        SeriesTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(Series.class));
+        }
+
+        @Override
+        protected Series.SeriesBuilder<?, ?> newBuilder() {
+            return Series.builder();
+        }
+
+        @Override
+        protected boolean readMediaField(
+                final String name,
+                final JsonReader in,
+                final Series.SeriesBuilder<?, ?> builder) throws IOException {
+            if ("totalSeasons".equals(name)) {
+                builder.totalSeasons(readString(name, in));
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        protected Series build(final Series.SeriesBuilder<?, ?> builder) {
+            return builder.build();
+        }
+    }
+
+    static class EpisodeTypeAdapter extends MediaBaseTypeAdapter<Episode, Episode.EpisodeBuilder<?, ?>> {
+        EpisodeTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(Episode.class));
+        }
+
+        @Override
+        protected Episode.EpisodeBuilder<?, ?> newBuilder() {
+            return Episode.builder();
+        }
+
+        @Override
+        protected boolean readMediaField(
+                final String name,
+                final JsonReader in,
+                final Episode.EpisodeBuilder<?, ?> builder) throws IOException {
+            switch (name) {
+                case "Season":
+                    builder.season(readString(name, in));
+                    return true;
+                case "Episode":
+                    builder.episode(readString(name, in));
+                    return true;
+                case "seriesID":
+                    builder.seriesId(readString(name, in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Episode build(final Episode.EpisodeBuilder<?, ?> builder) {
+            return builder.build();
+        }
+    }
+
+    static class SeasonTypeAdapter extends BuilderTypeAdapter<Season, Season.SeasonBuilder> {
+        private final TypeAdapter<List<SeasonEpisode>> episodesAdapter;
+
+        SeasonTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(Season.class));
+            episodesAdapter = getListAdapter(SeasonEpisode.class);
+        }
+
+        @Override
+        protected Season.SeasonBuilder newBuilder() {
+            return Season.builder();
+        }
+
+        @Override
+        protected boolean readField(final String name, final JsonReader in, final Season.SeasonBuilder builder)
+                throws IOException {
+            switch (name) {
+                case "Title":
+                    builder.title(readString(name, in));
+                    return true;
+                case "Season":
+                    builder.season(readString(name, in));
+                    return true;
+                case "totalSeasons":
+                    builder.totalSeasons(readString(name, in));
+                    return true;
+                case "Episodes":
+                    builder.episodes(episodesAdapter.read(in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Season build(final Season.SeasonBuilder builder) {
+            return builder.build();
+        }
+    }
+
+    static class SeasonEpisodeTypeAdapter
+            extends BuilderTypeAdapter<SeasonEpisode, SeasonEpisode.SeasonEpisodeBuilder> {
+        SeasonEpisodeTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(SeasonEpisode.class));
+        }
+
+        @Override
+        protected SeasonEpisode.SeasonEpisodeBuilder newBuilder() {
+            return SeasonEpisode.builder();
+        }
+
+        @Override
+        protected boolean readField(
+                final String name,
+                final JsonReader in,
+                final SeasonEpisode.SeasonEpisodeBuilder builder) throws IOException {
+            switch (name) {
+                case "Title":
+                    builder.title(readString(name, in));
+                    return true;
+                case "Released":
+                    builder.released(readLocalDate(in));
+                    return true;
+                case "Episode":
+                    builder.episode(readString(name, in));
+                    return true;
+                case "imdbRating":
+                    builder.imdbRating(readString(name, in));
+                    return true;
+                case "imdbID":
+                    builder.imdbId(readString(name, in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SeasonEpisode build(final SeasonEpisode.SeasonEpisodeBuilder builder) {
+            return builder.build();
+        }
+    }
+
+    static class SearchResponseTypeAdapter
+            extends BuilderTypeAdapter<SearchResponse, SearchResponse.SearchResponseBuilder> {
+        private final TypeAdapter<List<SearchResult>> searchAdapter;
+
+        SearchResponseTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(SearchResponse.class));
+            searchAdapter = getListAdapter(SearchResult.class);
+        }
+
+        @Override
+        protected SearchResponse.SearchResponseBuilder newBuilder() {
+            return SearchResponse.builder();
+        }
+
+        @Override
+        protected boolean readField(
+                final String name,
+                final JsonReader in,
+                final SearchResponse.SearchResponseBuilder builder) throws IOException {
+            switch (name) {
+                case "Search":
+                    builder.search(searchAdapter.read(in));
+                    return true;
+                case "totalResults":
+                    builder.totalResults(readString(name, in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SearchResponse build(final SearchResponse.SearchResponseBuilder builder) {
+            return builder.build();
+        }
+    }
+
+    static class SearchResultTypeAdapter extends BuilderTypeAdapter<SearchResult, SearchResult.SearchResultBuilder> {
+        private final TypeAdapter<MediaType> mediaTypeAdapter;
+
+        SearchResultTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(SearchResult.class));
+            mediaTypeAdapter = getAdapter(MediaType.class);
+        }
+
+        @Override
+        protected SearchResult.SearchResultBuilder newBuilder() {
+            return SearchResult.builder();
+        }
+
+        @Override
+        protected boolean readField(
+                final String name,
+                final JsonReader in,
+                final SearchResult.SearchResultBuilder builder) throws IOException {
+            switch (name) {
+                case "Title":
+                    builder.title(readString(name, in));
+                    return true;
+                case "Year":
+                    builder.year(readString(name, in));
+                    return true;
+                case "imdbID":
+                    builder.imdbId(readString(name, in));
+                    return true;
+                case "Type":
+                    builder.type(mediaTypeAdapter.read(in));
+                    return true;
+                case "Poster":
+                    builder.poster(readString(name, in));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected SearchResult build(final SearchResult.SearchResultBuilder builder) {
+            return builder.build();
+        }
+    }
+
+    static class RatingTypeAdapter extends BuilderTypeAdapter<Rating, String[]> {
+        private static final int SOURCE_INDEX = 0;
+        private static final int VALUE_INDEX = 1;
+
+        RatingTypeAdapter(final Gson gson, final TypeAdapterFactory skipPast) {
+            super(gson, skipPast, TypeToken.get(Rating.class));
+        }
+
+        @Override
+        protected String[] newBuilder() {
+            return new String[2];
+        }
+
+        @Override
+        protected boolean readField(final String name, final JsonReader in, final String[] builder)
+                throws IOException {
+            switch (name) {
+                case "Source":
+                    builder[SOURCE_INDEX] = readString(name, in);
+                    return true;
+                case "Value":
+                    builder[VALUE_INDEX] = readString(name, in);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        protected Rating build(final String[] builder) {
+            return new Rating(builder[SOURCE_INDEX], builder[VALUE_INDEX]);
+        }
+    }
+}
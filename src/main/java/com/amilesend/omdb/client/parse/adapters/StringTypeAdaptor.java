@@ -18,32 +18,88 @@
 package com.amilesend.omdb.client.parse.adapters;
 
 import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonDeserializer;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParseException;
+import com.amilesend.omdb.client.parse.StringPool;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 
-import java.lang.reflect.Type;
+import java.io.IOException;
 
-/** GSON adapter to format and serializes {@link String} objects. */
-public class StringTypeAdaptor implements JsonDeserializer<String> {
+/**
+ * GSON adapter to format and serializes {@link String} objects. Values are read directly from the
+ * {@link JsonReader} without materializing an intermediate {@code JsonElement}.
+ */
+public class StringTypeAdaptor extends TypeAdapter<String> {
     /** OMDb returns "N/A" for undefined values. */
     public static final String NOT_AVAILABLE = "N/A";
 
+    /** The optional pool used to deduplicate values for the pooled field names. */
+    private final StringPool stringPool;
+
+    /** Creates a new {@code StringTypeAdaptor} that does not pool values. */
+    public StringTypeAdaptor() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@code StringTypeAdaptor}.
+     *
+     * @param stringPool the pool used to deduplicate values read via {@link #read(JsonReader, String)}, or
+     *                   {@code null} to not pool values
+     */
+    public StringTypeAdaptor(final StringPool stringPool) {
+        this.stringPool = stringPool;
+    }
+
     @Override
-    public String deserialize(
-            final JsonElement jsonElement,
-            final Type typeOfT,
-            final JsonDeserializationContext context) throws JsonParseException {
-        if (jsonElement.isJsonNull()) {
-            return null;
-        }
+    public void write(final JsonWriter out, final String value) throws IOException {
+        out.value(value);
+    }
 
-        final String value = jsonElement.getAsString();
+    @Override
+    public String read(final JsonReader in) throws IOException {
+        final String value = nextStringOrNull(in);
         if (StringUtils.isBlank(value) || NOT_AVAILABLE.equals(value)) {
             return null;
         }
 
         return value;
     }
+
+    /**
+     * Reads the value for the given field name, returning the pooled instance when the field is configured to be
+     * pooled.
+     *
+     * @param in the reader
+     * @param fieldName the JSON field name
+     * @return the value
+     * @throws IOException if unable to read the value
+     * @see StringPool
+     */
+    public String read(final JsonReader in, final String fieldName) throws IOException {
+        final String value = read(in);
+        return stringPool != null && stringPool.isPooled(fieldName) ? stringPool.intern(value) : value;
+    }
+
+    /**
+     * Reads the next primitive value as a string.
+     *
+     * @param in the reader
+     * @return the value, or {@code null} if the value is a JSON null
+     * @throws IOException if unable to read the value
+     */
+    static String nextStringOrNull(final JsonReader in) throws IOException {
+        final JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+
+        if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+
+        return in.nextString();
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * A subscription whose outstanding demand drives the upstream calls. All signals to the subscriber are issued from
+ * a single drain loop that is re-entered whenever demand is requested, a call completes, or the subscription is
+ * cancelled, so signals are serialized without locking and without a dedicated thread.
+ *
+ * <p>Subclasses implement {@link #emit(long)} to deliver ready items and {@link #fill(long)} to start the calls
+ * needed to satisfy the remaining demand. Both are only invoked from within the drain loop, so state that is only
+ * accessed by them does not need to be thread-safe.</p>
+ *
+ * @param <T> the item type
+ */
+abstract class DemandSubscription<T> implements Flow.Subscription {
+    private final Flow.Subscriber<? super T> subscriber;
+    private final AtomicLong requested = new AtomicLong();
+    /** Guards the drain loop so that only one thread signals the subscriber at a time. */
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean cancelled;
+    private volatile Throwable invalidRequest;
+    /** Whether a terminal signal has been issued. Only accessed within the drain loop. */
+    private boolean done;
+
+    DemandSubscription(final Flow.Subscriber<? super T> subscriber) {
+        this.subscriber = subscriber;
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0L) {
+            invalidRequest = new IllegalArgumentException("Requested items must be > 0 (§3.9): " + n);
+        } else {
+            requested.getAndAccumulate(n, (current, added) -> {
+                final long sum = current + added;
+                return sum < 0L ? Long.MAX_VALUE : sum;
+            });
+        }
+
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        drain();
+    }
+
+    /**
+     * Delivers up to {@code demand} ready items to the subscriber with {@link #onNext(Object)}.
+     *
+     * @param demand the outstanding demand
+     * @return the number of items delivered
+     */
+    abstract long emit(long demand);
+
+    /**
+     * Starts the upstream calls needed to satisfy the remaining demand and signals completion once every item has
+     * been delivered.
+     *
+     * @param demand the remaining outstanding demand
+     */
+    abstract void fill(long demand);
+
+    /** Runs the drain loop, or marks it to run again if another thread is already running it. */
+    final void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        do {
+            if (!done) {
+                drainOnce();
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Starts and tracks an upstream call so that it is cancelled along with the subscription. Synchronous failures
+     * are returned as a failed future.
+     *
+     * @param call the call to start
+     * @param <V> the result type
+     * @return the future for the call
+     */
+    final <V> CompletableFuture<V> start(final Supplier<CompletableFuture<V>> call) {
+        CompletableFuture<V> future;
+        try {
+            future = call.get();
+        } catch (final RuntimeException ex) {
+            future = CompletableFuture.failedFuture(ex);
+        }
+
+        final CompletableFuture<V> started = future;
+        inFlight.add(started);
+        started.whenComplete((value, ex) -> inFlight.remove(started));
+        return started;
+    }
+
+    /**
+     * Delivers an item to the subscriber. A subscriber that throws is treated as having cancelled (§2.13).
+     *
+     * @param item the item
+     */
+    final void onNext(final T item) {
+        try {
+            subscriber.onNext(item);
+        } catch (final RuntimeException ex) {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Terminates the subscription with an error and cancels any calls in flight.
+     *
+     * @param error the error
+     */
+    final void onError(final Throwable error) {
+        done = true;
+        cancelInFlight();
+        subscriber.onError(BulkExecutor.unwrap(error));
+    }
+
+    /** Terminates the subscription successfully. */
+    final void onComplete() {
+        done = true;
+        subscriber.onComplete();
+    }
+
+    /**
+     * Determines if the subscription has been cancelled or terminated.
+     *
+     * @return {@code true} if no more items should be delivered; else, {@code false}
+     */
+    final boolean isDone() {
+        return done || cancelled;
+    }
+
+    private void drainOnce() {
+        if (cancelled) {
+            done = true;
+            cancelInFlight();
+            return;
+        }
+
+        final Throwable invalid = invalidRequest;
+        if (invalid != null) {
+            onError(invalid);
+            return;
+        }
+
+        final long demand = requested.get();
+        final long emitted = emit(demand);
+        if (emitted > 0L && demand != Long.MAX_VALUE) {
+            requested.addAndGet(-emitted);
+        }
+
+        if (cancelled) {
+            done = true;
+            cancelInFlight();
+            return;
+        }
+
+        if (!done) {
+            fill(requested.get());
+        }
+    }
+
+    private void cancelInFlight() {
+        for (final CompletableFuture<?> future : inFlight) {
+            future.cancel(true);
+        }
+    }
+}
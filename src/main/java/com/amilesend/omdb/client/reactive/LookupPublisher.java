@@ -0,0 +1,143 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Publishes the results of asynchronous lookups for a sequence of requests. Subscriber demand drives the lookups:
+ * a lookup is only started for demand that is not already covered by a ready result or a lookup in flight, and at
+ * most {@code maxConcurrency} lookups are in flight at once. Results are published in completion order, and
+ * individual failures are published as failed {@link BulkResult}s rather than terminating the subscription.
+ *
+ * <p>Each subscriber iterates the requests independently. Cancelling the subscription cancels any lookups in
+ * flight.</p>
+ *
+ * @param <R> the request type
+ * @param <T> the resolved value type
+ */
+public class LookupPublisher<R extends QueryParameterBasedRequest, T> implements Flow.Publisher<BulkResult<T>> {
+    private final Iterable<? extends R> requests;
+    private final int maxConcurrency;
+    private final Function<R, CompletableFuture<T>> lookup;
+
+    /**
+     * Creates a new {@code LookupPublisher}.
+     *
+     * @param requests the requests
+     * @param maxConcurrency the maximum number of lookups in flight at once
+     * @param lookup the function that starts the asynchronous lookup for a request
+     */
+    public LookupPublisher(
+            @NonNull final Iterable<? extends R> requests,
+            final int maxConcurrency,
+            @NonNull final Function<R, CompletableFuture<T>> lookup) {
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        this.requests = requests;
+        this.maxConcurrency = maxConcurrency;
+        this.lookup = lookup;
+    }
+
+    @Override
+    public void subscribe(@NonNull final Flow.Subscriber<? super BulkResult<T>> subscriber) {
+        final LookupSubscription subscription = new LookupSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private class LookupSubscription extends DemandSubscription<BulkResult<T>> {
+        /** The completed lookups that have not been delivered yet. */
+        private final Queue<BulkResult<T>> ready = new ConcurrentLinkedQueue<>();
+        private Iterator<? extends R> iterator;
+        private boolean exhausted;
+        /** The number of lookups that have been started but not delivered. */
+        private int pending;
+
+        LookupSubscription(final Flow.Subscriber<? super BulkResult<T>> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        long emit(final long demand) {
+            long emitted = 0L;
+            while (emitted < demand && !isDone()) {
+                final BulkResult<T> result = ready.poll();
+                if (result == null) {
+                    break;
+                }
+
+                --pending;
+                ++emitted;
+                onNext(result);
+            }
+
+            return emitted;
+        }
+
+        @Override
+        void fill(final long demand) {
+            try {
+                if (iterator == null) {
+                    iterator = requests.iterator();
+                }
+
+                if (pending == 0 && !iterator.hasNext()) {
+                    exhausted = true;
+                }
+
+                while (!exhausted && pending < maxConcurrency && pending < demand) {
+                    if (!iterator.hasNext()) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    ++pending;
+                    launch(iterator.next());
+                }
+            } catch (final RuntimeException ex) {
+                onError(ex);
+                return;
+            }
+
+            if (exhausted && pending == 0) {
+                onComplete();
+            }
+        }
+
+        private void launch(final R request) {
+            start(() -> lookup.apply(request)).whenComplete((value, ex) -> {
+                ready.add(ex == null
+                        ? BulkResult.success(request, value)
+                        : BulkResult.failure(request, BulkExecutor.unwrap(ex)));
+                drain();
+            });
+        }
+    }
+}
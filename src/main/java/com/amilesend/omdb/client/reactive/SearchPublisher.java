@@ -0,0 +1,155 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import com.amilesend.omdb.client.search.SearchPageIterator;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.IntFunction;
+
+/**
+ * Publishes the search results of every page of a search in page order. Subscriber demand drives the page
+ * requests: the first page is requested once there is demand, and following pages are only requested for demand
+ * that is not already covered by buffered results or pages in flight, with at most {@code maxConcurrency} pages in
+ * flight at once. A failure to fetch a page terminates the subscription with the error, whereas a search without
+ * any results completes without publishing any.
+ *
+ * <p>Each subscriber performs the search independently. Cancelling the subscription cancels any pages in
+ * flight.</p>
+ *
+ * @see SearchPageIterator
+ */
+public class SearchPublisher implements Flow.Publisher<SearchResult> {
+    private final IntFunction<CompletableFuture<SearchResponse>> pageLookup;
+    private final int firstPage;
+    private final int maxConcurrency;
+
+    /**
+     * Creates a new {@code SearchPublisher}.
+     *
+     * @param pageLookup the function that starts the asynchronous search for a page number
+     * @param firstPage the first page number to publish results for
+     * @param maxConcurrency the maximum number of pages in flight at once
+     */
+    public SearchPublisher(
+            @NonNull final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            final int maxConcurrency) {
+        Validate.isTrue(firstPage > 0, "firstPage must be > 0");
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        this.pageLookup = pageLookup;
+        this.firstPage = firstPage;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public void subscribe(@NonNull final Flow.Subscriber<? super SearchResult> subscriber) {
+        final SearchSubscription subscription = new SearchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    private class SearchSubscription extends DemandSubscription<SearchResult> {
+        /** The pages in flight or not yet delivered, in page order. */
+        private final Deque<CompletableFuture<SearchResponse>> pages = new ArrayDeque<>();
+        private List<SearchResult> current = Collections.emptyList();
+        private int index;
+        /** The last page number, or {@code 0} if the first page has not been delivered yet. */
+        private int lastPage;
+        private int nextPage;
+
+        SearchSubscription(final Flow.Subscriber<? super SearchResult> subscriber) {
+            super(subscriber);
+            this.nextPage = firstPage;
+        }
+
+        @Override
+        long emit(final long demand) {
+            long emitted = 0L;
+            while (!isDone()) {
+                if (index < current.size()) {
+                    if (emitted >= demand) {
+                        break;
+                    }
+
+                    ++emitted;
+                    onNext(current.get(index++));
+                    continue;
+                }
+
+                final CompletableFuture<SearchResponse> page = pages.peek();
+                if (page == null || !page.isDone()) {
+                    break;
+                }
+
+                pages.poll();
+                final SearchResponse response;
+                try {
+                    response = page.join();
+                } catch (final RuntimeException ex) {
+                    if (lastPage == 0 && SearchPageIterator.isNotFound(ex)) {
+                        lastPage = firstPage;
+                        continue;
+                    }
+
+                    onError(ex);
+                    break;
+                }
+
+                if (lastPage == 0) {
+                    lastPage = SearchPageIterator.toLastPage(firstPage, response);
+                }
+
+                current = response.getSearchResults();
+                index = 0;
+            }
+
+            return emitted;
+        }
+
+        @Override
+        void fill(final long demand) {
+            while (hasMorePages()
+                    && pages.size() < maxConcurrency
+                    && (current.size() - index) + (long) pages.size() * SearchPageIterator.PAGE_SIZE < demand) {
+                final int page = nextPage++;
+                pages.add(start(() -> pageLookup.apply(page)));
+                pages.peekLast().whenComplete((response, ex) -> drain());
+            }
+
+            if (lastPage != 0 && nextPage > lastPage && pages.isEmpty() && index >= current.size()) {
+                onComplete();
+            }
+        }
+
+        /** Only the first page is requested until its total result count determines the last page. */
+        private boolean hasMorePages() {
+            return lastPage == 0 ? nextPage == firstPage : nextPage <= lastPage;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.search;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import lombok.NonNull;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the full records for every result of a search. Each search result is looked up as soon as it is
+ * returned by its page, and the records are returned in the order that their lookups complete while the remaining
+ * pages are still being fetched. Results are de-duplicated by IMDB identifier.
+ *
+ * <p>Up to {@code maxConcurrency} lookups are in flight or waiting to be consumed at once, so a slow consumer
+ * throttles the lookups rather than buffering an unbounded number of records. Pages are fetched ahead of the
+ * lookups, with up to {@link SearchPageIterator#DEFAULT_MAX_CONCURRENCY} pages in flight. A failed lookup is returned
+ * as a failed {@link BulkResult} and does not abort the search, whereas a failure to fetch a page is thrown while
+ * iterating. A search without any results is returned as an empty iterator.</p>
+ *
+ * <p>This iterator must be consumed by a single thread. Closing the iterator cancels any pages and lookups that are
+ * still in flight.</p>
+ *
+ * @param <R> the lookup request type
+ * @param <T> the record type
+ */
+public class ExpandedSearchIterator<R extends QueryParameterBasedRequest, T>
+        implements Iterator<BulkResult<T>>, AutoCloseable {
+    /** Signals that no more results will be published. */
+    private static final Object END = new Object();
+
+    /** Starts the asynchronous search for a page number. */
+    private final IntFunction<CompletableFuture<SearchResponse>> pageLookup;
+    private final int firstPage;
+    /** Creates the lookup request for a search result. */
+    private final Function<SearchResult, R> toRequest;
+    /** Starts the asynchronous lookup for a request. */
+    private final Function<R, CompletableFuture<T>> lookup;
+    private final int maxConcurrency;
+
+    /** The completed results, followed by {@link #END}. */
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    /** The search results that have not been looked up yet. */
+    private final Queue<SearchResult> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Set<String> seenImdbIds = ConcurrentHashMap.newKeySet();
+    private final Set<CompletableFuture<?>> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger pagesInFlight = new AtomicInteger();
+    /** The number of lookups that have not completed yet. */
+    private final AtomicInteger running = new AtomicInteger();
+    /** The number of lookups that have not been consumed yet. */
+    private final AtomicInteger outstanding = new AtomicInteger();
+    /** Guards the dispatch loop so that only one thread launches pages and lookups at a time. */
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicBoolean started = new AtomicBoolean();
+    /** The last page number, or {@code 0} if the first page has not been fetched yet. */
+    private volatile int lastPage;
+    private volatile Throwable failure;
+    private volatile boolean closed;
+    /** The next page number to fetch. Only accessed within the dispatch loop. */
+    private int nextPage;
+    /** The next result to return. Only accessed by the consuming thread. */
+    private BulkResult<T> next;
+    /** Whether {@link #END} has been consumed. Only accessed by the consuming thread. */
+    private boolean terminated;
+
+    /**
+     * Creates a new {@code ExpandedSearchIterator}.
+     *
+     * @param pageLookup the function that starts the asynchronous search for a page number
+     * @param firstPage the first page number to look up results for
+     * @param toRequest the function that creates the lookup request for a search result
+     * @param lookup the function that starts the asynchronous lookup for a request
+     * @param maxConcurrency the maximum number of lookups in flight or waiting to be consumed at once
+     */
+    public ExpandedSearchIterator(
+            @NonNull final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            @NonNull final Function<SearchResult, R> toRequest,
+            @NonNull final Function<R, CompletableFuture<T>> lookup,
+            final int maxConcurrency) {
+        Validate.isTrue(firstPage > 0, "firstPage must be > 0");
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        this.pageLookup = pageLookup;
+        this.firstPage = firstPage;
+        this.toRequest = toRequest;
+        this.lookup = lookup;
+        this.maxConcurrency = maxConcurrency;
+        this.nextPage = firstPage + 1;
+    }
+
+    /**
+     * Creates a lazy stream over the full records for every result of a search, in lookup completion order. No
+     * request is made until the stream is consumed, and closing the stream cancels any pages and lookups that are
+     * still in flight.
+     *
+     * @param pageLookup the function that starts the asynchronous search for a page number
+     * @param firstPage the first page number to look up results for
+     * @param toRequest the function that creates the lookup request for a search result
+     * @param lookup the function that starts the asynchronous lookup for a request
+     * @param maxConcurrency the maximum number of lookups in flight or waiting to be consumed at once
+     * @param <R> the lookup request type
+     * @param <T> the record type
+     * @return the stream of lookup results
+     */
+    public static <R extends QueryParameterBasedRequest, T> Stream<BulkResult<T>> stream(
+            @NonNull final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            @NonNull final Function<SearchResult, R> toRequest,
+            @NonNull final Function<R, CompletableFuture<T>> lookup,
+            final int maxConcurrency) {
+        final ExpandedSearchIterator<R, T> iterator =
+                new ExpandedSearchIterator<>(pageLookup, firstPage, toRequest, lookup, maxConcurrency);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        if (terminated || closed) {
+            return false;
+        }
+
+        if (started.compareAndSet(false, true)) {
+            pagesInFlight.incrementAndGet();
+            launchPage(firstPage);
+        }
+
+        final Object event = take();
+        if (event == END) {
+            terminated = true;
+            close();
+            final Throwable cause = failure;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        final BulkResult<T> result = (BulkResult<T>) event;
+        next = result;
+        return true;
+    }
+
+    @Override
+    public BulkResult<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final BulkResult<T> result = next;
+        next = null;
+        outstanding.decrementAndGet();
+        dispatch();
+        return result;
+    }
+
+    /** Cancels any pages and lookups that are still in flight. */
+    @Override
+    public void close() {
+        closed = true;
+        cancelInFlight();
+    }
+
+    private Object take() {
+        try {
+            return events.take();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            terminated = true;
+            close();
+            throw new CancellationException("Interrupted while waiting for search results");
+        }
+    }
+
+    private void dispatch() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        do {
+            if (!closed) {
+                launchPages();
+                launchLookups();
+            }
+
+            if (isComplete() && finished.compareAndSet(false, true)) {
+                events.add(END);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void launchPages() {
+        final int last = lastPage;
+        while (last != 0
+                && nextPage <= last
+                && pagesInFlight.get() < SearchPageIterator.DEFAULT_MAX_CONCURRENCY
+                && pendingCount.get() < maxConcurrency) {
+            pagesInFlight.incrementAndGet();
+            launchPage(nextPage++);
+        }
+    }
+
+    private void launchLookups() {
+        while (outstanding.get() < maxConcurrency) {
+            final SearchResult result = pending.poll();
+            if (result == null) {
+                return;
+            }
+
+            pendingCount.decrementAndGet();
+            outstanding.incrementAndGet();
+            running.incrementAndGet();
+            launchLookup(toRequest.apply(result));
+        }
+    }
+
+    private boolean isComplete() {
+        final int last = lastPage;
+        return last != 0
+                && nextPage > last
+                && pagesInFlight.get() == 0
+                && pendingCount.get() == 0
+                && running.get() == 0;
+    }
+
+    private void launchPage(final int page) {
+        final CompletableFuture<SearchResponse> future = start(() -> pageLookup.apply(page));
+        inFlight.add(future);
+        future.whenComplete((response, ex) -> {
+            inFlight.remove(future);
+            if (ex != null && page == firstPage && SearchPageIterator.isNotFound(ex)) {
+                lastPage = firstPage;
+                pagesInFlight.decrementAndGet();
+                dispatch();
+                return;
+            }
+
+            if (ex != null) {
+                fail(ex);
+                return;
+            }
+
+            for (final SearchResult result : response.getSearchResults()) {
+                if (result.getImdbId() != null && seenImdbIds.add(result.getImdbId())) {
+                    pending.add(result);
+                    pendingCount.incrementAndGet();
+                }
+            }
+
+            if (page == firstPage) {
+                lastPage = SearchPageIterator.toLastPage(firstPage, response);
+            }
+
+            pagesInFlight.decrementAndGet();
+            dispatch();
+        });
+    }
+
+    private void launchLookup(final R request) {
+        final CompletableFuture<T> future = start(() -> lookup.apply(request));
+        inFlight.add(future);
+        future.whenComplete((value, ex) -> {
+            inFlight.remove(future);
+            events.add(ex == null
+                    ? BulkResult.success(request, value)
+                    : BulkResult.failure(request, BulkExecutor.unwrap(ex)));
+            running.decrementAndGet();
+            dispatch();
+        });
+    }
+
+    private void fail(final Throwable ex) {
+        if (finished.compareAndSet(false, true)) {
+            failure = BulkExecutor.unwrap(ex);
+            events.add(END);
+            cancelInFlight();
+        }
+    }
+
+    private void cancelInFlight() {
+        for (final CompletableFuture<?> future : inFlight) {
+            future.cancel(true);
+        }
+    }
+
+    private static <V> CompletableFuture<V> start(final Supplier<CompletableFuture<V>> call) {
+        try {
+            return call.get();
+        } catch (final RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
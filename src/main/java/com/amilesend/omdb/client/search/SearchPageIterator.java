@@ -0,0 +1,225 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.search;
+
+import com.amilesend.client.util.Validate;
+import com.amilesend.omdb.client.bulk.BulkExecutor;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import lombok.NonNull;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Iterates over the search results of every page of a search. The first page is fetched when the iterator is first
+ * consumed, and the number of pages is computed from its total result count. The following pages are then
+ * prefetched concurrently within a bounded window while earlier pages are consumed, and results are returned in
+ * page order. A search without any results is returned as an empty iterator rather than as the "not found" failure
+ * response that OMDb returns for it.
+ *
+ * <p>This iterator is not thread-safe. Closing the iterator cancels any pages that are still being fetched.</p>
+ */
+public class SearchPageIterator implements Iterator<SearchResult>, AutoCloseable {
+    /** The number of search results that are returned per page. */
+    public static final int PAGE_SIZE = 10;
+    /** The default maximum number of pages fetched at once. */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /** Starts the asynchronous search for a page number. */
+    private final IntFunction<CompletableFuture<SearchResponse>> pageLookup;
+    private final int firstPage;
+    private final int maxConcurrency;
+    /** The pages being fetched, in page order. */
+    private final Deque<CompletableFuture<SearchResponse>> prefetched = new ArrayDeque<>();
+    private Iterator<SearchResult> current = Collections.emptyIterator();
+    /** The last page number, or {@code 0} if the first page has not been fetched yet. */
+    private int lastPage;
+    private int nextPage;
+    private boolean closed;
+
+    /**
+     * Creates a new {@code SearchPageIterator}.
+     *
+     * @param pageLookup the function that starts the asynchronous search for a page number
+     * @param firstPage the first page number to return results for
+     * @param maxConcurrency the maximum number of pages fetched at once
+     */
+    public SearchPageIterator(
+            @NonNull final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            final int maxConcurrency) {
+        Validate.isTrue(firstPage > 0, "firstPage must be > 0");
+        Validate.isTrue(maxConcurrency > 0, "maxConcurrency must be > 0");
+
+        this.pageLookup = pageLookup;
+        this.firstPage = firstPage;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Creates a lazy sequential stream over the search results of every page. No page is fetched until the stream
+     * is consumed, and closing the stream cancels any pages that are still being fetched.
+     *
+     * @param pageLookup the function that starts the asynchronous search for a page number
+     * @param firstPage the first page number to return results for
+     * @param maxConcurrency the maximum number of pages fetched at once
+     * @return the stream of search results
+     */
+    public static Stream<SearchResult> stream(
+            @NonNull final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            final int maxConcurrency) {
+        final SearchPageIterator iterator = new SearchPageIterator(pageLookup, firstPage, maxConcurrency);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Gets the number of pages in the search, computed from the total result count of the first page.
+     *
+     * @param firstPage the first page number
+     * @param response the first page response
+     * @return the last page number
+     */
+    public static int toLastPage(final int firstPage, final SearchResponse response) {
+        final Integer totalResults = response.getTotalResults();
+        if (totalResults == null) {
+            return firstPage;
+        }
+
+        return Math.max(firstPage, (int) ((totalResults.longValue() + PAGE_SIZE - 1L) / PAGE_SIZE));
+    }
+
+    /**
+     * Determines if a search page failed because the search has no results. OMDb returns a failure response (e.g.,
+     * "Movie not found!") instead of an empty page for such searches.
+     *
+     * @param ex the page failure
+     * @return {@code true} if the search has no results; else, {@code false}
+     */
+    public static boolean isNotFound(final Throwable ex) {
+        final Throwable cause = BulkExecutor.unwrap(ex);
+        return cause instanceof FailureResponseException
+                && cause.getMessage() != null
+                && cause.getMessage().toLowerCase(Locale.ROOT).contains("not found");
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed) {
+                return false;
+            }
+
+            if (lastPage == 0) {
+                final SearchResponse response;
+                try {
+                    response = await(lookup(firstPage));
+                } catch (final RuntimeException ex) {
+                    if (isNotFound(ex)) {
+                        return false;
+                    }
+
+                    throw ex;
+                }
+
+                lastPage = toLastPage(firstPage, response);
+                nextPage = firstPage + 1;
+                prefetch();
+                current = response.getSearchResults().iterator();
+                continue;
+            }
+
+            final CompletableFuture<SearchResponse> page = prefetched.poll();
+            if (page == null) {
+                return false;
+            }
+
+            prefetch();
+            current = await(page).getSearchResults().iterator();
+        }
+
+        return true;
+    }
+
+    @Override
+    public SearchResult next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        return current.next();
+    }
+
+    /** Cancels any pages that are still being fetched. */
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        CompletableFuture<SearchResponse> page;
+        while ((page = prefetched.poll()) != null) {
+            page.cancel(true);
+        }
+    }
+
+    private void prefetch() {
+        while (nextPage <= lastPage && prefetched.size() < maxConcurrency) {
+            prefetched.add(lookup(nextPage++));
+        }
+    }
+
+    private CompletableFuture<SearchResponse> lookup(final int page) {
+        try {
+            return pageLookup.apply(page);
+        } catch (final RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private SearchResponse await(final CompletableFuture<SearchResponse> page) {
+        try {
+            return page.join();
+        } catch (final CompletionException ex) {
+            close();
+            final Throwable cause = BulkExecutor.unwrap(ex);
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            throw ex;
+        } catch (final RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+}
@@ -77,6 +77,10 @@ public class FunctionalTestBase {
                 .build());
     }
 
+    protected int getRequestCount() {
+        return mockWebServer.getRequestCount();
+    }
+
     protected String getMockWebServerUrl() {
         return String.format("http://%s:%d", mockWebServer.getHostName(), mockWebServer.getPort());
     }
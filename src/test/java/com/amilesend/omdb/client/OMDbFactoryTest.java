@@ -0,0 +1,81 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client;
+
+import com.amilesend.omdb.client.concurrent.RateLimiter;
+import com.amilesend.omdb.client.connection.OmdbConnection;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OMDbFactoryTest {
+    @Test
+    public void getClient_withDistinctApiKeys_shouldShareConnection() {
+        final AtomicInteger numRateLimiters = new AtomicInteger();
+        final OMDbFactory factoryUnderTest = OMDbFactory.builder()
+                .rateLimiterProvider(apiKey -> {
+                    numRateLimiters.incrementAndGet();
+                    return RateLimiter.builder().requestsPerDay(1000L).build();
+                })
+                .build();
+
+        final OMDb first = factoryUnderTest.getClient("apiKey1");
+        final OMDb second = factoryUnderTest.getClient("apiKey2");
+        final OMDb firstAgain = factoryUnderTest.getClient("apiKey1");
+
+        assertAll(
+                () -> assertSame(first, firstAgain),
+                () -> assertNotSame(first, second),
+                () -> assertEquals(2, factoryUnderTest.getClientCount()),
+                () -> assertEquals(2, numRateLimiters.get()));
+    }
+
+    @Test
+    public void builder_withoutConnection_shouldShareDefaultHttpClient() {
+        final OmdbConnection first = OMDbFactory.builder().build().getConnection();
+        final OmdbConnection second = OMDbFactory.builder().userAgent("Other/1.0").build().getConnection();
+
+        assertAll(
+                () -> assertNotSame(first, second),
+                () -> assertSame(first.getHttpClient(), second.getHttpClient()),
+                () -> assertSame(first.getGsonFactory(), second.getGsonFactory()));
+    }
+
+    @Test
+    public void removeClient_withExistingClient_shouldRemoveClient() {
+        final OMDbFactory factoryUnderTest = OMDbFactory.builder().build();
+        final OMDb original = factoryUnderTest.getClient("apiKey");
+
+        factoryUnderTest.removeClient("apiKey");
+
+        assertAll(
+                () -> assertEquals(0, factoryUnderTest.getClientCount()),
+                () -> assertNotSame(original, factoryUnderTest.getClient("apiKey")));
+    }
+
+    @Test
+    public void getClient_withBlankApiKey_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> OMDbFactory.builder().build().getClient(" "));
+    }
+}
@@ -17,6 +17,13 @@
  */
 package com.amilesend.omdb.client;
 
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.cache.ResponseCache;
+import com.amilesend.omdb.client.concurrent.RateLimitExceededException;
+import com.amilesend.omdb.client.concurrent.RateLimiter;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.connection.OmdbRetryPolicy;
 import com.amilesend.omdb.client.model.movie.GetMovieBasedRequest;
 import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
 import com.amilesend.omdb.client.model.movie.GetMovieByTitleRequest;
@@ -37,10 +44,26 @@ import com.amilesend.omdb.client.model.tv.type.Season;
 import com.amilesend.omdb.client.model.tv.type.Series;
 import com.amilesend.omdb.client.model.type.Plot;
 import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import com.amilesend.omdb.client.parse.FieldProjection;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import static com.amilesend.omdb.client.data.DataHelper.Responses.EPISODE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.FAILURE;
 import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
 import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE_SEARCH;
 import static com.amilesend.omdb.client.data.DataHelper.Responses.SEASON;
@@ -52,7 +75,15 @@ import static com.amilesend.omdb.client.data.DataHelper.newMovieSearchResponse;
 import static com.amilesend.omdb.client.data.DataHelper.newSeason;
 import static com.amilesend.omdb.client.data.DataHelper.newSeries;
 import static com.amilesend.omdb.client.data.DataHelper.newSeriesSearchResponse;
+import static com.amilesend.omdb.client.data.DataHelper.newSeriesSearchResults;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class OMDbFunctionalTest extends FunctionalTestBase {
     private OMDb clientUnderTest;
@@ -82,6 +113,16 @@ public class OMDbFunctionalTest extends FunctionalTestBase {
                 .build());
     }
 
+    @Test
+    public void getMovie_withFailureResponse_shouldThrowException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final ResponseException thrown = assertThrows(ResponseException.class,
+                () -> clientUnderTest.getMovie(GetMovieByIdRequest.builder().imdbId("tt0000000").build()));
+
+        assertEquals("Movie not found!", thrown.getMessage());
+    }
+
     private void getMovie_withValidRequest_shouldReturnResponse(final GetMovieBasedRequest request) {
         setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
         final Movie expected = newMovie();
@@ -199,4 +240,482 @@ public class OMDbFunctionalTest extends FunctionalTestBase {
 
         assertEquals(expected, actual);
     }
+
+    @Test
+    public void searchAllSeries_withSinglePage_shouldReturnAllResults() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SERIES_SEARCH);
+
+        final List<SearchResult> actual = clientUnderTest
+                .searchAll(SearchSeriesRequest.builder().title("Game of Thrones").build())
+                .collect(Collectors.toList());
+
+        assertEquals(newSeriesSearchResults(), actual);
+    }
+
+    @Test
+    public void searchAllMovies_withNotFoundResponse_shouldReturnEmptyStream() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        try (final Stream<SearchResult> results =
+                     clientUnderTest.searchAll(SearchMovieRequest.builder().title("Unknown").build(), 2)) {
+            assertEquals(0L, results.count());
+        }
+    }
+
+    @Test
+    public void searchAllMovies_withServerError_shouldThrowException() {
+        setUpMockResponse(500);
+
+        try (final Stream<SearchResult> results =
+                     clientUnderTest.searchAll(SearchMovieRequest.builder().title("Unknown").build(), 2)) {
+            assertThrows(ResponseException.class, () -> results.findFirst());
+        }
+    }
+
+    @Test
+    public void searchExpandedSeries_withValidRequest_shouldLookUpEveryResult() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SERIES_SEARCH);
+        for (int i = 0; i < newSeriesSearchResults().size(); ++i) {
+            setUpMockResponse(SUCCESS_STATUS_CODE, SERIES);
+        }
+
+        final List<BulkResult<Series>> actual = clientUnderTest
+                .searchExpanded(SearchSeriesRequest.builder().title("Game of Thrones").build(), 2)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(newSeriesSearchResults().size(), actual.size()),
+                () -> assertTrue(actual.stream().allMatch(BulkResult::isSuccess)),
+                () -> assertEquals(newSeries(), actual.get(0).getValue()));
+    }
+
+    @Test
+    public void publishSearchSeries_withValidRequest_shouldPublishAllResults() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SERIES_SEARCH);
+
+        final List<SearchResult> actual = collect(clientUnderTest.publishSearch(
+                SearchSeriesRequest.builder().title("Game of Thrones").build(), 2));
+
+        assertEquals(newSeriesSearchResults(), actual);
+    }
+
+    @Test
+    public void publishMovies_withValidRequests_shouldPublishAllResults() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final List<BulkResult<Movie>> actual = collect(clientUnderTest.publishMovies(
+                List.of(
+                        GetMovieByIdRequest.builder().imdbId("tt0172495").build(),
+                        GetMovieByIdRequest.builder().imdbId("tt0172496").build()),
+                2));
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertTrue(actual.stream().allMatch(BulkResult::isSuccess)));
+    }
+
+    @Test
+    public void getMovie_withRetryPolicyAndServerError_shouldRetry() {
+        setUpMockResponse(503);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final Movie actual = newClientWithRetryPolicy(null)
+                .getMovie(GetMovieByIdRequest.builder().imdbId("tt0172495").build());
+
+        assertAll(
+                () -> assertEquals(newMovie(), actual),
+                () -> assertEquals(2, getRequestCount()));
+    }
+
+    @Test
+    public void getMovie_withRetryPolicyAndFailureResponse_shouldNotRetry() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final FailureResponseException thrown = assertThrows(FailureResponseException.class,
+                () -> newClientWithRetryPolicy(null)
+                        .getMovie(GetMovieByIdRequest.builder().imdbId("tt0172495").build()));
+
+        assertAll(
+                () -> assertEquals("Movie not found!", thrown.getMessage()),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void getMovie_withDefaultRetryPolicyAndServerError_shouldNotRetry() {
+        setUpMockResponse(503);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        assertThrows(ResponseException.class,
+                () -> clientUnderTest.getMovie(GetMovieByIdRequest.builder().imdbId("tt0172495").build()));
+
+        assertEquals(1, getRequestCount());
+    }
+
+    ////////////////
+    // async APIs
+    ////////////////
+
+    @Test
+    public void getMovieAsync_withRetryPolicyAndServerError_shouldRetry() {
+        setUpMockResponse(500);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final Movie actual = newClientWithRetryPolicy(null)
+                .getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0172495").build())
+                .join();
+
+        assertEquals(newMovie(), actual);
+    }
+
+    @Test
+    public void getMovieAsync_withRetryPolicyAndRateLimiter_shouldAcquirePermitPerAttempt() {
+        final RateLimiter rateLimiter = RateLimiter.builder()
+                .requestsPerDay(1L)
+                .mode(RateLimiter.Mode.FAIL_FAST)
+                .ticker(() -> 0L)
+                .build();
+        setUpMockResponse(502);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> newClientWithRetryPolicy(rateLimiter)
+                        .getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0172495").build())
+                        .join());
+
+        assertAll(
+                () -> assertInstanceOf(RateLimitExceededException.class, thrown.getCause()),
+                () -> assertEquals(1, getRequestCount()));
+    }
+
+    @Test
+    public void getMovieAsync_withCancelledRequestWaitingForPermit_shouldNotIssueCall() {
+        final AtomicLong ticker = new AtomicLong();
+        final RateLimiter rateLimiter = RateLimiter.builder()
+                .requestsPerDay(1L)
+                .ticker(ticker::get)
+                .build();
+        final OMDb client = OMDb.builder()
+                .apiKey("apiKey")
+                .connection(getConnection())
+                .rateLimiter(rateLimiter)
+                .build();
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        client.getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0172495").build()).join();
+
+        final CompletableFuture<Movie> actual =
+                client.getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0172496").build());
+        actual.cancel(true);
+
+        ticker.addAndGet(Duration.ofDays(1L).toNanos());
+        assertAll(
+                () -> assertTrue(actual.isCancelled()),
+                () -> assertEquals(1, getRequestCount()),
+                () -> assertTrue(rateLimiter.tryAcquire()));
+    }
+
+    @Test
+    public void getMovieAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final Movie actual = clientUnderTest.getMovieAsync(GetMovieByIdRequest.builder()
+                .imdbId("tt0172495")
+                .build())
+                .join();
+
+        assertEquals(newMovie(), actual);
+    }
+
+    @Test
+    public void getSeasonAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SEASON);
+
+        final Season actual = clientUnderTest.getSeasonAsync(GetSeasonByIdRequest.builder()
+                .imdbId("tt0944947")
+                .season(1)
+                .build())
+                .join();
+
+        assertEquals(newSeason(), actual);
+    }
+
+    @Test
+    public void searchAsync_withValidRequest_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SERIES_SEARCH);
+
+        final SearchResponse actual =
+                clientUnderTest.searchAsync(SearchSeriesRequest.builder().title("Game of Thrones").build()).join();
+
+        assertEquals(newSeriesSearchResponse(), actual);
+    }
+
+    @Test
+    public void getMovieAsync_withFailureResponse_shouldCompleteExceptionally() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> clientUnderTest.getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0000000").build())
+                        .join());
+
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class, thrown.getCause()),
+                () -> assertEquals("Movie not found!", thrown.getCause().getMessage()));
+    }
+
+    @Test
+    public void getMovieAsync_withServerError_shouldCompleteExceptionally() {
+        setUpMockResponse(500);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> clientUnderTest.getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt0172495").build())
+                        .join());
+
+        assertInstanceOf(ResponseException.class, thrown.getCause());
+    }
+
+    ///////////////
+    // bulk APIs
+    ///////////////
+
+    @Test
+    public void getMovies_withDuplicateAndFailedRequests_shouldReturnResultsInOrder() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+        final GetMovieByIdRequest found = GetMovieByIdRequest.builder().imdbId("tt0172495").build();
+        final GetMovieByIdRequest notFound = GetMovieByIdRequest.builder().imdbId("tt0000000").build();
+
+        final List<BulkResult<Movie>> actual = clientUnderTest.getMovies(List.of(found, notFound, found), 1);
+
+        assertAll(
+                () -> assertEquals(2, actual.size()),
+                () -> assertEquals(found, actual.get(0).getRequest()),
+                () -> assertEquals(newMovie(), actual.get(0).getValue()),
+                () -> assertEquals(notFound, actual.get(1).getRequest()),
+                () -> assertInstanceOf(ResponseException.class, actual.get(1).getError()));
+    }
+
+    ////////////////////
+    // response cache
+    ////////////////////
+
+    @Test
+    public void getMovie_withResponseCache_shouldServeRepeatedRequestFromCache() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        final ResponseCache cache = ResponseCache.builder()
+                .maximumWeightBytes(1024L * 1024L)
+                .build();
+        final OMDb cachingClient = OMDb.builder()
+                .apiKey("apiKey")
+                .connection(getConnection())
+                .responseCache(cache)
+                .build();
+        final GetMovieByIdRequest request = GetMovieByIdRequest.builder().imdbId("tt0172495").build();
+
+        final Movie first = cachingClient.getMovie(request);
+        final Movie second = cachingClient.getMovieAsync(request).join();
+
+        assertAll(
+                () -> assertEquals(newMovie(), first),
+                () -> assertSame(first, second),
+                () -> assertEquals(1L, cache.getStats().getHitCount()),
+                () -> assertEquals(1L, cache.getStats().getLoadSuccessCount()));
+    }
+
+    //////////////////////
+    // field projection
+    //////////////////////
+
+    @Test
+    public void getMovie_withProjection_shouldOnlyMaterializeProjectedFields() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        final Movie expected = newMovie();
+
+        final Movie actual = clientUnderTest.getMovie(
+                GetMovieByIdRequest.builder().imdbId("tt0172495").build(),
+                FieldProjection.of("imdbID", "Title", "Year", "imdbRating"));
+
+        assertAll(
+                () -> assertEquals(expected.getImdbId(), actual.getImdbId()),
+                () -> assertEquals(expected.getTitle(), actual.getTitle()),
+                () -> assertEquals(expected.getYear(), actual.getYear()),
+                () -> assertEquals(expected.getImdbRating(), actual.getImdbRating()),
+                () -> assertNull(actual.getPlot()),
+                () -> assertNull(actual.getReleased()),
+                () -> assertTrue(actual.getActors().isEmpty()),
+                () -> assertTrue(actual.getRatings().isEmpty()));
+    }
+
+    @Test
+    public void getMovieAsync_withProjectionAndFailureResponse_shouldCompleteExceptionally() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> clientUnderTest.getMovieAsync(
+                        GetMovieByIdRequest.builder().imdbId("tt0000000").build(),
+                        FieldProjection.of("Title")).join());
+
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class, thrown.getCause()),
+                () -> assertEquals("Movie not found!", thrown.getCause().getMessage()));
+    }
+
+    @Test
+    public void getMovie_withProjectionAndResponseCache_shouldCacheProjectionSeparately() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        final ResponseCache cache = ResponseCache.builder()
+                .maximumWeightBytes(1024L * 1024L)
+                .build();
+        final OMDb cachingClient = OMDb.builder()
+                .apiKey("apiKey")
+                .connection(getConnection())
+                .responseCache(cache)
+                .build();
+        final GetMovieByIdRequest request = GetMovieByIdRequest.builder().imdbId("tt0172495").build();
+
+        final Movie projected = cachingClient.getMovie(request, FieldProjection.of("Title"));
+        final Movie full = cachingClient.getMovie(request);
+        final Movie projectedAgain = cachingClient.getMovie(request, FieldProjection.of("Title"));
+
+        assertAll(
+                () -> assertNull(projected.getPlot()),
+                () -> assertEquals(newMovie(), full),
+                () -> assertSame(projected, projectedAgain),
+                () -> assertEquals(2L, cache.getStats().getLoadSuccessCount()));
+    }
+
+    /////////////
+    // raw APIs
+    /////////////
+
+    @Test
+    public void getRaw_withValidRequest_shouldReturnResponseBody() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, SEASON);
+
+        final byte[] actual = clientUnderTest.getRaw(GetSeasonByIdRequest.builder()
+                .imdbId("tt0944947")
+                .season(1)
+                .build());
+
+        assertArrayEquals(SEASON.toBytes(), actual);
+    }
+
+    @Test
+    public void getRawAsync_withFailureResponse_shouldCompleteExceptionally() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> clientUnderTest.getRawAsync(GetMovieByIdRequest.builder().imdbId("tt0000000").build()).join());
+
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class, thrown.getCause()),
+                () -> assertEquals("Movie not found!", thrown.getCause().getMessage()));
+    }
+
+    @Test
+    public void writeRaw_withOutputStream_shouldWriteResponseBody() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final long actual = clientUnderTest.writeRaw(GetMovieByIdRequest.builder().imdbId("tt0172495").build(), out);
+
+        assertAll(
+                () -> assertArrayEquals(MOVIE.toBytes(), out.toByteArray()),
+                () -> assertEquals(out.size(), actual));
+    }
+
+    @Test
+    public void writeRaw_withChannel_shouldWriteResponseBody() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE_SEARCH);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final long actual = clientUnderTest.writeRaw(
+                SearchMovieRequest.builder().title("Gladiator").build(),
+                Channels.newChannel(out));
+
+        assertAll(
+                () -> assertArrayEquals(MOVIE_SEARCH.toBytes(), out.toByteArray()),
+                () -> assertEquals(out.size(), actual));
+    }
+
+    @Test
+    public void writeRaw_withFailureResponse_shouldNotWriteBody() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        final ResponseException thrown = assertThrows(ResponseException.class,
+                () -> clientUnderTest.writeRaw(GetMovieByIdRequest.builder().imdbId("tt0000000").build(), out));
+
+        assertAll(
+                () -> assertEquals("Movie not found!", thrown.getMessage()),
+                () -> assertEquals(0, out.size()));
+    }
+
+    @Test
+    public void getRaw_withResponseCache_shouldCacheSeparatelyFromParsedResponse() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+        final ResponseCache cache = ResponseCache.builder()
+                .maximumWeightBytes(1024L * 1024L)
+                .build();
+        final OMDb cachingClient = OMDb.builder()
+                .apiKey("apiKey")
+                .connection(getConnection())
+                .responseCache(cache)
+                .build();
+        final GetMovieByIdRequest request = GetMovieByIdRequest.builder().imdbId("tt0172495").build();
+
+        final Movie parsed = cachingClient.getMovie(request);
+        final byte[] raw = cachingClient.getRaw(request);
+        raw[0] = 0;
+        final byte[] rawAgain = cachingClient.getRaw(request);
+
+        assertAll(
+                () -> assertEquals(newMovie(), parsed),
+                () -> assertArrayEquals(MOVIE.toBytes(), rawAgain),
+                () -> assertEquals(1L, cache.getStats().getHitCount()),
+                () -> assertEquals(2L, cache.getStats().getLoadSuccessCount()));
+    }
+
+    private static <T> List<T> collect(final Flow.Publisher<T> publisher) {
+        final List<T> items = new CopyOnWriteArrayList<>();
+        final CompletableFuture<List<T>> result = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final T item) {
+                items.add(item);
+            }
+
+            @Override
+            public void onError(final Throwable error) {
+                result.completeExceptionally(error);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(items);
+            }
+        });
+
+        return result.join();
+    }
+
+    private OMDb newClientWithRetryPolicy(final RateLimiter rateLimiter) {
+        return OMDb.builder()
+                .apiKey("apiKey")
+                .connection(getConnection())
+                .rateLimiter(rateLimiter)
+                .retryPolicy(OmdbRetryPolicy.builder()
+                        .baseDelay(Duration.ofMillis(1L))
+                        .maxDelay(Duration.ofMillis(5L))
+                        .build())
+                .build();
+    }
 }
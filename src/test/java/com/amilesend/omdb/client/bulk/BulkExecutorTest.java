@@ -0,0 +1,130 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkExecutorTest {
+    @Test
+    public void executeAll_withDuplicateRequests_shouldReturnDistinctResultsInInputOrder() {
+        final GetMovieByIdRequest first = newRequest("tt1");
+        final GetMovieByIdRequest second = newRequest("tt2");
+        final GetMovieByIdRequest third = newRequest("tt3");
+        final AtomicInteger numLookups = new AtomicInteger();
+
+        final List<BulkResult<String>> actual = BulkExecutor.executeAll(
+                List.of(second, first, second, third, first),
+                2,
+                (GetMovieByIdRequest r) -> {
+                    numLookups.incrementAndGet();
+                    return CompletableFuture.completedFuture(r.getImdbId());
+                }).join();
+
+        assertAll(
+                () -> assertEquals(3, numLookups.get()),
+                () -> assertEquals(List.of("tt2", "tt1", "tt3"), List.of(
+                        actual.get(0).getValue(),
+                        actual.get(1).getValue(),
+                        actual.get(2).getValue())),
+                () -> assertEquals(second, actual.get(0).getRequest()));
+    }
+
+    @Test
+    public void executeAll_withFailedLookup_shouldReturnFailureAsValue() {
+        final GetMovieByIdRequest valid = newRequest("tt1");
+        final GetMovieByIdRequest invalid = newRequest("tt2");
+
+        final List<BulkResult<String>> actual = BulkExecutor.executeAll(
+                List.of(invalid, valid),
+                1,
+                (GetMovieByIdRequest r) -> r == invalid
+                        ? CompletableFuture.failedFuture(new ResponseException("Movie not found!"))
+                        : CompletableFuture.completedFuture(r.getImdbId())).join();
+
+        assertAll(
+                () -> assertFalse(actual.get(0).isSuccess()),
+                () -> assertInstanceOf(ResponseException.class, actual.get(0).getError()),
+                () -> assertTrue(actual.get(1).isSuccess()),
+                () -> assertEquals("tt1", actual.get(1).getValue()));
+    }
+
+    @Test
+    public void executeAll_withMaxConcurrency_shouldBoundRequestsInFlight() {
+        final List<CompletableFuture<String>> pending = Collections.synchronizedList(new ArrayList<>());
+        final List<GetMovieByIdRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            requests.add(newRequest("tt" + i));
+        }
+
+        final CompletableFuture<List<BulkResult<String>>> actual = BulkExecutor.executeAll(
+                requests,
+                3,
+                (GetMovieByIdRequest r) -> {
+                    final CompletableFuture<String> future = new CompletableFuture<>();
+                    pending.add(future);
+                    return future;
+                });
+
+        int numCompleted = 0;
+        while (numCompleted < requests.size()) {
+            assertTrue(pending.size() - numCompleted <= 3);
+            pending.get(numCompleted).complete("value" + numCompleted);
+            ++numCompleted;
+        }
+
+        assertAll(
+                () -> assertTrue(actual.isDone()),
+                () -> assertEquals(10, actual.join().size()),
+                () -> assertEquals("value9", actual.join().get(9).getValue()));
+    }
+
+    @Test
+    public void executeAll_withEmptyRequests_shouldReturnEmptyList() {
+        assertTrue(BulkExecutor.executeAll(
+                List.<GetMovieByIdRequest>of(),
+                1,
+                (GetMovieByIdRequest r) -> CompletableFuture.completedFuture(r)).join().isEmpty());
+    }
+
+    @Test
+    public void executeAll_withInvalidConcurrency_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> BulkExecutor.executeAll(
+                List.of(newRequest("tt1")),
+                0,
+                (GetMovieByIdRequest r) -> CompletableFuture.completedFuture(r)));
+    }
+
+    private static GetMovieByIdRequest newRequest(final String imdbId) {
+        return GetMovieByIdRequest.builder().imdbId(imdbId).build();
+    }
+}
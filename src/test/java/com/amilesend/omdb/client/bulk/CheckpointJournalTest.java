@@ -0,0 +1,91 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.client.connection.ResponseException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CheckpointJournalTest {
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void load_withRecordedEntries_shouldReturnIds() throws IOException {
+        final Path path = tempDir.resolve("journal");
+        try (CheckpointJournal journal = CheckpointJournal.open(path)) {
+            journal.completed("tt1");
+            journal.failed("tt2", new ResponseException("Incorrect\tIMDb\nID."));
+            journal.completed("tt3");
+        }
+
+        assertAll(
+                () -> assertEquals(Set.of("tt1", "tt3"), CheckpointJournal.load(path, false)),
+                () -> assertEquals(Set.of("tt1", "tt2", "tt3"), CheckpointJournal.load(path, true)),
+                () -> assertEquals(3L, Files.readAllLines(path, StandardCharsets.UTF_8).size()));
+    }
+
+    @Test
+    public void load_withMissingJournal_shouldReturnEmptySet() throws IOException {
+        assertTrue(CheckpointJournal.load(tempDir.resolve("missing"), true).isEmpty());
+    }
+
+    @Test
+    public void load_withIncompleteLastLine_shouldIgnoreLastLine() throws IOException {
+        final Path path = tempDir.resolve("journal");
+        Files.writeString(path, "C\ttt1\nbogus\nC\ttt12", StandardCharsets.UTF_8);
+
+        assertEquals(Set.of("tt1"), CheckpointJournal.load(path, true));
+    }
+
+    @Test
+    public void open_withIncompleteLastLine_shouldDiscardIncompleteLine() throws IOException {
+        final Path path = tempDir.resolve("journal");
+        Files.writeString(path, "C\ttt1\nC\ttt12", StandardCharsets.UTF_8);
+
+        try (CheckpointJournal journal = CheckpointJournal.open(path)) {
+            journal.completed("tt2");
+        }
+
+        assertEquals(Set.of("tt1", "tt2"), CheckpointJournal.load(path, false));
+    }
+
+    @Test
+    public void completed_withoutFlush_shouldNotWriteEntries() throws IOException {
+        final Path path = tempDir.resolve("journal");
+        try (CheckpointJournal journal = CheckpointJournal.open(path)) {
+            journal.completed("tt1");
+
+            assertEquals(0L, Files.size(path));
+
+            journal.flush();
+
+            assertEquals(Set.of("tt1"), CheckpointJournal.load(path, false));
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.bulk;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.OMDb;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EnrichmentPipelineTest {
+    @TempDir
+    private Path tempDir;
+    @Mock
+    private OMDb mockClient;
+
+    @Test
+    public void run_withIdsFile_shouldWriteCompactedRecordsAndJournal() throws IOException {
+        final Path idsPath = tempDir.resolve("ids.txt");
+        Files.writeString(idsPath, "tt1\n\n tt2 \ntt1\n", StandardCharsets.UTF_8);
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary actual = newPipeline(null).run(idsPath);
+
+        assertAll(
+                () -> assertEquals(2L, actual.getSuccessCount()),
+                () -> assertEquals(1L, actual.getSkippedCount()),
+                () -> assertFalse(actual.isAborted()),
+                () -> assertEquals(
+                        List.of("{\"Title\":\"Title tt1\",\"imdbID\":\"tt1\",\"Response\":\"True\"}",
+                                "{\"Title\":\"Title tt2\",\"imdbID\":\"tt2\",\"Response\":\"True\"}"),
+                        Files.readAllLines(getOutputPath(), StandardCharsets.UTF_8)),
+                () -> assertEquals(Set.of("tt1", "tt2"), CheckpointJournal.load(getJournalPath(), false)));
+    }
+
+    @Test
+    public void run_withJournaledIds_shouldSkipFinishedWork() throws IOException {
+        Files.writeString(getJournalPath(), "C\ttt1\nF\ttt2\tIncorrect IMDb ID.\n", StandardCharsets.UTF_8);
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary actual = newPipeline(null).run(List.of("tt1", "tt2", "tt3").iterator());
+
+        assertAll(
+                () -> assertEquals(1L, actual.getSuccessCount()),
+                () -> assertEquals(2L, actual.getSkippedCount()),
+                () -> verify(mockClient, times(1)).getRawAsync(any(QueryParameterBasedRequest.class)),
+                () -> assertEquals(1L, Files.readAllLines(getOutputPath(), StandardCharsets.UTF_8).size()));
+    }
+
+    @Test
+    public void run_withFailedIdAndRetryFailed_shouldJournalFailureAndRetry() throws IOException {
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new FailureResponseException("Incorrect IMDb ID.")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary first = newPipeline(null).run(List.of("tt1").iterator());
+        final EnrichmentSummary second = newPipeline(Boolean.TRUE).run(List.of("tt1").iterator());
+
+        assertAll(
+                () -> assertEquals(1L, first.getFailureCount()),
+                () -> assertEquals(1L, second.getSuccessCount()),
+                () -> assertEquals(Set.of("tt1"), CheckpointJournal.load(getJournalPath(), false)));
+    }
+
+    @Test
+    public void run_withRequestLimitReached_shouldAbortWithoutJournalingRemainingIds() throws IOException {
+        final AtomicInteger numRequests = new AtomicInteger();
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class))).thenAnswer(invocation ->
+                numRequests.incrementAndGet() == 2
+                        ? CompletableFuture.failedFuture(new FailureResponseException("Request limit reached!"))
+                        : CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary actual = EnrichmentPipeline.builder()
+                .client(mockClient)
+                .outputPath(getOutputPath())
+                .journalPath(getJournalPath())
+                .maxConcurrency(1)
+                .build()
+                .run(List.of("tt1", "tt2", "tt3").iterator());
+
+        assertAll(
+                () -> assertTrue(actual.isAborted()),
+                () -> assertInstanceOf(FailureResponseException.class, actual.getAbortCause()),
+                () -> assertEquals(1L, actual.getSuccessCount()),
+                () -> assertEquals(0L, actual.getFailureCount()),
+                () -> assertEquals(2, numRequests.get()),
+                () -> assertEquals(Set.of("tt1"), CheckpointJournal.load(getJournalPath(), true)));
+    }
+
+    @Test
+    public void run_withIncompleteLastRecord_shouldDiscardItBeforeAppending() throws IOException {
+        Files.writeString(getOutputPath(), "{\"Title\":\"Title tt1\",\"imdbID\":\"tt1\",\"Response\":\"True\"}\n"
+                + "{\"Title\":\"Tit", StandardCharsets.UTF_8);
+        Files.writeString(getJournalPath(), "C\ttt1\n", StandardCharsets.UTF_8);
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary actual = newPipeline(null).run(List.of("tt1", "tt2").iterator());
+
+        assertAll(
+                () -> assertEquals(1L, actual.getSuccessCount()),
+                () -> assertEquals(
+                        List.of("{\"Title\":\"Title tt1\",\"imdbID\":\"tt1\",\"Response\":\"True\"}",
+                                "{\"Title\":\"Title tt2\",\"imdbID\":\"tt2\",\"Response\":\"True\"}"),
+                        Files.readAllLines(getOutputPath(), StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void run_withTransientFailure_shouldDeferIdToNextRun() throws IOException {
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(
+                        new RequestException("Unable to execute request: reset", new IOException("reset"))))
+                .thenReturn(CompletableFuture.failedFuture(new ResponseException("Error with service response: 503")))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(newBody(invocation.getArgument(0))));
+
+        final EnrichmentSummary first = newPipeline(null, 1).run(List.of("tt1", "tt2").iterator());
+        final EnrichmentSummary second = newPipeline(null, 1).run(List.of("tt1", "tt2").iterator());
+
+        assertAll(
+                () -> assertFalse(first.isAborted()),
+                () -> assertEquals(2L, first.getDeferredCount()),
+                () -> assertEquals(0L, first.getFailureCount()),
+                () -> assertEquals(2L, second.getSuccessCount()),
+                () -> assertEquals(Set.of("tt1", "tt2"), CheckpointJournal.load(getJournalPath(), false)));
+    }
+
+    @Test
+    public void run_withRejectedRequest_shouldAbortWithoutJournaling() throws IOException {
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RequestException("Error with request: 401", null)));
+
+        final EnrichmentSummary actual = newPipeline(null, 1).run(List.of("tt1", "tt2").iterator());
+
+        assertAll(
+                () -> assertTrue(actual.isAborted()),
+                () -> assertEquals(0L, actual.getFailureCount()),
+                () -> verify(mockClient, times(1)).getRawAsync(any(QueryParameterBasedRequest.class)),
+                () -> assertTrue(CheckpointJournal.load(getJournalPath(), true).isEmpty()));
+    }
+
+    @Test
+    public void defaultAbortCondition_withInvalidApiKey_shouldAbort() {
+        assertAll(
+                () -> assertTrue(EnrichmentPipeline.DEFAULT_ABORT_CONDITION.test(
+                        new FailureResponseException("Invalid API key!"))),
+                () -> assertFalse(EnrichmentPipeline.DEFAULT_ABORT_CONDITION.test(
+                        new FailureResponseException("Incorrect IMDb ID."))));
+    }
+
+    @Test
+    public void run_withManyIds_shouldBoundRequestsInFlight() throws IOException {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        when(mockClient.getRawAsync(any(QueryParameterBasedRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            final QueryParameterBasedRequest request = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return newBody(request);
+            }, CompletableFuture.delayedExecutor(10L, TimeUnit.MILLISECONDS));
+        });
+
+        final EnrichmentSummary actual =
+                newPipeline(null, 3).run(List.of("tt1", "tt2", "tt3", "tt4", "tt5").iterator());
+
+        assertAll(
+                () -> assertEquals(5L, actual.getSuccessCount()),
+                () -> assertEquals(3, maxInFlight.get()),
+                () -> assertEquals(5L, Files.readAllLines(getOutputPath(), StandardCharsets.UTF_8).size()));
+    }
+
+    @Test
+    public void builder_withInvalidMaxConcurrency_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> newPipeline(null, 0));
+    }
+
+    private EnrichmentPipeline newPipeline(final Boolean retryFailed) {
+        return newPipeline(retryFailed, 2);
+    }
+
+    private EnrichmentPipeline newPipeline(final Boolean retryFailed, final int maxConcurrency) {
+        return EnrichmentPipeline.builder()
+                .client(mockClient)
+                .outputPath(getOutputPath())
+                .journalPath(getJournalPath())
+                .maxConcurrency(maxConcurrency)
+                .retryFailed(retryFailed)
+                .build();
+    }
+
+    private Path getOutputPath() {
+        return tempDir.resolve("output.ndjson");
+    }
+
+    private Path getJournalPath() {
+        return tempDir.resolve("output.journal");
+    }
+
+    private static byte[] newBody(final QueryParameterBasedRequest request) {
+        final String imdbId = ((GetMovieByIdRequest) request).getImdbId();
+        return ("{\n  \"Title\": \"Title " + imdbId + "\",\n  \"imdbID\": \"" + imdbId + "\",\n"
+                + "  \"Response\": \"True\"\n}").getBytes(StandardCharsets.UTF_8);
+    }
+}
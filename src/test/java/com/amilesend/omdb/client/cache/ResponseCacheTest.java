@@ -0,0 +1,270 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.cache;
+
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.RawMedia;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseCacheTest {
+    private static final Weigher UNIT_WEIGHER = (key, value) -> 1L;
+
+    private final AtomicLong ticker = new AtomicLong();
+    private ResponseCache cacheUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        cacheUnderTest = ResponseCache.builder()
+                .maximumWeightBytes(100L)
+                .weigher(UNIT_WEIGHER)
+                .ticker(ticker::get)
+                .build();
+    }
+
+    @Test
+    public void get_withRepeatedKey_shouldLoadOnce() {
+        final AtomicInteger numLoads = new AtomicInteger();
+
+        final String first = cacheUnderTest.get("i=tt1", String.class, () -> "value" + numLoads.incrementAndGet());
+        final String second = cacheUnderTest.get("i=tt1", String.class, () -> "value" + numLoads.incrementAndGet());
+
+        final CacheStats stats = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertEquals("value1", first),
+                () -> assertEquals("value1", second),
+                () -> assertEquals(1, numLoads.get()),
+                () -> assertEquals(1L, stats.getHitCount()),
+                () -> assertEquals(1L, stats.getMissCount()),
+                () -> assertEquals(0.5D, stats.getHitRate()));
+    }
+
+    @Test
+    public void get_withLoaderException_shouldNotCacheAndRecordFailure() {
+        assertThrows(IllegalStateException.class, () -> cacheUnderTest.get("i=tt1", String.class, () -> {
+            throw new IllegalStateException("failure");
+        }));
+
+        assertAll(
+                () -> assertEquals(0, cacheUnderTest.getEstimatedSize()),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getLoadFailureCount()));
+    }
+
+    @Test
+    public void getAsync_withRepeatedKey_shouldLoadOnce() {
+        final AtomicInteger numLoads = new AtomicInteger();
+
+        cacheUnderTest.getAsync("i=tt1", String.class,
+                () -> CompletableFuture.completedFuture("value" + numLoads.incrementAndGet())).join();
+        final String actual = cacheUnderTest.getAsync("i=tt1", String.class,
+                () -> CompletableFuture.completedFuture("value" + numLoads.incrementAndGet())).join();
+
+        assertAll(
+                () -> assertEquals("value1", actual),
+                () -> assertEquals(1, numLoads.get()));
+    }
+
+    @Test
+    public void getAsync_withCancelledResult_shouldCancelLoad() {
+        final CompletableFuture<String> load = new CompletableFuture<>();
+
+        final CompletableFuture<String> actual = cacheUnderTest.getAsync("i=tt1", String.class, () -> load);
+        actual.cancel(true);
+
+        assertAll(
+                () -> assertTrue(load.isCancelled()),
+                () -> assertNull(cacheUnderTest.getIfPresent("i=tt1", String.class)),
+                () -> assertEquals(1L, cacheUnderTest.getStats().getLoadFailureCount()));
+    }
+
+    @Test
+    public void getAsync_withFailedLoad_shouldCompleteExceptionally() {
+        final IllegalStateException expected = new IllegalStateException("Failure");
+
+        final CompletableFuture<String> actual = cacheUnderTest.getAsync("i=tt1", String.class,
+                () -> CompletableFuture.failedFuture(expected));
+
+        final CompletionException thrown = assertThrows(CompletionException.class, actual::join);
+        assertEquals(expected, thrown.getCause());
+    }
+
+    @Test
+    public void getIfPresent_withExpiredEntry_shouldReturnNull() {
+        final ResponseCache cache = ResponseCache.builder()
+                .maximumWeightBytes(100L)
+                .weigher(UNIT_WEIGHER)
+                .ticker(ticker::get)
+                .defaultTimeToLive(Duration.ofNanos(100L))
+                .timeToLive(Integer.class, Duration.ofNanos(10L))
+                .build();
+        cache.put("string", "value");
+        cache.put("integer", 1);
+
+        ticker.addAndGet(50L);
+
+        assertAll(
+                () -> assertEquals("value", cache.getIfPresent("string", String.class)),
+                () -> assertNull(cache.getIfPresent("integer", Integer.class)),
+                () -> assertEquals(1L, cache.getStats().getExpirationCount()));
+    }
+
+    @Test
+    public void getIfPresent_withMismatchedType_shouldReturnNull() {
+        cacheUnderTest.put("key", "value");
+
+        assertNull(cacheUnderTest.getIfPresent("key", Integer.class));
+    }
+
+    @Test
+    public void put_withWeightExceedingMaximum_shouldEvictToBound() {
+        for (int i = 0; i < 250; ++i) {
+            cacheUnderTest.put("key" + i, i);
+        }
+
+        final CacheStats stats = cacheUnderTest.getStats();
+        assertAll(
+                () -> assertEquals(100L, cacheUnderTest.getWeightedSize()),
+                () -> assertEquals(100, cacheUnderTest.getEstimatedSize()),
+                () -> assertEquals(150L, stats.getEvictionCount()),
+                () -> assertEquals(150L, stats.getEvictionWeight()));
+    }
+
+    @Test
+    public void put_withFrequentlyAccessedEntries_shouldRetainThemDuringScan() {
+        for (int i = 0; i < 50; ++i) {
+            cacheUnderTest.put("hot" + i, i);
+        }
+        for (int round = 0; round < 5; ++round) {
+            for (int i = 0; i < 50; ++i) {
+                cacheUnderTest.getIfPresent("hot" + i, Integer.class);
+            }
+        }
+
+        // A one-off scan that is larger than the cache should not flush the frequently accessed entries
+        for (int i = 0; i < 1000; ++i) {
+            cacheUnderTest.put("scan" + i, i);
+        }
+
+        int numRetained = 0;
+        for (int i = 0; i < 50; ++i) {
+            if (cacheUnderTest.getIfPresent("hot" + i, Integer.class) != null) {
+                ++numRetained;
+            }
+        }
+        assertEquals(50, numRetained);
+    }
+
+    @Test
+    public void put_withEntryHeavierThanMaximum_shouldNotCache() {
+        final ResponseCache cache = ResponseCache.builder()
+                .maximumWeightBytes(10L)
+                .weigher((key, value) -> 11L)
+                .build();
+
+        cache.put("key", "value");
+
+        assertEquals(0, cache.getEstimatedSize());
+    }
+
+    @Test
+    public void invalidate_withCachedEntry_shouldRemoveEntry() {
+        cacheUnderTest.put("key1", "value1");
+        cacheUnderTest.put("key2", "value2");
+
+        cacheUnderTest.invalidate("key1");
+
+        assertAll(
+                () -> assertNull(cacheUnderTest.getIfPresent("key1", String.class)),
+                () -> assertNotNull(cacheUnderTest.getIfPresent("key2", String.class)));
+
+        cacheUnderTest.invalidateAll();
+
+        assertAll(
+                () -> assertEquals(0, cacheUnderTest.getEstimatedSize()),
+                () -> assertEquals(0L, cacheUnderTest.getWeightedSize()));
+    }
+
+    @Test
+    public void builder_withInvalidMaximumWeight_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ResponseCache.builder().maximumWeightBytes(0L).build());
+    }
+
+    @Test
+    public void defaultWeigher_withRawMedia_shouldWeighRawBodySize() {
+        final byte[] body = "{\"Title\":\"Gladiator\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(96L + 2L * "key".length() + body.length,
+                ResponseCache.DEFAULT_WEIGHER.weigh("key", RawMedia.of(body)));
+    }
+
+    @Test
+    public void defaultWeigher_withByteArray_shouldUseLength() {
+        final byte[] body = "{\"Title\":\"Gladiator\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(96L + 2L * "key".length() + body.length, ResponseCache.DEFAULT_WEIGHER.weigh("key", body));
+    }
+
+    @Test
+    public void defaultWeigher_withParsedResponse_shouldGrowWithContent() {
+        final long shortTitle = ResponseCache.DEFAULT_WEIGHER.weigh("key", SearchResult.builder()
+                .title("Up")
+                .imdbId("tt1049413")
+                .type(MediaType.MOVIE)
+                .build());
+        final long longTitle = ResponseCache.DEFAULT_WEIGHER.weigh("key", SearchResult.builder()
+                .title("Dr. Strangelove or: How I Learned to Stop Worrying and Love the Bomb")
+                .imdbId("tt0057012")
+                .type(MediaType.MOVIE)
+                .build());
+
+        assertAll(
+                () -> assertTrue(shortTitle > 96L + 2L * "key".length()),
+                () -> assertEquals(
+                        "Dr. Strangelove or: How I Learned to Stop Worrying and Love the Bomb".length() - 2L,
+                        longTitle - shortTitle));
+    }
+
+    @Test
+    public void defaultWeigher_withParsedResponse_shouldNotRenderValue() {
+        final Object value = new Object() {
+            private final String title = "Gladiator";
+
+            @Override
+            public String toString() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        assertTrue(ResponseCache.DEFAULT_WEIGHER.weigh("key", value) > 96L + 2L * "key".length());
+    }
+}
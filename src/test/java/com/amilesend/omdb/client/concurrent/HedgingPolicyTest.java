@@ -0,0 +1,153 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import com.amilesend.client.connection.ResponseException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class HedgingPolicyTest {
+    @Test
+    public void executeAsync_withSlowPrimary_shouldUseHedgeAndCancelPrimary() {
+        final HedgingPolicy policy = newPolicy(1.0D);
+        final CopyOnWriteArrayList<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+        final Supplier<CompletableFuture<String>> call = () -> {
+            final CompletableFuture<String> future = new CompletableFuture<>();
+            if (!calls.isEmpty()) {
+                future.complete("hedge");
+            }
+            calls.add(future);
+            return future;
+        };
+
+        final String actual = policy.executeAsync(call).orTimeout(5L, TimeUnit.SECONDS).join();
+
+        assertAll(
+                () -> assertEquals("hedge", actual),
+                () -> assertEquals(2, calls.size()),
+                () -> assertTrue(calls.get(0).isCancelled()),
+                () -> assertEquals(1L, policy.getHedgeCount()));
+    }
+
+    @Test
+    public void executeAsync_withFastPrimary_shouldNotHedge() throws Exception {
+        final HedgingPolicy policy = newPolicy(1.0D);
+
+        final String actual = policy.executeAsync(() -> CompletableFuture.completedFuture("primary")).join();
+        TimeUnit.MILLISECONDS.sleep(50L);
+
+        assertAll(
+                () -> assertEquals("primary", actual),
+                () -> assertEquals(0L, policy.getHedgeCount()));
+    }
+
+    @Test
+    public void executeAsync_withExhaustedHedgeBudget_shouldNotHedge() {
+        final HedgingPolicy policy = newPolicy(0.0D);
+        final CompletableFuture<String> primary = new CompletableFuture<>();
+        final CompletableFuture<String> result = policy.executeAsync(
+                () -> primary,
+                () -> CompletableFuture.completedFuture("hedge"));
+
+        CompletableFuture.delayedExecutor(100L, TimeUnit.MILLISECONDS).execute(() -> primary.complete("primary"));
+
+        assertAll(
+                () -> assertEquals("primary", result.join()),
+                () -> assertEquals(0L, policy.getHedgeCount()));
+    }
+
+    @Test
+    public void executeAsync_withDeclinedHedge_shouldUsePrimary() {
+        final HedgingPolicy policy = newPolicy(1.0D);
+        final CompletableFuture<String> primary = new CompletableFuture<>();
+        final CompletableFuture<String> result = policy.executeAsync(() -> primary, () -> null);
+
+        CompletableFuture.delayedExecutor(100L, TimeUnit.MILLISECONDS).execute(() -> primary.complete("primary"));
+
+        assertAll(
+                () -> assertEquals("primary", result.join()),
+                () -> assertEquals(0L, policy.getHedgeCount()));
+    }
+
+    @Test
+    public void executeAsync_withPrimaryFailureAndHedgeInFlight_shouldUseHedge() {
+        final HedgingPolicy policy = newPolicy(1.0D);
+        final CompletableFuture<String> primary = new CompletableFuture<>();
+        final CompletableFuture<String> hedge = new CompletableFuture<>();
+        final CompletableFuture<String> result = policy.executeAsync(() -> primary, () -> {
+            CompletableFuture.delayedExecutor(10L, TimeUnit.MILLISECONDS).execute(() -> primary.completeExceptionally(
+                    new ResponseException("Error with service response: 503")));
+            CompletableFuture.delayedExecutor(50L, TimeUnit.MILLISECONDS).execute(() -> hedge.complete("hedge"));
+            return hedge;
+        });
+
+        assertEquals("hedge", result.orTimeout(5L, TimeUnit.SECONDS).join());
+    }
+
+    @Test
+    public void executeAsync_withBothFailing_shouldCompleteExceptionally() {
+        final HedgingPolicy policy = newPolicy(1.0D);
+        final CompletableFuture<String> primary = new CompletableFuture<>();
+        final CompletableFuture<String> result = policy.executeAsync(() -> primary, () -> {
+            CompletableFuture.delayedExecutor(10L, TimeUnit.MILLISECONDS).execute(
+                    () -> primary.completeExceptionally(new ResponseException("primary")));
+            return CompletableFuture.failedFuture(new ResponseException("hedge"));
+        });
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> result.orTimeout(5L, TimeUnit.SECONDS).join());
+
+        assertInstanceOf(ResponseException.class, thrown.getCause());
+    }
+
+    @Test
+    public void executeAsync_withRecordedLatencies_shouldDeriveDelayFromPercentile() {
+        final HedgingPolicy policy = HedgingPolicy.builder()
+                .percentile(0.5D)
+                .initialDelay(Duration.ofSeconds(1L))
+                .minDelay(Duration.ZERO)
+                .sampleSize(32)
+                .build();
+
+        for (int i = 0; i < 32; ++i) {
+            policy.executeAsync(() -> CompletableFuture.completedFuture("value")).join();
+        }
+
+        assertTrue(policy.getHedgeDelay().compareTo(Duration.ofMillis(100L)) < 0);
+    }
+
+    private static HedgingPolicy newPolicy(final double maxHedgeRatio) {
+        return HedgingPolicy.builder()
+                .maxHedgeRatio(maxHedgeRatio)
+                .initialDelay(Duration.ofMillis(20L))
+                .minDelay(Duration.ofMillis(1L))
+                .build();
+    }
+}
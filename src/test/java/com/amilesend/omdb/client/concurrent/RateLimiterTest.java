@@ -0,0 +1,228 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RateLimiterTest {
+    private final AtomicLong ticker = new AtomicLong();
+
+    @Test
+    public void acquire_withFailFastAndExhaustedPerSecondBudget_shouldThrowException() {
+        final RateLimiter limiter = newFailFastLimiter(2L, 0L);
+        limiter.acquire();
+        limiter.acquire();
+
+        final RateLimitExceededException thrown = assertThrows(RateLimitExceededException.class, limiter::acquire);
+
+        assertEquals(Duration.ofMillis(500L), thrown.getRetryAfter());
+    }
+
+    @Test
+    public void acquire_withFailFastAfterElapsedTime_shouldReplenishBudget() {
+        final RateLimiter limiter = newFailFastLimiter(2L, 0L);
+        limiter.acquire();
+        limiter.acquire();
+
+        ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(500L));
+
+        assertAll(
+                () -> assertTrue(limiter.tryAcquire()),
+                () -> assertFalse(limiter.tryAcquire()));
+    }
+
+    @Test
+    public void acquire_withFailFastAndExhaustedPerDayBudget_shouldNotConsumePerSecondBudget() {
+        final RateLimiter limiter = newFailFastLimiter(2L, 1L);
+        limiter.acquire();
+
+        final RateLimitExceededException thrown = assertThrows(RateLimitExceededException.class, limiter::acquire);
+
+        ticker.addAndGet(Duration.ofDays(1L).toNanos());
+        assertAll(
+                () -> assertTrue(thrown.getRetryAfter().compareTo(Duration.ofHours(23L)) > 0),
+                () -> assertTrue(limiter.tryAcquire()));
+    }
+
+    @Test
+    public void acquire_withBlockMode_shouldWaitForPermit() {
+        final RateLimiter limiter = RateLimiter.builder()
+                .requestsPerSecond(20L)
+                .build();
+        for (int i = 0; i < 20; ++i) {
+            limiter.acquire();
+        }
+
+        final long startTime = System.nanoTime();
+        limiter.acquire();
+
+        assertTrue(System.nanoTime() - startTime >= TimeUnit.MILLISECONDS.toNanos(40L));
+    }
+
+    @Test
+    public void acquire_withBlockModeAndWaitBeyondMaximum_shouldThrowException() {
+        final RateLimiter limiter = RateLimiter.builder()
+                .requestsPerDay(1L)
+                .maxWait(Duration.ofSeconds(1L))
+                .ticker(ticker::get)
+                .build();
+        limiter.acquire();
+
+        assertThrows(RateLimitExceededException.class, limiter::acquire);
+    }
+
+    @Test
+    public void acquire_withBlockModeAndInterruptedWhileWaiting_shouldReturnPermit() throws Exception {
+        final RateLimiter limiter = RateLimiter.builder()
+                .requestsPerDay(1L)
+                .ticker(ticker::get)
+                .build();
+        limiter.acquire();
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final Thread acquirer = new Thread(() -> {
+            try {
+                limiter.acquire();
+            } catch (final RuntimeException ex) {
+                thrown.set(ex);
+            }
+        });
+        acquirer.start();
+
+        acquirer.interrupt();
+        acquirer.join(TimeUnit.SECONDS.toMillis(5L));
+
+        ticker.addAndGet(Duration.ofDays(1L).toNanos());
+        assertAll(
+                () -> assertFalse(acquirer.isAlive()),
+                () -> assertInstanceOf(RateLimitExceededException.class, thrown.get()),
+                () -> assertTrue(limiter.tryAcquire()),
+                () -> assertFalse(limiter.tryAcquire()));
+    }
+
+    @Test
+    public void acquireAsync_withBlockMode_shouldCompleteAfterWait() {
+        final RateLimiter limiter = RateLimiter.builder()
+                .requestsPerSecond(20L)
+                .build();
+        for (int i = 0; i < 20; ++i) {
+            limiter.acquire();
+        }
+
+        final CompletableFuture<RateLimiter.Permit> permit = limiter.acquireAsync();
+
+        assertFalse(permit.isDone());
+        permit.join();
+    }
+
+    @Test
+    public void acquireAsync_withCancelledPendingPermit_shouldReturnPermit() {
+        final RateLimiter limiter = RateLimiter.builder()
+                .requestsPerDay(1L)
+                .ticker(ticker::get)
+                .build();
+        limiter.acquire();
+
+        final CompletableFuture<RateLimiter.Permit> permit = limiter.acquireAsync();
+        permit.cancel(true);
+
+        ticker.addAndGet(Duration.ofDays(1L).toNanos());
+        assertAll(
+                () -> assertTrue(limiter.tryAcquire()),
+                () -> assertFalse(limiter.tryAcquire()));
+    }
+
+    @Test
+    public void release_withUnusedPermit_shouldReturnPermitOnlyOnce() {
+        final RateLimiter limiter = newFailFastLimiter(0L, 2L);
+        final RateLimiter.Permit permit = limiter.acquire();
+        limiter.acquire();
+
+        permit.release();
+        permit.release();
+
+        assertAll(
+                () -> assertTrue(limiter.tryAcquire()),
+                () -> assertFalse(limiter.tryAcquire()));
+    }
+
+    @Test
+    public void acquireAsync_withFailFastAndExhaustedBudget_shouldCompleteExceptionally() {
+        final RateLimiter limiter = newFailFastLimiter(1L, 0L);
+        limiter.acquireAsync().join();
+
+        final CompletionException thrown =
+                assertThrows(CompletionException.class, () -> limiter.acquireAsync().join());
+
+        assertInstanceOf(RateLimitExceededException.class, thrown.getCause());
+    }
+
+    @Test
+    public void tryAcquire_withConcurrentCallers_shouldNotExceedBudget() throws Exception {
+        final RateLimiter limiter = newFailFastLimiter(0L, 1000L);
+        final AtomicInteger numAcquired = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 8; ++i) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 500; ++j) {
+                        if (limiter.tryAcquire()) {
+                            numAcquired.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10L, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1000, numAcquired.get());
+    }
+
+    @Test
+    public void builder_withNoBudget_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> RateLimiter.builder().build());
+    }
+
+    private RateLimiter newFailFastLimiter(final long requestsPerSecond, final long requestsPerDay) {
+        return RateLimiter.builder()
+                .requestsPerSecond(requestsPerSecond)
+                .requestsPerDay(requestsPerDay)
+                .mode(RateLimiter.Mode.FAIL_FAST)
+                .ticker(ticker::get)
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.concurrent;
+
+import com.amilesend.client.connection.ResponseException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SingleFlightTest {
+    private final SingleFlight singleFlightUnderTest = new SingleFlight();
+
+    @Test
+    @SneakyThrows
+    public void execute_withConcurrentCallers_shouldShareOneCall() {
+        final int numCallers = 8;
+        final AtomicInteger numLoads = new AtomicInteger();
+        final CountDownLatch isLoading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(numCallers);
+        try {
+            final Future<String> leader = executor.submit(() -> singleFlightUnderTest.execute("key", () -> {
+                numLoads.incrementAndGet();
+                isLoading.countDown();
+                awaitQuietly(release);
+                return "value";
+            }));
+            isLoading.await(5L, TimeUnit.SECONDS);
+
+            final List<Future<String>> followers = new ArrayList<>();
+            for (int i = 1; i < numCallers; ++i) {
+                followers.add(executor.submit(() -> singleFlightUnderTest.execute("key", () -> {
+                    numLoads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            waitForWaiters();
+            release.countDown();
+
+            assertEquals("value", leader.get(5L, TimeUnit.SECONDS));
+            for (final Future<String> follower : followers) {
+                assertEquals("value", follower.get(5L, TimeUnit.SECONDS));
+            }
+            assertAll(
+                    () -> assertEquals(1, numLoads.get()),
+                    () -> assertEquals(0, singleFlightUnderTest.getInFlightCount()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void execute_withSequentialCalls_shouldCallEachTime() {
+        final AtomicInteger numLoads = new AtomicInteger();
+
+        singleFlightUnderTest.execute("key", numLoads::incrementAndGet);
+        singleFlightUnderTest.execute("key", numLoads::incrementAndGet);
+
+        assertEquals(2, numLoads.get());
+    }
+
+    @Test
+    public void execute_withLoaderException_shouldRethrowException() {
+        final ResponseException expected = new ResponseException("failure");
+
+        final ResponseException thrown = assertThrows(ResponseException.class,
+                () -> singleFlightUnderTest.execute("key", () -> {
+                    throw expected;
+                }));
+
+        assertAll(
+                () -> assertSame(expected, thrown),
+                () -> assertEquals(0, singleFlightUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void executeAsync_withConcurrentCallers_shouldShareOneCall() {
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final AtomicInteger numLoads = new AtomicInteger();
+
+        final CompletableFuture<String> first = singleFlightUnderTest.executeAsync("key", () -> {
+            numLoads.incrementAndGet();
+            return source;
+        });
+        final CompletableFuture<String> second = singleFlightUnderTest.executeAsync("key", () -> {
+            numLoads.incrementAndGet();
+            return CompletableFuture.completedFuture("other");
+        });
+        source.complete("value");
+
+        assertAll(
+                () -> assertEquals("value", first.join()),
+                () -> assertEquals("value", second.join()),
+                () -> assertEquals(1, numLoads.get()),
+                () -> assertEquals(0, singleFlightUnderTest.getInFlightCount()));
+    }
+
+    @Test
+    public void executeAsync_withFailedCall_shouldFailAllCallers() {
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final CompletableFuture<String> first = singleFlightUnderTest.executeAsync("key", () -> source);
+        final CompletableFuture<String> second = singleFlightUnderTest.executeAsync("key", () -> source);
+
+        source.completeExceptionally(new ResponseException("failure"));
+
+        assertAll(
+                () -> assertInstanceOf(ResponseException.class,
+                        assertThrows(CompletionException.class, first::join).getCause()),
+                () -> assertInstanceOf(ResponseException.class,
+                        assertThrows(CompletionException.class, second::join).getCause()));
+    }
+
+    @Test
+    public void executeAsync_withOneCallerCancelled_shouldNotCancelCall() {
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final CompletableFuture<String> first = singleFlightUnderTest.executeAsync("key", () -> source);
+        final CompletableFuture<String> second = singleFlightUnderTest.executeAsync("key", () -> source);
+
+        first.cancel(true);
+        source.complete("value");
+
+        assertAll(
+                () -> assertFalse(source.isCancelled()),
+                () -> assertEquals("value", second.join()));
+    }
+
+    @Test
+    public void executeAsync_withAllCallersCancelled_shouldCancelCall() {
+        final CompletableFuture<String> source = new CompletableFuture<>();
+        final CompletableFuture<String> first = singleFlightUnderTest.executeAsync("key", () -> source);
+        final CompletableFuture<String> second = singleFlightUnderTest.executeAsync("key", () -> source);
+
+        first.cancel(true);
+        second.cancel(true);
+
+        assertAll(
+                () -> assertTrue(source.isCancelled()),
+                () -> assertEquals(0, singleFlightUnderTest.getInFlightCount()));
+    }
+
+    @SneakyThrows
+    private static void awaitQuietly(final CountDownLatch latch) {
+        latch.await(5L, TimeUnit.SECONDS);
+    }
+
+    @SneakyThrows
+    private static void waitForWaiters() {
+        // Followers block without a signal; allow them time to join the call in flight
+        Thread.sleep(100L);
+    }
+}
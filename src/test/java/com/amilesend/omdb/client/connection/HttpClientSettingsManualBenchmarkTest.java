@@ -0,0 +1,98 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.auth.NoOpAuthManager;
+import com.amilesend.omdb.client.OMDb;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.parse.GsonFactory;
+import lombok.extern.slf4j.Slf4j;
+import mockwebserver3.Dispatcher;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import okio.Buffer;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+
+/**
+ * Measures asynchronous lookup throughput against a local stand-in server with a fixed response latency as the
+ * dispatcher and connection pool limits scale. Run manually.
+ */
+@Slf4j
+@Disabled
+public class HttpClientSettingsManualBenchmarkTest {
+    private static final int NUM_REQUESTS = 1000;
+    private static final long SERVER_LATENCY_MILLIS = 50L;
+    private static final int[] CONCURRENCY_LEVELS = {5, 16, 32, 64, 128};
+
+    @Test
+    public void benchmarkThroughput_withIncreasingConcurrency() throws Exception {
+        final byte[] body = MOVIE.toBytes();
+        try (final MockWebServer server = new MockWebServer()) {
+            server.setDispatcher(new Dispatcher() {
+                @Override
+                public MockResponse dispatch(final RecordedRequest request) {
+                    return new MockResponse.Builder()
+                            .code(200)
+                            .addHeader("Content-Type", "application/json; charset=utf-8")
+                            .headersDelay(SERVER_LATENCY_MILLIS, TimeUnit.MILLISECONDS)
+                            .body(new Buffer().write(body))
+                            .build();
+                }
+            });
+            server.start();
+
+            for (final int concurrency : CONCURRENCY_LEVELS) {
+                final HttpClientSettings settings = HttpClientSettings.builder()
+                        .maxRequests(concurrency)
+                        .maxRequestsPerHost(concurrency)
+                        .maxIdleConnections(concurrency)
+                        .build();
+                final OMDb client = new OMDb("apiKey", new OmdbConnectionBuilder()
+                        .userAgent("Benchmark/1.0")
+                        .baseUrl(server.url("/").toString())
+                        .gsonFactory(new GsonFactory())
+                        .authManager(new NoOpAuthManager())
+                        .httpClientSettings(settings)
+                        .build());
+
+                final long startTime = System.nanoTime();
+                final List<CompletableFuture<Movie>> futures = new ArrayList<>(NUM_REQUESTS);
+                for (int i = 0; i < NUM_REQUESTS; ++i) {
+                    // Distinct identifiers so that requests are not coalesced
+                    futures.add(client.getMovieAsync(GetMovieByIdRequest.builder().imdbId("tt" + i).build()));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+                final double elapsedSeconds = (System.nanoTime() - startTime) / 1_000_000_000.0D;
+
+                log.info("maxRequestsPerHost={} requests={} elapsed={}s throughput={} req/s",
+                        concurrency, NUM_REQUESTS, String.format("%.2f", elapsedSeconds),
+                        String.format("%.1f", NUM_REQUESTS / elapsedSeconds));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HttpClientSettingsTest {
+    @Test
+    public void newHttpClient_withSettings_shouldConfigureClient() {
+        final HttpClientSettings settings = HttpClientSettings.builder()
+                .maxRequests(128)
+                .maxRequestsPerHost(32)
+                .maxIdleConnections(8)
+                .connectTimeout(Duration.ofSeconds(1L))
+                .readTimeout(Duration.ofSeconds(2L))
+                .writeTimeout(Duration.ofSeconds(3L))
+                .callTimeout(Duration.ofSeconds(4L))
+                .build();
+
+        final OkHttpClient actual = settings.newHttpClient();
+
+        assertAll(
+                () -> assertEquals(128, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(32, actual.dispatcher().getMaxRequestsPerHost()),
+                () -> assertEquals(1000, actual.connectTimeoutMillis()),
+                () -> assertEquals(2000, actual.readTimeoutMillis()),
+                () -> assertEquals(3000, actual.writeTimeoutMillis()),
+                () -> assertEquals(4000, actual.callTimeoutMillis()));
+    }
+
+    @Test
+    public void newHttpClient_withDefaults_shouldExceedOkHttpPerHostLimit() {
+        final OkHttpClient actual = HttpClientSettings.DEFAULT.newHttpClient();
+
+        assertAll(
+                () -> assertEquals(64, actual.dispatcher().getMaxRequests()),
+                () -> assertEquals(64, actual.dispatcher().getMaxRequestsPerHost()));
+    }
+
+    @Test
+    public void newHttpClient_withInvalidSettings_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> HttpClientSettings.builder().maxRequestsPerHost(0).build().newHttpClient());
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.parse.parser.BasicParser;
+import com.amilesend.omdb.client.FunctionalTestBase;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import okhttp3.Request;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.FAILURE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+import static com.amilesend.omdb.client.data.DataHelper.newMovie;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OmdbConnectionFunctionalTest extends FunctionalTestBase {
+    @Test
+    public void execute_withParserAndValidResponse_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final Movie actual = getConnection().execute(newRequest(), new BasicParser<>(Movie.class));
+
+        assertEquals(newMovie(), actual);
+    }
+
+    @Test
+    public void execute_withParserAndFailureResponse_shouldThrowException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final ResponseException thrown = assertThrows(ResponseException.class,
+                () -> getConnection().execute(newRequest(), new BasicParser<>(Movie.class)));
+
+        assertEquals("Movie not found!", thrown.getMessage());
+    }
+
+    @Test
+    public void execute_withReturnTypeAndValidResponse_shouldReturnResponse() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final Movie actual = getConnection().execute(newRequest(), Movie.class);
+
+        assertEquals(newMovie(), actual);
+    }
+
+    @Test
+    public void executeRaw_withValidResponse_shouldReturnBody() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final byte[] actual = getConnection().executeRaw(newRequest());
+
+        assertArrayEquals(MOVIE.toBytes(), actual);
+    }
+
+    @Test
+    public void executeRaw_withFailureResponse_shouldThrowException() {
+        setUpMockResponse(SUCCESS_STATUS_CODE, FAILURE);
+
+        final FailureResponseException thrown = assertThrows(FailureResponseException.class,
+                () -> getConnection().executeRaw(newRequest()));
+
+        assertEquals("Movie not found!", thrown.getMessage());
+    }
+
+    @Test
+    public void executeRawAsync_withValidResponse_shouldReturnBody() throws IOException {
+        setUpMockResponse(SUCCESS_STATUS_CODE, MOVIE);
+
+        final byte[] actual = getConnection().executeRawAsync(newRequest()).join();
+
+        assertArrayEquals(MOVIE.toBytes(), actual);
+    }
+
+    private Request newRequest() {
+        return getConnection().newRequestBuilder().url(getMockWebServerUrl()).build();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.auth.NoOpAuthManager;
+import com.amilesend.omdb.client.data.SerializedResource;
+import com.amilesend.omdb.client.model.FailureResponse;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.amilesend.omdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SEASON;
+
+/**
+ * Compares the single-pass, streaming {@link OmdbConnection#execute(okhttp3.Request, Class)} body handling with the
+ * previous path that copied the body into a {@code byte[]}, parsed it once into a {@link FailureResponse} to
+ * validate the status, and then parsed it again into the target type. Reports the time and the bytes allocated per
+ * response. Run manually.
+ */
+@Slf4j
+@Disabled
+public class OmdbConnectionParseManualBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private final OmdbConnection connection = new OmdbConnectionBuilder()
+            .baseUrl("http://localhost/")
+            .userAgent("Benchmark/1.0")
+            .gsonFactory(new GsonFactory())
+            .authManager(new NoOpAuthManager())
+            .httpClient(new OkHttpClient())
+            .build();
+    private final Gson gson = connection.getGsonFactory().getInstance(connection);
+
+    @Test
+    public void benchmarkParse_withMovie() throws Exception {
+        benchmark("Movie", MOVIE, Movie.class);
+    }
+
+    @Test
+    public void benchmarkParse_withSeason() throws Exception {
+        benchmark("Season", SEASON, Season.class);
+    }
+
+    private void benchmark(final String name, final SerializedResource resource, final Class<?> type)
+            throws Exception {
+        final byte[] wire = resource.toBytes();
+        final Result twoPass = measure(() -> parseTwoPass(wire, type));
+        final Result singlePass = measure(() -> parseSinglePass(wire, type));
+
+        log.info("{}: two-pass {} ns/op, {} B/op; single-pass {} ns/op, {} B/op ({}x faster, {}x fewer bytes)",
+                name,
+                twoPass.nanosPerOp,
+                twoPass.bytesPerOp,
+                singlePass.nanosPerOp,
+                singlePass.bytesPerOp,
+                String.format("%.2f", (double) twoPass.nanosPerOp / singlePass.nanosPerOp),
+                String.format("%.2f", (double) twoPass.bytesPerOp / singlePass.bytesPerOp));
+    }
+
+    /** The current path: the body is streamed and validated while it is parsed. */
+    private Object parseSinglePass(final byte[] wire, final Class<?> type) throws IOException {
+        return connection.parse(
+                new InputStreamReader(new ByteArrayInputStream(wire), StandardCharsets.UTF_8), type, null);
+    }
+
+    /** The previous path: readBody, then validateResponseBody, then the parser. */
+    private Object parseTwoPass(final byte[] wire, final Class<?> type) throws IOException {
+        final byte[] body;
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            new ByteArrayInputStream(wire).transferTo(outputStream);
+            body = outputStream.toByteArray();
+        }
+
+        final FailureResponse failureResponse = gson.fromJson(
+                new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8), FailureResponse.class);
+        final Boolean responseValue = failureResponse.getResponse();
+        if (Objects.isNull(responseValue) || !responseValue.booleanValue()) {
+            throw new ResponseException(failureResponse.getError());
+        }
+
+        return gson.fromJson(new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8), type);
+    }
+
+    private static Result measure(final ParseCall call) throws Exception {
+        long sink = 0L;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sink += call.parse().hashCode();
+        }
+
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            sink += call.parse().hashCode();
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        log.debug("sink={}", sink);
+        return new Result(elapsedNanos / MEASURED_ITERATIONS, allocatedBytes / MEASURED_ITERATIONS);
+    }
+
+    @FunctionalInterface
+    private interface ParseCall {
+        Object parse() throws Exception;
+    }
+
+    private static class Result {
+        private final long nanosPerOp;
+        private final long bytesPerOp;
+
+        Result(final long nanosPerOp, final long bytesPerOp) {
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.client.connection.RequestException;
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.client.connection.ResponseParseException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OmdbRetryPolicyTest {
+    private final OmdbRetryPolicy policyUnderTest = OmdbRetryPolicy.builder()
+            .maxAttempts(3)
+            .baseDelay(Duration.ofMillis(1L))
+            .maxDelay(Duration.ofMillis(5L))
+            .build();
+
+    @Test
+    public void execute_withTransientFailure_shouldRetryUntilSuccess() {
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        final String actual = policyUnderTest.execute(() -> {
+            if (numAttempts.incrementAndGet() < 3) {
+                throw new ResponseException("Error with service response: 503");
+            }
+            return "value";
+        });
+
+        assertAll(
+                () -> assertEquals("value", actual),
+                () -> assertEquals(3, numAttempts.get()));
+    }
+
+    @Test
+    public void execute_withPersistentFailure_shouldStopAtMaxAttempts() {
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        assertThrows(RequestException.class, () -> policyUnderTest.execute(() -> {
+            numAttempts.incrementAndGet();
+            throw new RequestException("Unable to execute request", new IOException("reset"));
+        }));
+
+        assertEquals(3, numAttempts.get());
+    }
+
+    @Test
+    public void execute_withFailureResponse_shouldNotRetry() {
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        final FailureResponseException thrown = assertThrows(FailureResponseException.class,
+                () -> policyUnderTest.execute(() -> {
+                    numAttempts.incrementAndGet();
+                    throw new FailureResponseException("Movie not found!");
+                }));
+
+        assertAll(
+                () -> assertEquals("Movie not found!", thrown.getMessage()),
+                () -> assertEquals(1, numAttempts.get()));
+    }
+
+    @Test
+    public void execute_withExhaustedRetryBudget_shouldNotRetry() {
+        final OmdbRetryPolicy policy = OmdbRetryPolicy.builder()
+                .maxAttempts(5)
+                .baseDelay(Duration.ofMillis(1L))
+                .maxDelay(Duration.ofMillis(1L))
+                .retryBudgetRatio(0.0D)
+                .minRetryTokens(2)
+                .build();
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        assertThrows(ResponseException.class, () -> policy.execute(() -> {
+            numAttempts.incrementAndGet();
+            throw new ResponseException("Error with service response: 500");
+        }));
+
+        assertAll(
+                () -> assertEquals(3, numAttempts.get()),
+                () -> assertEquals(0L, policy.getAvailableRetries()));
+    }
+
+    @Test
+    public void executeAsync_withTransientFailure_shouldRetryUntilSuccess() {
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        final String actual = policyUnderTest.executeAsync(() -> numAttempts.incrementAndGet() < 2
+                        ? CompletableFuture.failedFuture(new ResponseException("Error with service response: 502"))
+                        : CompletableFuture.completedFuture("value"))
+                .join();
+
+        assertAll(
+                () -> assertEquals("value", actual),
+                () -> assertEquals(2, numAttempts.get()));
+    }
+
+    @Test
+    public void executeAsync_withNonRetryableFailure_shouldCompleteExceptionally() {
+        final AtomicInteger numAttempts = new AtomicInteger();
+
+        final CompletionException thrown = assertThrows(CompletionException.class,
+                () -> policyUnderTest.executeAsync(() -> {
+                    numAttempts.incrementAndGet();
+                    return CompletableFuture.<String>failedFuture(new FailureResponseException("Movie not found!"));
+                }).join());
+
+        assertAll(
+                () -> assertInstanceOf(FailureResponseException.class, thrown.getCause()),
+                () -> assertEquals(1, numAttempts.get()));
+    }
+
+    @Test
+    public void executeAsync_withCancellation_shouldCancelAttemptInFlight() {
+        final CompletableFuture<String> attempt = new CompletableFuture<>();
+
+        policyUnderTest.executeAsync(() -> attempt).cancel(true);
+
+        assertTrue(attempt.isCancelled());
+    }
+
+    @Test
+    public void isRetryable_withFailureTypes_shouldClassifyFailures() {
+        assertAll(
+                () -> assertTrue(policyUnderTest.isRetryable(new ResponseException("500"))),
+                () -> assertTrue(policyUnderTest.isRetryable(
+                        new RequestException("timeout", new IOException("timeout")))),
+                () -> assertFalse(policyUnderTest.isRetryable(new RequestException("Error with request: 401", null))),
+                () -> assertFalse(policyUnderTest.isRetryable(new FailureResponseException("Request limit reached!"))),
+                () -> assertFalse(policyUnderTest.isRetryable(new ResponseParseException("bad", null))));
+    }
+}
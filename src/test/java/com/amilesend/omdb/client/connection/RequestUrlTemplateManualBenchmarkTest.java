@@ -0,0 +1,77 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.omdb.client.model.QueryParameterBasedRequest;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import com.amilesend.omdb.client.model.movie.GetMovieByTitleRequest;
+import com.amilesend.omdb.client.model.movie.SearchMovieRequest;
+import com.amilesend.omdb.client.model.tv.GetEpisodeByTitleRequest;
+import com.amilesend.omdb.client.model.tv.GetSeasonByIdRequest;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Measures the URL build cost per request type. Run manually. */
+@Slf4j
+@Disabled
+public class RequestUrlTemplateManualBenchmarkTest {
+    private static final int NUM_WARMUP_ITERATIONS = 200_000;
+    private static final int NUM_ITERATIONS = 1_000_000;
+
+    @Test
+    public void benchmarkNewUrl_perRequestType() {
+        final RequestUrlTemplate template = new RequestUrlTemplate("http://www.omdbapi.com/", "apiKey");
+        final Map<String, QueryParameterBasedRequest> requests = new LinkedHashMap<>();
+        requests.put("GetMovieByIdRequest", GetMovieByIdRequest.builder().imdbId("tt0172495").build());
+        requests.put("GetMovieByTitleRequest", GetMovieByTitleRequest.builder().title("Gladiator").year(2000).build());
+        requests.put("SearchMovieRequest", SearchMovieRequest.builder().title("Star Wars").page(2).build());
+        requests.put("GetSeasonByIdRequest", GetSeasonByIdRequest.builder().imdbId("tt0944947").season(1).build());
+        requests.put("GetEpisodeByTitleRequest", GetEpisodeByTitleRequest.builder()
+                .title("Game of Thrones")
+                .season(1)
+                .episode(1)
+                .build());
+
+        for (final Map.Entry<String, QueryParameterBasedRequest> entry : requests.entrySet()) {
+            final QueryParameterBasedRequest request = entry.getValue();
+            long blackhole = 0L;
+            for (int i = 0; i < NUM_WARMUP_ITERATIONS; ++i) {
+                blackhole += build(template, request);
+            }
+
+            final long startTime = System.nanoTime();
+            for (int i = 0; i < NUM_ITERATIONS; ++i) {
+                blackhole += build(template, request);
+            }
+            final long elapsedNanos = System.nanoTime() - startTime;
+
+            log.info("{}: {} ns/op ({})", entry.getKey(),
+                    String.format("%.1f", (double) elapsedNanos / NUM_ITERATIONS), blackhole);
+        }
+    }
+
+    private static int build(final RequestUrlTemplate template, final QueryParameterBasedRequest request) {
+        final HttpUrl url = template.newUrl(request);
+        return template.toRequestKey(url).length();
+    }
+}
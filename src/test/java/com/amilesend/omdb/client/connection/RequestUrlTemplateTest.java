@@ -0,0 +1,87 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.connection;
+
+import com.amilesend.omdb.client.model.movie.GetMovieByTitleRequest;
+import com.amilesend.omdb.client.model.tv.GetEpisodeByIdRequest;
+import com.amilesend.omdb.client.model.tv.SearchSeriesRequest;
+import com.amilesend.omdb.client.model.type.Plot;
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestUrlTemplateTest {
+    private final RequestUrlTemplate templateUnderTest =
+            new RequestUrlTemplate("http://www.omdbapi.com/", "api key&1");
+
+    @Test
+    public void newUrl_withTitleRequest_shouldEncodeEachParameterOnce() {
+        final HttpUrl actual = templateUnderTest.newUrl(GetMovieByTitleRequest.builder()
+                .title("Crouching Tiger, Hidden Dragon & More")
+                .year(2000)
+                .plot(Plot.FULL)
+                .build());
+
+        assertAll(
+                () -> assertEquals("www.omdbapi.com", actual.host()),
+                () -> assertEquals(List.of("api key&1"), actual.queryParameterValues("apikey")),
+                () -> assertEquals(List.of("json"), actual.queryParameterValues("r")),
+                () -> assertEquals("Crouching Tiger, Hidden Dragon & More", actual.queryParameter("t")),
+                () -> assertEquals("2000", actual.queryParameter("y")),
+                () -> assertEquals("full", actual.queryParameter("plot")),
+                () -> assertEquals("movie", actual.queryParameter("type")));
+    }
+
+    @Test
+    public void newUrl_withReservedCharacters_shouldPercentEncodeOnce() {
+        final HttpUrl actual = templateUnderTest.newUrl(SearchSeriesRequest.builder()
+                .title("Game of Thrones & 100%+")
+                .build());
+
+        assertAll(
+                () -> assertEquals("Game of Thrones & 100%+", actual.queryParameter("s")),
+                () -> assertTrue(actual.encodedQuery().contains("s=Game%20of%20Thrones%20%26%20100%25%2B"),
+                        actual.encodedQuery()));
+    }
+
+    @Test
+    public void toRequestKey_withUrl_shouldExcludePrefix() {
+        final HttpUrl url = templateUnderTest.newUrl(GetEpisodeByIdRequest.builder()
+                .imdbId("tt0944947")
+                .season(1)
+                .episode(2)
+                .build());
+
+        assertEquals("i=tt0944947&type=episode&Season=1&Episode=2", templateUnderTest.toRequestKey(url));
+    }
+
+    @Test
+    public void toRequestKey_withDifferentApiKeys_shouldReturnSameKey() {
+        final SearchSeriesRequest request = SearchSeriesRequest.builder().title("Game of Thrones").page(2).build();
+        final RequestUrlTemplate other = new RequestUrlTemplate("http://www.omdbapi.com/", "otherKey");
+
+        assertEquals(
+                templateUnderTest.toRequestKey(templateUnderTest.newUrl(request)),
+                other.toRequestKey(other.newUrl(request)));
+    }
+}
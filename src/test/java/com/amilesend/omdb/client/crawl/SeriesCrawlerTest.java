@@ -0,0 +1,217 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.crawl;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.OMDb;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.tv.GetEpisodeByIdRequest;
+import com.amilesend.omdb.client.model.tv.GetSeasonByIdRequest;
+import com.amilesend.omdb.client.model.tv.GetSeriesByTitleRequest;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.amilesend.omdb.client.model.tv.type.SeasonEpisode;
+import com.amilesend.omdb.client.model.tv.type.Series;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SeriesCrawlerTest {
+    private static final String SERIES_ID = "tt0944947";
+    private static final GetSeriesByTitleRequest REQUEST =
+            GetSeriesByTitleRequest.builder().title("Game of Thrones").build();
+
+    @Mock
+    private OMDb mockClient;
+
+    private final List<CrawlProgress> progressUpdates = new CopyOnWriteArrayList<>();
+    private SeriesCrawler crawlerUnderTest;
+
+    @BeforeEach
+    public void setUp() {
+        crawlerUnderTest = SeriesCrawler.builder()
+                .client(mockClient)
+                .maxConcurrency(2)
+                .progressListener(progressUpdates::add)
+                .build();
+    }
+
+    @Test
+    public void crawl_withValidSeries_shouldAssembleTree() {
+        final Series series = newSeries(2);
+        when(mockClient.getSeriesAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(series));
+        when(mockClient.getSeasonAsync(any(GetSeasonByIdRequest.class))).thenAnswer(invocation -> {
+            final GetSeasonByIdRequest request = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(newSeason(request.getSeason(), request.getSeason() + 1));
+        });
+        when(mockClient.getEpisodeAsync(any(GetEpisodeByIdRequest.class))).thenAnswer(invocation ->
+                CompletableFuture.completedFuture(newEpisode(invocation.getArgument(0))));
+
+        final CrawledSeries actual = crawlerUnderTest.crawl(REQUEST);
+
+        assertAll(
+                () -> assertSame(series, actual.getSeries()),
+                () -> assertTrue(actual.isComplete()),
+                () -> assertEquals(List.of(1, 2), actual.getSeasons().stream()
+                        .map(CrawledSeason::getNumber)
+                        .collect(Collectors.toList())),
+                () -> assertEquals(List.of("S1E1", "S1E2"), toEpisodeTitles(actual.getSeasons().get(0))),
+                () -> assertEquals(List.of("S2E1", "S2E2", "S2E3"), toEpisodeTitles(actual.getSeasons().get(1))),
+                () -> assertTrue(progressUpdates.get(progressUpdates.size() - 1).isDone()),
+                () -> assertEquals(5, progressUpdates.get(progressUpdates.size() - 1).getCompletedEpisodes()));
+    }
+
+    @Test
+    public void crawl_withFailedSeasonAndEpisode_shouldReturnPartialTree() {
+        final ResponseException seasonFailure = new ResponseException("Season not found!");
+        final ResponseException episodeFailure = new ResponseException("Episode not found!");
+        when(mockClient.getSeriesAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(newSeries(2)));
+        when(mockClient.getSeasonAsync(any(GetSeasonByIdRequest.class))).thenAnswer(invocation -> {
+            final GetSeasonByIdRequest request = invocation.getArgument(0);
+            return request.getSeason() == 1
+                    ? CompletableFuture.failedFuture(seasonFailure)
+                    : CompletableFuture.completedFuture(newSeason(2, 2));
+        });
+        when(mockClient.getEpisodeAsync(any(GetEpisodeByIdRequest.class))).thenAnswer(invocation -> {
+            final GetEpisodeByIdRequest request = invocation.getArgument(0);
+            return request.getEpisode() == 2
+                    ? CompletableFuture.failedFuture(episodeFailure)
+                    : CompletableFuture.completedFuture(newEpisode(request));
+        });
+
+        final CrawledSeries actual = crawlerUnderTest.crawl(REQUEST);
+
+        final CrawledSeason first = actual.getSeasons().get(0);
+        final CrawledSeason second = actual.getSeasons().get(1);
+        final CrawlProgress lastProgress = progressUpdates.get(progressUpdates.size() - 1);
+        assertAll(
+                () -> assertFalse(actual.isComplete()),
+                () -> assertNull(first.getSeason()),
+                () -> assertSame(seasonFailure, first.getError()),
+                () -> assertTrue(first.getEpisodes().isEmpty()),
+                () -> assertFalse(second.isComplete()),
+                () -> assertTrue(second.getEpisodes().get(0).isSuccess()),
+                () -> assertSame(episodeFailure, second.getEpisodes().get(1).getError()),
+                () -> assertTrue(lastProgress.isDone()),
+                () -> assertEquals(2, lastProgress.getFailures()));
+    }
+
+    @Test
+    public void crawl_withFailedSeries_shouldThrowException() {
+        final ResponseException failure = new ResponseException("Series not found!");
+        when(mockClient.getSeriesAsync(REQUEST)).thenReturn(CompletableFuture.failedFuture(failure));
+
+        final ResponseException thrown = assertThrows(ResponseException.class, () -> crawlerUnderTest.crawl(REQUEST));
+
+        assertAll(
+                () -> assertSame(failure, thrown),
+                () -> verify(mockClient, never()).getSeasonAsync(any(GetSeasonByIdRequest.class)));
+    }
+
+    @Test
+    public void crawl_withManyEpisodes_shouldBoundEpisodeConcurrency() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<CompletableFuture<Episode>> pending = new CopyOnWriteArrayList<>();
+        when(mockClient.getSeriesAsync(REQUEST)).thenReturn(CompletableFuture.completedFuture(newSeries(1)));
+        when(mockClient.getSeasonAsync(any(GetSeasonByIdRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(newSeason(1, 6)));
+        when(mockClient.getEpisodeAsync(any(GetEpisodeByIdRequest.class))).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            final CompletableFuture<Episode> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        });
+
+        final CompletableFuture<CrawledSeries> actual = crawlerUnderTest.crawlAsync(REQUEST);
+        while (!actual.isDone()) {
+            final CompletableFuture<Episode> next = pending.remove(0);
+            inFlight.decrementAndGet();
+            next.complete(Episode.builder().build());
+        }
+
+        assertAll(
+                () -> assertEquals(2, maxInFlight.get()),
+                () -> assertEquals(6, actual.join().getSeasons().get(0).getEpisodes().size()));
+    }
+
+    @Test
+    public void builder_withInvalidMaxConcurrency_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> SeriesCrawler.builder().client(mockClient).maxConcurrency(0).build());
+    }
+
+    private static List<String> toEpisodeTitles(final CrawledSeason season) {
+        return season.getEpisodes().stream()
+                .map(BulkResult::getValue)
+                .map(Episode::getTitle)
+                .collect(Collectors.toList());
+    }
+
+    private static Series newSeries(final int totalSeasons) {
+        return Series.builder()
+                .title("Game of Thrones")
+                .imdbId(SERIES_ID)
+                .totalSeasons(String.valueOf(totalSeasons))
+                .build();
+    }
+
+    private static Season newSeason(final int season, final int numEpisodes) {
+        return Season.builder()
+                .title("Game of Thrones")
+                .season(String.valueOf(season))
+                .episodes(IntStream.rangeClosed(1, numEpisodes)
+                        .mapToObj(i -> SeasonEpisode.builder()
+                                .title("S" + season + "E" + i)
+                                .episode(String.valueOf(i))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private static Episode newEpisode(final GetEpisodeByIdRequest request) {
+        return Episode.builder()
+                .title("S" + request.getSeason() + "E" + request.getEpisode())
+                .seriesId(request.getImdbId())
+                .season(String.valueOf(request.getSeason()))
+                .episode(String.valueOf(request.getEpisode()))
+                .build();
+    }
+}
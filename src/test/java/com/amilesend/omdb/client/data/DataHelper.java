@@ -237,6 +237,7 @@ public class DataHelper {
         public static final SerializedResource SERIES = new SerializedResource("/Series.json");
         public static final SerializedResource SEASON = new SerializedResource("/Season.json");
         public static final SerializedResource EPISODE = new SerializedResource("/Episode.json");
+        public static final SerializedResource FAILURE = new SerializedResource("/FailureResponse.json");
         public static final SerializedResource MOVIE_SEARCH =
                 new SerializedResource("/MovieSearchResponse.json");
         public static final SerializedResource SERIES_SEARCH =
@@ -0,0 +1,75 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.model;
+
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static com.amilesend.omdb.client.data.DataHelper.newMovie;
+
+/**
+ * Measures the time and the bytes allocated per call for the decoded {@code MediaBase} getters over a single
+ * cached instance. Allocation is measured with the per-thread allocation counter of the JVM. Run manually.
+ */
+@Slf4j
+@Disabled
+public class MediaBaseGetterManualBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 1_000_000;
+    private static final int MEASURED_ITERATIONS = 10_000_000;
+
+    @Test
+    public void benchmarkGetters_withCachedMovie() {
+        final com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        final Movie movie = newMovie();
+
+        long sink = 0L;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sink += callGetters(movie);
+        }
+
+        final long startBytes = threadBean.getThreadAllocatedBytes(threadId);
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            sink += callGetters(movie);
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final long allocatedBytes = threadBean.getThreadAllocatedBytes(threadId) - startBytes;
+
+        log.info("MediaBase getters: {} ns/op, {} bytes/op [sink={}]",
+                (double) elapsedNanos / MEASURED_ITERATIONS,
+                (double) allocatedBytes / MEASURED_ITERATIONS,
+                sink);
+    }
+
+    private static long callGetters(final Movie movie) {
+        return movie.getGenres().size()
+                + movie.getDirectors().size()
+                + movie.getWriters().size()
+                + movie.getActors().size()
+                + movie.getLanguages().size()
+                + movie.getCountries().size()
+                + movie.getImdbVotes()
+                + movie.getImdbRating().longValue();
+    }
+}
@@ -28,7 +28,11 @@ import java.util.List;
 import static com.amilesend.omdb.client.data.DataHelper.newMovie;
 import static com.amilesend.omdb.client.data.DataHelper.newMovieRatings;
 import static com.amilesend.omdb.client.data.DataHelper.newSeries;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class MediaBaseTest {
@@ -99,4 +103,51 @@ public class MediaBaseTest {
 
         assertTrue(actual.isEmpty());
     }
+
+    @Test
+    public void getGenres_withRepeatedCalls_shouldReturnSameInstance() {
+        final Movie movie = newMovie();
+
+        assertSame(movie.getGenres(), movie.getGenres());
+    }
+
+    @Test
+    public void getImdbVotes_withDelimitedValue_shouldReturnNumber() {
+        final Movie movie = Movie.builder().imdbVotes("1,234,567").imdbRating("8.1").build();
+
+        assertAll(
+                () -> assertEquals(1234567, movie.getImdbVotes()),
+                () -> assertEquals(8.1D, movie.getImdbRating()),
+                () -> assertSame(movie.getImdbVotes(), movie.getImdbVotes()));
+    }
+
+    @Test
+    public void getImdbRating_withNoValue_shouldReturnNull() {
+        final Movie movie = Movie.builder().build();
+
+        assertAll(
+                () -> assertNull(movie.getImdbRating()),
+                () -> assertNull(movie.getImdbVotes()));
+    }
+
+    @Test
+    public void getImdbRating_withMalformedValue_shouldThrowExceptionOnEachCall() {
+        final Movie movie = Movie.builder().imdbRating("invalid").genre("Drama").build();
+
+        assertAll(
+                () -> assertEquals(List.of("Drama"), movie.getGenres()),
+                () -> assertThrows(NumberFormatException.class, () -> movie.getImdbRating()),
+                () -> assertThrows(NumberFormatException.class, () -> movie.getImdbRating()));
+    }
+
+    @Test
+    public void equals_withDecodedAttributes_shouldIgnoreDecodedState() {
+        final Movie decoded = newMovie();
+        decoded.getGenres();
+
+        assertAll(
+                () -> assertEquals(newMovie(), decoded),
+                () -> assertEquals(newMovie().hashCode(), decoded.hashCode()),
+                () -> assertEquals(newMovie().toString(), decoded.toString()));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.model;
+
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.type.Media;
+import com.amilesend.omdb.client.model.type.RawMedia;
+import com.amilesend.omdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+
+/**
+ * Reports the retained heap per cached entry for fully materialized {@link Movie} objects compared with
+ * {@link RawMedia} flyweights over the same responses. Run manually with a fixed heap size (e.g.,
+ * {@code -Xms2g -Xmx2g}) for stable results.
+ */
+@Slf4j
+@Disabled
+public class RawMediaManualBenchmarkTest {
+    private static final int CATALOG_SIZE = 200_000;
+
+    @Test
+    public void reportFootprint_withMaterializedAndRawMedia() throws Exception {
+        final byte[] body = MOVIE.toBytes();
+        final Gson gson = new GsonFactory().getInstance(null);
+
+        final long materializedBytes = measureRetainedBytes(
+                copy -> gson.fromJson(new String(copy, StandardCharsets.UTF_8), Movie.class), body);
+        final long rawBytes = measureRetainedBytes(RawMedia::of, body);
+
+        log.info("Retained per entry: materialized={} bytes, raw={} bytes ({}x smaller)",
+                materializedBytes / CATALOG_SIZE,
+                rawBytes / CATALOG_SIZE,
+                (double) materializedBytes / rawBytes);
+    }
+
+    private static long measureRetainedBytes(final Function<byte[], Media> factory, final byte[] body)
+            throws InterruptedException {
+        final long baseline = usedHeapBytes();
+        final List<Media> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; ++i) {
+            // Each cached response retains its own copy of the body
+            catalog.add(factory.apply(Arrays.copyOf(body, body.length)));
+        }
+
+        final long retained = usedHeapBytes() - baseline;
+        if (catalog.size() != CATALOG_SIZE) {
+            throw new IllegalStateException("Unexpected catalog size");
+        }
+
+        return retained;
+    }
+
+    private static long usedHeapBytes() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            Thread.sleep(100L);
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.model;
+
+import com.amilesend.omdb.client.data.SerializedResource;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Series;
+import com.amilesend.omdb.client.model.type.Media;
+import com.amilesend.omdb.client.model.type.MediaBase;
+import com.amilesend.omdb.client.model.type.RawMedia;
+import com.amilesend.omdb.client.parse.GsonFactory;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.EPISODE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SERIES;
+import static com.amilesend.omdb.client.data.DataHelper.newMovie;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RawMediaTest {
+    private final Gson gson = new GsonFactory().getInstance(null);
+
+    @Test
+    public void accessors_withResponses_shouldMatchParsedModels() {
+        assertAll(
+                () -> assertMediaEquals(MOVIE, Movie.class),
+                () -> assertMediaEquals(SERIES, Series.class),
+                () -> assertMediaEquals(EPISODE, Episode.class));
+    }
+
+    @SneakyThrows
+    @Test
+    public void getString_withTypeSpecificFields_shouldReturnValue() {
+        final Movie expectedMovie = newMovie();
+        final RawMedia movie = RawMedia.of(MOVIE.toBytes());
+        final Episode expectedEpisode = gson.fromJson(new String(EPISODE.toBytes(), StandardCharsets.UTF_8),
+                Episode.class);
+        final RawMedia episode = RawMedia.of(EPISODE.toBytes());
+
+        assertAll(
+                () -> assertEquals(expectedMovie.getBoxOffice(), movie.getString("BoxOffice")),
+                () -> assertEquals(expectedMovie.getWebsite(), movie.getString("Website")),
+                () -> assertEquals(expectedEpisode.getSeriesId(), episode.getString("seriesID")),
+                () -> assertNull(movie.getString("Unknown")));
+    }
+
+    @Test
+    public void accessors_withEscapedAndMissingValues_shouldDecodeValues() {
+        final RawMedia actual = RawMedia.of(("{ \"Title\" : \"The \\\"Best\\\" \\u00e9\", \"Plot\":\"N/A\","
+                + "\"Unknown\":{\"Title\":[1,\"}\"]},\"Year\":2014,\"Genre\":\"\",\"Ratings\":[],"
+                + "\"Released\":\"2014-08-01\"}").getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertEquals("The \"Best\" \u00e9", actual.getTitle()),
+                () -> assertEquals("2014", actual.getYear()),
+                () -> assertEquals(LocalDate.of(2014, 8, 1), actual.getReleased()),
+                () -> assertNull(actual.getPlot()),
+                () -> assertNull(actual.getImdbRating()),
+                () -> assertTrue(actual.getGenres().isEmpty()),
+                () -> assertTrue(actual.getRatings().isEmpty()),
+                () -> assertTrue(actual.getActors().isEmpty()));
+    }
+
+    @Test
+    public void of_withWhitespace_shouldCompactBodyOutsideOfStrings() {
+        final RawMedia actual = RawMedia.of("{ \"Title\" :\n \"Gladiator  \\\" II\" }".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertEquals("{\"Title\":\"Gladiator  \\\" II\"}",
+                        new String(actual.toByteArray(), StandardCharsets.UTF_8)),
+                () -> assertEquals("Gladiator  \" II", actual.getTitle()));
+    }
+
+    @Test
+    public void of_withMalformedBody_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(JsonParseException.class,
+                        () -> RawMedia.of("[]".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThrows(JsonParseException.class,
+                        () -> RawMedia.of("{\"Title\":\"Unterminated".getBytes(StandardCharsets.UTF_8))),
+                () -> assertThrows(JsonParseException.class,
+                        () -> RawMedia.of("{\"Title\" \"Value\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @SneakyThrows
+    @Test
+    public void equals_withSameBody_shouldBeEqual() {
+        assertAll(
+                () -> assertEquals(RawMedia.of(MOVIE.toBytes()), RawMedia.of(MOVIE.toBytes())),
+                () -> assertEquals(RawMedia.of(MOVIE.toBytes()).hashCode(), RawMedia.of(MOVIE.toBytes()).hashCode()),
+                () -> assertNotEquals(RawMedia.of(MOVIE.toBytes()), RawMedia.of(SERIES.toBytes())));
+    }
+
+    @SneakyThrows
+    private <T extends MediaBase> void assertMediaEquals(final SerializedResource resource, final Class<T> type) {
+        final byte[] body = resource.toBytes();
+        final Media expected = gson.fromJson(new String(body, StandardCharsets.UTF_8), type);
+        final Media actual = RawMedia.of(body);
+
+        assertAll(
+                () -> assertEquals(expected.getTitle(), actual.getTitle()),
+                () -> assertEquals(expected.getYear(), actual.getYear()),
+                () -> assertEquals(expected.getRated(), actual.getRated()),
+                () -> assertEquals(expected.getReleased(), actual.getReleased()),
+                () -> assertEquals(expected.getRuntime(), actual.getRuntime()),
+                () -> assertEquals(expected.getPlot(), actual.getPlot()),
+                () -> assertEquals(expected.getAwards(), actual.getAwards()),
+                () -> assertEquals(expected.getPoster(), actual.getPoster()),
+                () -> assertEquals(expected.getMetascore(), actual.getMetascore()),
+                () -> assertEquals(expected.getImdbId(), actual.getImdbId()),
+                () -> assertEquals(expected.getRatings(), actual.getRatings()),
+                () -> assertEquals(expected.getImdbRating(), actual.getImdbRating()),
+                () -> assertEquals(expected.getImdbVotes(), actual.getImdbVotes()),
+                () -> assertEquals(expected.getGenres(), actual.getGenres()),
+                () -> assertEquals(expected.getDirectors(), actual.getDirectors()),
+                () -> assertEquals(expected.getWriters(), actual.getWriters()),
+                () -> assertEquals(expected.getActors(), actual.getActors()),
+                () -> assertEquals(expected.getLanguages(), actual.getLanguages()),
+                () -> assertEquals(expected.getCountries(), actual.getCountries()));
+    }
+}
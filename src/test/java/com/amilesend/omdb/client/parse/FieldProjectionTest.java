@@ -0,0 +1,47 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FieldProjectionTest {
+    @Test
+    public void of_withFieldNames_shouldCreateCanonicalProjection() {
+        final FieldProjection actual = FieldProjection.of("Year", "imdbID", "Title");
+
+        assertAll(
+                () -> assertEquals(Set.of("Title", "Year", "imdbID"), actual.getFieldNames()),
+                () -> assertEquals("Title,Year,imdbID", actual.getKey()),
+                () -> assertEquals(FieldProjection.of(Set.of("imdbID", "Title", "Year")), actual),
+                () -> assertTrue(actual.includes("Title")),
+                () -> assertFalse(actual.includes("Plot")));
+    }
+
+    @Test
+    public void of_withNoFieldNames_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> FieldProjection.of());
+    }
+}
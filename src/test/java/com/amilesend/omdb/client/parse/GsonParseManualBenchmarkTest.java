@@ -0,0 +1,112 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.omdb.client.data.SerializedResource;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SEASON;
+
+/**
+ * Measures the deserialization throughput of the configured {@link Gson} instance for representative movie and
+ * season responses, with and without a field projection, and the cost of the first parse with a new instance. Run
+ * manually.
+ */
+@Slf4j
+@Disabled
+public class GsonParseManualBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 100_000;
+
+    private final Gson gson = new GsonFactory().getInstance(null);
+
+    @Test
+    public void benchmarkParse_withMovie() throws Exception {
+        benchmark("Movie", MOVIE, Movie.class, null);
+    }
+
+    @Test
+    public void benchmarkParse_withProjectedMovie() throws Exception {
+        benchmark("Movie (projected)", MOVIE, Movie.class, FieldProjection.of("imdbID", "Title", "Year", "imdbRating"));
+    }
+
+    @Test
+    public void benchmarkParse_withSeason() throws Exception {
+        benchmark("Season", SEASON, Season.class, null);
+    }
+
+    @Test
+    public void benchmarkFirstParse_withNewGsonInstance() throws Exception {
+        final byte[] body = MOVIE.toBytes();
+        final long startNanos = System.nanoTime();
+        final Movie movie = (Movie) parse(new GsonFactory().getInstance(null), body, Movie.class, null);
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        log.info("First Movie parse with a new Gson instance: {} us [title={}]",
+                elapsedNanos / 1_000L,
+                movie.getTitle());
+    }
+
+    private void benchmark(
+            final String name,
+            final SerializedResource resource,
+            final Class<?> type,
+            final FieldProjection projection) throws Exception {
+        final byte[] body = resource.toBytes();
+        long sink = 0L;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sink += parse(gson, body, type, projection).hashCode();
+        }
+
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            sink += parse(gson, body, type, projection).hashCode();
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        log.info("{}: {} parses in {} ms ({} ns/op, {} ops/s) [sink={}]",
+                name,
+                MEASURED_ITERATIONS,
+                elapsedNanos / 1_000_000L,
+                elapsedNanos / MEASURED_ITERATIONS,
+                MEASURED_ITERATIONS * 1_000_000_000L / elapsedNanos,
+                sink);
+    }
+
+    private static Object parse(
+            final Gson gson,
+            final byte[] body,
+            final Class<?> type,
+            final FieldProjection projection) throws Exception {
+        final Reader reader = new InputStreamReader(new ByteArrayInputStream(body), StandardCharsets.UTF_8);
+        try (final ResponseStatusJsonReader jsonReader = new ResponseStatusJsonReader(reader, projection)) {
+            return gson.fromJson(jsonReader, type);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.omdb.client.model.FailureResponse;
+import com.amilesend.omdb.client.model.type.Rating;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseStatusJsonReaderTest {
+    private final Gson gson = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE).create();
+
+    @SneakyThrows
+    @Test
+    public void fromJson_withSuccessResponse_shouldParseTypeAndCaptureStatus() {
+        final String json = "{\"Source\":\"Metacritic\",\"Nested\":{\"Response\":\"False\"},"
+                + "\"Value\":\"67/100\",\"Response\":\"True\"}";
+
+        try (final ResponseStatusJsonReader reader = new ResponseStatusJsonReader(new StringReader(json))) {
+            final Rating actual = gson.fromJson(reader, Rating.class);
+            final FailureResponse status = reader.getFailureResponse();
+
+            assertAll(
+                    () -> assertEquals(new Rating("Metacritic", "67/100"), actual),
+                    () -> assertTrue(status.getResponse()),
+                    () -> assertNull(status.getError()));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void fromJson_withFailureResponse_shouldCaptureStatus() {
+        final String json = "{\"Response\":\"False\",\"Error\":\"Movie not found!\"}";
+
+        try (final ResponseStatusJsonReader reader = new ResponseStatusJsonReader(new StringReader(json))) {
+            final Rating actual = gson.fromJson(reader, Rating.class);
+            final FailureResponse status = reader.getFailureResponse();
+
+            assertAll(
+                    () -> assertNull(actual.getSource()),
+                    () -> assertFalse(status.getResponse()),
+                    () -> assertEquals("Movie not found!", status.getError()));
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void fromJson_withMissingStatus_shouldReturnFailedStatus() {
+        try (final ResponseStatusJsonReader reader = new ResponseStatusJsonReader(new StringReader("{}"))) {
+            gson.fromJson(reader, Rating.class);
+
+            assertFalse(reader.getFailureResponse().getResponse());
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void fromJson_withProjection_shouldSkipUnprojectedFieldsAndCaptureStatus() {
+        final String json = "{\"Source\":\"Metacritic\",\"Nested\":{\"Value\":\"1\"},"
+                + "\"Value\":\"67/100\",\"Response\":\"True\"}";
+
+        try (final ResponseStatusJsonReader reader =
+                     new ResponseStatusJsonReader(new StringReader(json), FieldProjection.of("Value"))) {
+            final Rating actual = gson.fromJson(reader, Rating.class);
+
+            assertAll(
+                    () -> assertEquals(new Rating(null, "67/100"), actual),
+                    () -> assertTrue(reader.getFailureResponse().getResponse()));
+        }
+    }
+}
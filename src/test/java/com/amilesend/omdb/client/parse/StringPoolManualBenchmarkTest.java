@@ -0,0 +1,81 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.google.gson.Gson;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+
+/**
+ * Reports the retained heap of a large in-memory catalog of parsed movies with and without a {@link StringPool}.
+ * Run manually with a fixed heap size (e.g., {@code -Xms2g -Xmx2g}) for stable results.
+ */
+@Slf4j
+@Disabled
+public class StringPoolManualBenchmarkTest {
+    private static final int CATALOG_SIZE = 200_000;
+
+    @Test
+    public void reportFootprint_withAndWithoutStringPool() throws Exception {
+        final String body = new String(MOVIE.toBytes(), StandardCharsets.UTF_8);
+
+        final long unpooledBytes = measureRetainedBytes(new GsonFactory().getInstance(null), body);
+        final StringPool stringPool = StringPool.builder().build();
+        final long pooledBytes = measureRetainedBytes(new GsonFactory(stringPool).getInstance(null), body);
+
+        log.info("Catalog of {} movies: unpooled={} MB, pooled={} MB, saved={} bytes/movie, pooled values={}",
+                CATALOG_SIZE,
+                unpooledBytes / (1024 * 1024),
+                pooledBytes / (1024 * 1024),
+                (unpooledBytes - pooledBytes) / CATALOG_SIZE,
+                stringPool.getSize());
+    }
+
+    private static long measureRetainedBytes(final Gson gson, final String body) throws InterruptedException {
+        final long baseline = usedHeapBytes();
+        final List<Movie> catalog = new ArrayList<>(CATALOG_SIZE);
+        for (int i = 0; i < CATALOG_SIZE; ++i) {
+            catalog.add(gson.fromJson(body, Movie.class));
+        }
+
+        final long retained = usedHeapBytes() - baseline;
+        if (catalog.size() != CATALOG_SIZE) {
+            throw new IllegalStateException("Unexpected catalog size");
+        }
+
+        return retained;
+    }
+
+    private static long usedHeapBytes() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+            Thread.sleep(100L);
+        }
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
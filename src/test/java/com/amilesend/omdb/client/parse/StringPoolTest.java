@@ -0,0 +1,83 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StringPoolTest {
+    @Test
+    public void builder_withDefaults_shouldUseDefaultSettings() {
+        final StringPool actual = StringPool.builder().build();
+
+        assertAll(
+                () -> assertEquals(StringPool.DEFAULT_MAX_SIZE, actual.getMaxSize()),
+                () -> assertEquals(StringPool.DEFAULT_FIELD_NAMES, actual.getFieldNames()),
+                () -> assertEquals(0, actual.getSize()));
+    }
+
+    @Test
+    public void builder_withInvalidMaxSize_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> StringPool.builder().maxSize(0).build());
+    }
+
+    @Test
+    public void intern_withEqualValues_shouldReturnPooledInstance() {
+        final StringPool poolUnderTest = StringPool.builder().build();
+        final String first = new String("PG-13");
+        final String second = new String("PG-13");
+
+        assertAll(
+                () -> assertSame(first, poolUnderTest.intern(first)),
+                () -> assertSame(first, poolUnderTest.intern(second)),
+                () -> assertEquals(1, poolUnderTest.getSize()),
+                () -> assertNull(poolUnderTest.intern(null)));
+    }
+
+    @Test
+    public void intern_withFullPool_shouldReturnValueWithoutPooling() {
+        final StringPool poolUnderTest = StringPool.builder().maxSize(1).build();
+        poolUnderTest.intern("PG-13");
+        final String value = new String("R");
+
+        assertAll(
+                () -> assertSame(value, poolUnderTest.intern(value)),
+                () -> assertNotSame(value, poolUnderTest.intern(new String("R"))),
+                () -> assertEquals(1, poolUnderTest.getSize()));
+    }
+
+    @Test
+    public void isPooled_withConfiguredFieldNames_shouldReturnMembership() {
+        final StringPool poolUnderTest = StringPool.builder().fieldNames(Set.of("Runtime")).build();
+
+        assertAll(
+                () -> assertTrue(poolUnderTest.isPooled("Runtime")),
+                () -> assertFalse(poolUnderTest.isPooled("Rated")),
+                () -> assertFalse(poolUnderTest.isPooled(null)));
+    }
+}
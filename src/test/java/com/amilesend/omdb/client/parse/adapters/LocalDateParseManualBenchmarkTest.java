@@ -0,0 +1,79 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse.adapters;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+import static com.amilesend.omdb.client.parse.adapters.LocalDateTypeAdapter.EPISODES_DATE_FORMATTER;
+import static com.amilesend.omdb.client.parse.adapters.LocalDateTypeAdapter.MOVIE_DATE_FORMATTER;
+
+/**
+ * Compares the character-based date parser against the formatter chain (movie format first, then the episode
+ * format) that it replaced. Run manually.
+ */
+@Slf4j
+@Disabled
+public class LocalDateParseManualBenchmarkTest {
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+    private static final String[] EPISODE_DATES = {"2014-08-01", "2015-02-14", "2016-11-30", "2017-06-09"};
+    private static final String[] MOVIE_DATES = {"01 Aug 2014", "14 Feb 2015", "30 Nov 2016", "09 Jun 2017"};
+
+    @Test
+    public void benchmarkParse_withEpisodeDates() {
+        benchmark("formatter chain (episode dates)", EPISODE_DATES,
+                LocalDateParseManualBenchmarkTest::parseWithFormatterChain);
+        benchmark("character parser (episode dates)", EPISODE_DATES, LocalDateTypeAdapter::parseKnownFormat);
+    }
+
+    @Test
+    public void benchmarkParse_withMovieDates() {
+        benchmark("formatter chain (movie dates)", MOVIE_DATES,
+                LocalDateParseManualBenchmarkTest::parseWithFormatterChain);
+        benchmark("character parser (movie dates)", MOVIE_DATES, LocalDateTypeAdapter::parseKnownFormat);
+    }
+
+    private static void benchmark(final String name, final String[] values, final Function<String, LocalDate> parser) {
+        long sink = 0L;
+        for (int i = 0; i < WARMUP_ITERATIONS; ++i) {
+            sink += parser.apply(values[i % values.length]).toEpochDay();
+        }
+
+        final long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; ++i) {
+            sink += parser.apply(values[i % values.length]).toEpochDay();
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+
+        log.info("{}: {} ns/op [sink={}]", name, elapsedNanos / MEASURED_ITERATIONS, sink);
+    }
+
+    private static LocalDate parseWithFormatterChain(final String value) {
+        try {
+            return LocalDate.parse(value, MOVIE_DATE_FORMATTER);
+        } catch (final DateTimeParseException ex) {
+            return LocalDate.parse(value, EPISODES_DATE_FORMATTER);
+        }
+    }
+}
@@ -17,82 +17,105 @@
  */
 package com.amilesend.omdb.client.parse.adapters;
 
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonNull;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Type;
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@ExtendWith(MockitoExtension.class)
 public class LocalDateTypeAdapterTest {
-    @Mock
-    private Type mockType;
-    @Mock
-    private JsonSerializationContext mockSerializationContext;
-    @Mock
-    private JsonDeserializationContext mockDeserializationContext;
     private LocalDateTypeAdapter adapterUnderTest = new LocalDateTypeAdapter();
 
     @Test
-    public void serialize_withValidLocalDate_shouldReturnJsonElement() {
+    public void write_withValidLocalDate_shouldWriteFormattedValue() {
         final LocalDate localDate = LocalDate.of(2020, 5, 28);
 
-        final JsonElement actual = adapterUnderTest.serialize(localDate, mockType, mockSerializationContext);
+        assertEquals("\"28 May 2020\"", adapterUnderTest.toJson(localDate));
+    }
 
-        assertAll(
-                () -> assertNotNull(actual),
-                () -> assertEquals("28 May 2020", actual.getAsString()));
+    @Test
+    public void write_withNull_shouldWriteJsonNull() {
+        assertEquals("null", adapterUnderTest.toJson(null));
     }
 
     @SneakyThrows
     @Test
-    public void deserialize_withJsonNull_shouldReturnNull() {
-        assertNull(adapterUnderTest.deserialize(JsonNull.INSTANCE, mockType, mockDeserializationContext));
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(adapterUnderTest.fromJson("null"));
     }
 
     @SneakyThrows
     @Test
-    public void deserialize_withBlankTimeValue_shouldReturnNull() {
-        final JsonElement emptyElement = new JsonPrimitive("");
-        assertNull(adapterUnderTest.deserialize(emptyElement, mockType, mockDeserializationContext));
+    public void read_withBlankTimeValue_shouldReturnNull() {
+        assertNull(adapterUnderTest.fromJson("\"\""));
     }
 
     @SneakyThrows
     @Test
-    public void deserialize_withMalformedFormat_shouldThrowException() {
-        final JsonElement malformedElement = new JsonPrimitive("Will not parse");
+    public void read_withNotAvailableValue_shouldReturnNull() {
+        assertNull(adapterUnderTest.fromJson("\"N/A\""));
+    }
 
+    @Test
+    public void read_withMalformedFormat_shouldThrowException() {
         final Throwable thrown = assertThrows(JsonParseException.class,
-                () -> adapterUnderTest.deserialize(malformedElement, mockType, mockDeserializationContext));
+                () -> adapterUnderTest.fromJson("\"Will not parse\""));
 
         assertInstanceOf(DateTimeParseException.class, thrown.getCause());
     }
 
     @SneakyThrows
     @Test
-    public void deserialize_withSpecFormat_shouldReturnLocalDate() {
-        final JsonElement specFormattedElement = new JsonPrimitive("28 May 2020");
+    public void read_withSpecFormat_shouldReturnLocalDate() {
+        assertEquals(LocalDate.of(2020, 5, 28), adapterUnderTest.fromJson("\"28 May 2020\""));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withEpisodeFormat_shouldReturnLocalDate() {
+        assertEquals(LocalDate.of(2020, 5, 28), adapterUnderTest.fromJson("\"2020-05-28\""));
+    }
+
+    @Test
+    public void parseKnownFormat_withEveryMonthAbbreviation_shouldReturnLocalDate() {
+        final String[] months = {"Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+        for (int i = 0; i < months.length; ++i) {
+            assertEquals(LocalDate.of(2014, i + 1, 1),
+                    LocalDateTypeAdapter.parseKnownFormat("01 " + months[i] + " 2014"));
+        }
+    }
+
+    @Test
+    public void parseKnownFormat_withLeapDay_shouldReturnLocalDate() {
+        assertAll(
+                () -> assertEquals(LocalDate.of(2020, 2, 29), LocalDateTypeAdapter.parseKnownFormat("29 Feb 2020")),
+                () -> assertEquals(LocalDate.of(2020, 2, 29), LocalDateTypeAdapter.parseKnownFormat("2020-02-29")));
+    }
+
+    @Test
+    public void parseKnownFormat_withUnrecognizedValue_shouldReturnNull() {
+        assertAll(
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("Will not parse")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("28 MAY 2020")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("28 Foo 2020")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("2020-1x-28")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("2020/05/28")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("2020-13-01")),
+                () -> assertNull(LocalDateTypeAdapter.parseKnownFormat("29 Feb 2019")));
+    }
 
-        final LocalDate actual =
-                adapterUnderTest.deserialize(specFormattedElement, mockType, mockDeserializationContext);
+    @Test
+    public void read_withInvalidMonth_shouldThrowException() {
+        final Throwable thrown = assertThrows(JsonParseException.class,
+                () -> adapterUnderTest.fromJson("\"2020-13-01\""));
 
-        assertEquals(LocalDate.of(2020, 5, 28), actual);
+        assertInstanceOf(DateTimeParseException.class, thrown.getCause());
     }
 }
@@ -18,50 +18,41 @@
 package com.amilesend.omdb.client.parse.adapters;
 
 import com.amilesend.omdb.client.model.type.MediaType;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
-
-import java.lang.reflect.Type;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@ExtendWith(MockitoExtension.class)
 public class MediaTypeTypeAdapterTest {
-    @Mock
-    private Type mockType;
-    @Mock
-    private JsonSerializationContext mockSerializationContext;
-    @Mock
-    private JsonDeserializationContext mockDeserializationContext;
     private MediaTypeTypeAdapter adapterUnderTest = new MediaTypeTypeAdapter();
 
     @Test
-    public void serialize_withMediaType_shouldReturnValue() {
-        final JsonElement actual = adapterUnderTest.serialize(MediaType.MOVIE, mockType, mockSerializationContext);
-        assertEquals("movie", actual.getAsString());
+    public void write_withMediaType_shouldWriteValue() {
+        assertEquals("\"movie\"", adapterUnderTest.toJson(MediaType.MOVIE));
     }
 
+    @SneakyThrows
     @Test
-    public void deserialize_withValidMediaTypeValue_shouldReturnMediaType() {
-        final JsonElement element = new JsonPrimitive("series");
+    public void read_withValidMediaTypeValue_shouldReturnMediaType() {
+        assertEquals(MediaType.SERIES, adapterUnderTest.fromJson("\"series\""));
+    }
 
-        final MediaType actual = adapterUnderTest.deserialize(element, mockType, mockDeserializationContext);
+    @SneakyThrows
+    @Test
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(adapterUnderTest.fromJson("null"));
+    }
 
-        assertEquals(MediaType.SERIES, actual);
+    @Test
+    public void read_withUnknownMediaTypeValue_shouldThrowException() {
+        assertThrows(JsonParseException.class, () -> adapterUnderTest.fromJson("\"unknown_value\""));
     }
 
     @Test
-    public void deserialize_withUnknownMediaTypeValue_shouldThrowException() {
-        final JsonElement element = new JsonPrimitive("unknown_value");
-        assertThrows(JsonParseException.class,
-                () -> adapterUnderTest.deserialize(element, mockType, mockDeserializationContext));
+    public void read_withBlankValue_shouldThrowException() {
+        assertThrows(JsonParseException.class, () -> adapterUnderTest.fromJson("\"\""));
     }
 }
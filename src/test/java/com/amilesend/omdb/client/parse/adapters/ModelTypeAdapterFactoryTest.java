@@ -0,0 +1,137 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.parse.adapters;
+
+import com.amilesend.omdb.client.data.SerializedResource;
+import com.amilesend.omdb.client.model.movie.type.Movie;
+import com.amilesend.omdb.client.model.tv.type.Episode;
+import com.amilesend.omdb.client.model.tv.type.Season;
+import com.amilesend.omdb.client.model.tv.type.Series;
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.Rating;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.parse.GsonFactory;
+import com.amilesend.omdb.client.parse.StringPool;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static com.amilesend.omdb.client.data.DataHelper.Responses.EPISODE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.MOVIE_SEARCH;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SEASON;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SERIES;
+import static com.amilesend.omdb.client.data.DataHelper.Responses.SERIES_SEARCH;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ModelTypeAdapterFactoryTest {
+    private final Gson gsonUnderTest = new GsonFactory().getInstance(null);
+    private final Gson reflectionGson = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.UPPER_CAMEL_CASE)
+            .registerTypeAdapter(String.class, new StringTypeAdaptor())
+            .registerTypeAdapter(LocalDate.class, new LocalDateTypeAdapter())
+            .registerTypeAdapter(MediaType.class, new MediaTypeTypeAdapter())
+            .create();
+
+    @Test
+    public void getAdapter_withModelType_shouldReturnBuilderTypeAdapter() {
+        assertAll(
+                () -> assertInstanceOf(BuilderTypeAdapter.class, gsonUnderTest.getAdapter(Movie.class)),
+                () -> assertInstanceOf(BuilderTypeAdapter.class, gsonUnderTest.getAdapter(Season.class)),
+                () -> assertInstanceOf(BuilderTypeAdapter.class, gsonUnderTest.getAdapter(Rating.class)));
+    }
+
+    @Test
+    public void fromJson_withResponses_shouldMatchReflectionBasedParsing() {
+        assertAll(
+                () -> assertParity(MOVIE, Movie.class),
+                () -> assertParity(SERIES, Series.class),
+                () -> assertParity(SEASON, Season.class),
+                () -> assertParity(EPISODE, Episode.class),
+                () -> assertParity(MOVIE_SEARCH, SearchResponse.class),
+                () -> assertParity(SERIES_SEARCH, SearchResponse.class));
+    }
+
+    @Test
+    public void fromJson_withUnknownAndNotAvailableFields_shouldSkipAndReturnNull() {
+        final String json = "{\"Title\":\"Title\",\"Unknown\":{\"Title\":\"Nested\"},\"Year\":\"N/A\","
+                + "\"DVD\":\"N/A\",\"Ratings\":[{\"Source\":\"Source\",\"Value\":\"N/A\",\"Extra\":[1,2]}],"
+                + "\"Response\":\"True\"}";
+
+        final Movie actual = gsonUnderTest.fromJson(json, Movie.class);
+
+        assertAll(
+                () -> assertEquals("Title", actual.getTitle()),
+                () -> assertNull(actual.getYear()),
+                () -> assertNull(actual.getDvd()),
+                () -> assertEquals(new Rating("Source", null), actual.getRatings().get(0)),
+                () -> assertEquals(reflectionGson.fromJson(json, Movie.class), actual));
+    }
+
+    @Test
+    public void fromJson_withJsonNull_shouldReturnNull() {
+        assertNull(gsonUnderTest.fromJson("null", Season.class));
+    }
+
+    @Test
+    public void toJson_withModel_shouldMatchReflectionBasedSerialization() {
+        final Rating rating = new Rating("Internet Movie Database", "8.0/10");
+
+        assertEquals(reflectionGson.toJson(rating), gsonUnderTest.toJson(rating));
+    }
+
+    @SneakyThrows
+    @Test
+    public void fromJson_withStringPool_shouldShareValuesForPooledFields() {
+        final Gson pooledGson = new GsonFactory(StringPool.builder().build()).getInstance(null);
+        final byte[] body = MOVIE.toBytes();
+
+        final Movie first = pooledGson.fromJson(new String(body, StandardCharsets.UTF_8), Movie.class);
+        final Movie second = pooledGson.fromJson(new String(body, StandardCharsets.UTF_8), Movie.class);
+
+        assertAll(
+                () -> assertEquals(first, second),
+                () -> assertSame(first.getRated(), second.getRated()),
+                () -> assertSame(first.getRatings().get(0).getSource(), second.getRatings().get(0).getSource()),
+                () -> assertNotSame(first.getTitle(), second.getTitle()));
+    }
+
+    @SneakyThrows
+    private <T> void assertParity(final SerializedResource resource, final Class<T> type) {
+        final T expected;
+        try (final Reader reader = new InputStreamReader(resource.getResource(), StandardCharsets.UTF_8)) {
+            expected = reflectionGson.fromJson(reader, type);
+        }
+
+        try (final Reader reader = new InputStreamReader(resource.getResource(), StandardCharsets.UTF_8)) {
+            assertEquals(expected, gsonUnderTest.fromJson(reader, type));
+        }
+    }
+}
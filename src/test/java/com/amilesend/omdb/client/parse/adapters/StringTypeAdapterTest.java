@@ -17,41 +17,78 @@
  */
 package com.amilesend.omdb.client.parse.adapters;
 
-import com.amilesend.client.util.StringUtils;
-import com.google.gson.JsonDeserializationContext;
-import com.google.gson.JsonNull;
-import com.google.gson.JsonPrimitive;
+import com.amilesend.omdb.client.parse.StringPool;
+import com.google.gson.stream.JsonReader;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.lang.reflect.Type;
+import java.io.StringReader;
+import java.util.Set;
 
 import static com.amilesend.omdb.client.parse.adapters.StringTypeAdaptor.NOT_AVAILABLE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
-@ExtendWith(MockitoExtension.class)
 public class StringTypeAdapterTest {
-    @Mock
-    private Type mockType;
-    @Mock
-    private JsonDeserializationContext mockContext;
-
     final StringTypeAdaptor adaptorUnderTest = new StringTypeAdaptor();
 
+    @SneakyThrows
+    @Test
+    public void read_withJsonNull_shouldReturnNull() {
+        assertNull(adaptorUnderTest.fromJson("null"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withEmptyValue_shouldReturnNull() {
+        assertNull(adaptorUnderTest.fromJson("\"\""));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withNaValue_shouldReturnNull() {
+        assertNull(adaptorUnderTest.fromJson("\"" + NOT_AVAILABLE + "\""));
+    }
+
+    @SneakyThrows
     @Test
-    public void deserialize_withNullElement_shouldReturnNull() {
-        assertNull(adaptorUnderTest.deserialize(JsonNull.INSTANCE, mockType, mockContext));
+    public void read_withValue_shouldReturnValue() {
+        assertEquals("Guardians of the Galaxy", adaptorUnderTest.fromJson("\"Guardians of the Galaxy\""));
     }
 
+    @SneakyThrows
     @Test
-    public void deserialize_withEmptyElement_shouldReturnNull() {
-        assertNull(adaptorUnderTest.deserialize(new JsonPrimitive(StringUtils.EMPTY), mockType, mockContext));
+    public void read_withNumberValue_shouldReturnValueAsString() {
+        assertEquals("2014", adaptorUnderTest.fromJson("2014"));
+    }
+
+    @Test
+    public void write_withValue_shouldWriteValue() {
+        assertEquals("\"value\"", adaptorUnderTest.toJson("value"));
+    }
+
+    @SneakyThrows
+    @Test
+    public void read_withPooledFieldName_shouldReturnPooledInstance() {
+        final StringPool stringPool = StringPool.builder().fieldNames(Set.of("Rated")).build();
+        final StringTypeAdaptor pooledAdaptor = new StringTypeAdaptor(stringPool);
+
+        final String first = pooledAdaptor.read(new JsonReader(new StringReader("\"PG-13\"")), "Rated");
+        final String second = pooledAdaptor.read(new JsonReader(new StringReader("\"PG-13\"")), "Rated");
+        final String unpooled = pooledAdaptor.read(new JsonReader(new StringReader("\"PG-13\"")), "Title");
+
+        assertAll(
+                () -> assertSame(first, second),
+                () -> assertNotSame(first, unpooled),
+                () -> assertEquals(1, stringPool.getSize()));
     }
 
+    @SneakyThrows
     @Test
-    public void deserialize_withNaElement_shouldReturnNull() {
-        assertNull(adaptorUnderTest.deserialize(new JsonPrimitive(NOT_AVAILABLE), mockType, mockContext));
+    public void read_withFieldNameAndNoPool_shouldReturnValue() {
+        assertEquals("PG-13", adaptorUnderTest.read(new JsonReader(new StringReader("\"PG-13\"")), "Rated"));
     }
 }
@@ -0,0 +1,185 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LookupPublisherTest {
+    private final Map<String, CompletableFuture<String>> lookups = new ConcurrentHashMap<>();
+
+    @Test
+    public void subscribe_withDemand_shouldBoundLookupsInFlight() {
+        final RecordingSubscriber<BulkResult<String>> subscriber = subscribe(newRequests(10), 3);
+
+        assertTrue(lookups.isEmpty());
+
+        subscriber.request(2);
+        assertEquals(2, lookups.size());
+
+        subscriber.request(5);
+        assertEquals(3, lookups.size());
+
+        lookups.get("tt0").complete("Title tt0");
+        assertAll(
+                () -> assertEquals(1, subscriber.getItems().size()),
+                () -> assertEquals("Title tt0", subscriber.getItems().get(0).getValue()),
+                () -> assertEquals(4, lookups.size()));
+    }
+
+    @Test
+    public void subscribe_withAllLookupsComplete_shouldComplete() {
+        final RecordingSubscriber<BulkResult<String>> subscriber =
+                subscribe(newRequests(5), 2, r -> CompletableFuture.completedFuture("Title " + r.getImdbId()));
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(
+                        IntStream.range(0, 5).mapToObj(i -> "Title tt" + i).collect(Collectors.toList()),
+                        subscriber.getItems().stream().map(BulkResult::getValue).collect(Collectors.toList())),
+                () -> assertTrue(subscriber.isCompleted()),
+                () -> assertNull(subscriber.getError()));
+    }
+
+    @Test
+    public void subscribe_withNoRequests_shouldCompleteWithoutDemand() {
+        final RecordingSubscriber<BulkResult<String>> subscriber = subscribe(List.of(), 2);
+
+        assertTrue(subscriber.isCompleted());
+    }
+
+    @Test
+    public void subscribe_withFailedLookup_shouldPublishFailedResult() {
+        final ResponseException expected = new ResponseException("Failure");
+        final RecordingSubscriber<BulkResult<String>> subscriber =
+                subscribe(newRequests(2), 2, r -> "tt0".equals(r.getImdbId())
+                        ? CompletableFuture.failedFuture(expected)
+                        : CompletableFuture.completedFuture("Title"));
+
+        subscriber.request(2);
+
+        assertAll(
+                () -> assertEquals(2, subscriber.getItems().size()),
+                () -> assertFalse(subscriber.getItems().get(0).isSuccess()),
+                () -> assertEquals(expected, subscriber.getItems().get(0).getError()),
+                () -> assertTrue(subscriber.getItems().get(1).isSuccess()),
+                () -> assertTrue(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void subscribe_withLookupThatThrows_shouldPublishFailedResult() {
+        final IllegalStateException expected = new IllegalStateException("Failure");
+        final RecordingSubscriber<BulkResult<String>> subscriber = subscribe(newRequests(1), 1, r -> {
+            throw expected;
+        });
+
+        subscriber.request(1);
+
+        assertAll(
+                () -> assertEquals(expected, subscriber.getItems().get(0).getError()),
+                () -> assertTrue(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void request_withNonPositiveDemand_shouldSignalError() {
+        final RecordingSubscriber<BulkResult<String>> subscriber = subscribe(newRequests(2), 2);
+
+        subscriber.request(0);
+
+        assertAll(
+                () -> assertInstanceOf(IllegalArgumentException.class, subscriber.getError()),
+                () -> assertTrue(lookups.isEmpty()));
+    }
+
+    @Test
+    public void cancel_withLookupsInFlight_shouldCancelLookups() {
+        final RecordingSubscriber<BulkResult<String>> subscriber = subscribe(newRequests(5), 2);
+        subscriber.request(5);
+
+        subscriber.cancel();
+
+        lookups.get("tt0").complete("Title");
+        assertAll(
+                () -> assertTrue(lookups.get("tt1").isCancelled()),
+                () -> assertEquals(2, lookups.size()),
+                () -> assertTrue(subscriber.getItems().isEmpty()),
+                () -> assertFalse(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void subscribe_withIteratorFailure_shouldSignalError() {
+        final IllegalStateException expected = new IllegalStateException("Failure");
+        final LookupPublisher<GetMovieByIdRequest, String> publisherUnderTest = new LookupPublisher<>(
+                () -> {
+                    throw expected;
+                },
+                2,
+                r -> CompletableFuture.completedFuture("Title"));
+        final RecordingSubscriber<BulkResult<String>> subscriber = new RecordingSubscriber<>();
+        publisherUnderTest.subscribe(subscriber);
+
+        assertEquals(expected, subscriber.getError());
+    }
+
+    @Test
+    public void ctor_withInvalidMaxConcurrency_shouldThrowException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new LookupPublisher<GetMovieByIdRequest, String>(newRequests(1), 0, r -> null));
+    }
+
+    private RecordingSubscriber<BulkResult<String>> subscribe(
+            final List<GetMovieByIdRequest> requests,
+            final int maxConcurrency) {
+        return subscribe(requests, maxConcurrency,
+                r -> lookups.computeIfAbsent(r.getImdbId(), id -> new CompletableFuture<>()));
+    }
+
+    private static RecordingSubscriber<BulkResult<String>> subscribe(
+            final List<GetMovieByIdRequest> requests,
+            final int maxConcurrency,
+            final Function<GetMovieByIdRequest, CompletableFuture<String>> lookup) {
+        final RecordingSubscriber<BulkResult<String>> subscriber = new RecordingSubscriber<>();
+        new LookupPublisher<>(requests, maxConcurrency, lookup).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static List<GetMovieByIdRequest> newRequests(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> GetMovieByIdRequest.builder().imdbId("tt" + i).build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+
+/** A subscriber that records the signals it receives and only requests items when told to. */
+@Getter
+class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+    private final List<T> items = new CopyOnWriteArrayList<>();
+    private volatile Flow.Subscription subscription;
+    private volatile Throwable error;
+    private volatile boolean completed;
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(final T item) {
+        items.add(item);
+    }
+
+    @Override
+    public void onError(final Throwable error) {
+        this.error = error;
+    }
+
+    @Override
+    public void onComplete() {
+        completed = true;
+    }
+
+    void request(final long n) {
+        subscription.request(n);
+    }
+
+    void cancel() {
+        subscription.cancel();
+    }
+}
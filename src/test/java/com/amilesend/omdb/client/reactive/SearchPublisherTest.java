@@ -0,0 +1,227 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.reactive;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import com.amilesend.omdb.client.search.SearchPageIterator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchPublisherTest {
+    @Test
+    public void subscribe_withUnboundedDemand_shouldPublishAllResultsInPageOrder() {
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(page -> newPage(page, 23), 1, 2);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(
+                        IntStream.range(0, 23).mapToObj(i -> "tt" + i).collect(Collectors.toList()),
+                        subscriber.getItems().stream().map(SearchResult::getImdbId).collect(Collectors.toList())),
+                () -> assertTrue(subscriber.isCompleted()),
+                () -> assertNull(subscriber.getError()));
+    }
+
+    @Test
+    public void subscribe_withFirstPage_shouldStartAtFirstPage() {
+        final List<Integer> requestedPages = new ArrayList<>();
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(page -> {
+            requestedPages.add(page);
+            return newPage(page, 30);
+        }, 2, 4);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(20, subscriber.getItems().size()),
+                () -> assertEquals(List.of(2, 3), requestedPages),
+                () -> assertTrue(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void request_withDemand_shouldOnlyFetchPagesNeededForDemand() {
+        final List<Integer> requestedPages = new ArrayList<>();
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(page -> {
+            requestedPages.add(page);
+            return newPage(page, 100);
+        }, 1, 4);
+
+        assertTrue(requestedPages.isEmpty());
+
+        subscriber.request(5);
+        assertAll(
+                () -> assertEquals(List.of(1), requestedPages),
+                () -> assertEquals(5, subscriber.getItems().size()));
+
+        subscriber.request(20);
+        assertAll(
+                () -> assertEquals(List.of(1, 2, 3), requestedPages),
+                () -> assertEquals(25, subscriber.getItems().size()),
+                () -> assertFalse(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void request_withPendingPages_shouldBoundPagesInFlight() {
+        final Map<Integer, CompletableFuture<SearchResponse>> pages = new ConcurrentHashMap<>();
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(
+                page -> pages.computeIfAbsent(page, p -> p == 1 ? newPage(1, 100) : new CompletableFuture<>()),
+                1,
+                3);
+
+        subscriber.request(Long.MAX_VALUE);
+        assertEquals(4, pages.size());
+
+        pages.get(3).complete(newPage(3, 100).join());
+        assertAll(
+                () -> assertEquals(SearchPageIterator.PAGE_SIZE, subscriber.getItems().size()),
+                () -> assertEquals(4, pages.size()));
+
+        pages.get(2).complete(newPage(2, 100).join());
+        assertAll(
+                () -> assertEquals(3 * SearchPageIterator.PAGE_SIZE, subscriber.getItems().size()),
+                () -> assertEquals(6, pages.size()));
+    }
+
+    @Test
+    public void subscribe_withFailedPage_shouldSignalError() {
+        final ResponseException expected = new ResponseException("Failure");
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(
+                page -> page == 2 ? CompletableFuture.failedFuture(expected) : newPage(page, 30),
+                1,
+                1);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(SearchPageIterator.PAGE_SIZE, subscriber.getItems().size()),
+                () -> assertEquals(expected, subscriber.getError()),
+                () -> assertFalse(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void subscribe_withNotFoundFirstPage_shouldCompleteWithoutResults() {
+        final List<Integer> requestedPages = new ArrayList<>();
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(page -> {
+            requestedPages.add(page);
+            return CompletableFuture.failedFuture(new FailureResponseException("Movie not found!"));
+        }, 1, 2);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertTrue(subscriber.getItems().isEmpty()),
+                () -> assertEquals(List.of(1), requestedPages),
+                () -> assertTrue(subscriber.isCompleted()),
+                () -> assertNull(subscriber.getError()));
+    }
+
+    @Test
+    public void subscribe_withNotFoundLaterPage_shouldSignalError() {
+        final FailureResponseException expected = new FailureResponseException("Movie not found!");
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(
+                page -> page == 2 ? CompletableFuture.failedFuture(expected) : newPage(page, 30),
+                1,
+                1);
+
+        subscriber.request(Long.MAX_VALUE);
+
+        assertAll(
+                () -> assertEquals(SearchPageIterator.PAGE_SIZE, subscriber.getItems().size()),
+                () -> assertEquals(expected, subscriber.getError()),
+                () -> assertFalse(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void request_withNonPositiveDemand_shouldSignalError() {
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(page -> newPage(page, 30), 1, 1);
+
+        subscriber.request(-1);
+
+        assertAll(
+                () -> assertInstanceOf(IllegalArgumentException.class, subscriber.getError()),
+                () -> assertTrue(subscriber.getItems().isEmpty()));
+    }
+
+    @Test
+    public void cancel_withPagesInFlight_shouldCancelPages() {
+        final Map<Integer, CompletableFuture<SearchResponse>> pages = new ConcurrentHashMap<>();
+        final RecordingSubscriber<SearchResult> subscriber = subscribe(
+                page -> pages.computeIfAbsent(page, p -> p == 1 ? newPage(1, 100) : new CompletableFuture<>()),
+                1,
+                2);
+        subscriber.request(15);
+
+        subscriber.cancel();
+
+        assertAll(
+                () -> assertTrue(pages.get(2).isCancelled()),
+                () -> assertEquals(2, pages.size()),
+                () -> assertFalse(subscriber.isCompleted()));
+    }
+
+    @Test
+    public void ctor_withInvalidArguments_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new SearchPublisher(page -> null, 0, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new SearchPublisher(page -> null, 1, 0)));
+    }
+
+    private static RecordingSubscriber<SearchResult> subscribe(
+            final IntFunction<CompletableFuture<SearchResponse>> pageLookup,
+            final int firstPage,
+            final int maxConcurrency) {
+        final RecordingSubscriber<SearchResult> subscriber = new RecordingSubscriber<>();
+        new SearchPublisher(pageLookup, firstPage, maxConcurrency).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static CompletableFuture<SearchResponse> newPage(final int page, final int totalResults) {
+        final int start = (page - 1) * SearchPageIterator.PAGE_SIZE;
+        final int end = Math.min(totalResults, start + SearchPageIterator.PAGE_SIZE);
+        return CompletableFuture.completedFuture(SearchResponse.builder()
+                .search(IntStream.range(start, end)
+                        .mapToObj(i -> SearchResult.builder()
+                                .title("Title " + i)
+                                .imdbId("tt" + i)
+                                .type(MediaType.MOVIE)
+                                .build())
+                        .collect(Collectors.toList()))
+                .totalResults(String.valueOf(totalResults))
+                .build());
+    }
+}
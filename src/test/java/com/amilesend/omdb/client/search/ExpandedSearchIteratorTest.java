@@ -0,0 +1,238 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.search;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.bulk.BulkResult;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.movie.GetMovieByIdRequest;
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ExpandedSearchIteratorTest {
+    @Test
+    public void stream_withMultiplePages_shouldLookUpEveryDistinctResult() {
+        final Set<String> actual = ExpandedSearchIterator.stream(
+                        page -> newPage(page, 25),
+                        1,
+                        ExpandedSearchIteratorTest::newRequest,
+                        (GetMovieByIdRequest r) -> CompletableFuture.completedFuture(r.getImdbId()),
+                        3)
+                .map(BulkResult::getValue)
+                .collect(Collectors.toSet());
+
+        assertEquals(IntStream.range(0, 25).mapToObj(i -> "tt" + i).collect(Collectors.toSet()), actual);
+    }
+
+    @Test
+    public void stream_withDuplicateResults_shouldLookUpOnce() {
+        final Map<String, Integer> numLookups = new ConcurrentHashMap<>();
+        final SearchResponse duplicates = SearchResponse.builder()
+                .search(List.of(newResult(1), newResult(2), newResult(1)))
+                .totalResults("3")
+                .build();
+
+        final long actual = ExpandedSearchIterator.stream(
+                        page -> CompletableFuture.completedFuture(duplicates),
+                        1,
+                        ExpandedSearchIteratorTest::newRequest,
+                        (GetMovieByIdRequest r) -> {
+                            numLookups.merge(r.getImdbId(), 1, Integer::sum);
+                            return CompletableFuture.completedFuture(r.getImdbId());
+                        },
+                        2)
+                .count();
+
+        assertAll(
+                () -> assertEquals(2L, actual),
+                () -> assertEquals(Map.of("tt1", 1, "tt2", 1), numLookups));
+    }
+
+    @Test
+    public void next_withPendingLookups_shouldReturnResultsInCompletionOrder() {
+        final Map<String, CompletableFuture<String>> lookups = new ConcurrentHashMap<>();
+        final ExpandedSearchIterator<GetMovieByIdRequest, String> iteratorUnderTest = new ExpandedSearchIterator<>(
+                page -> newPage(page, 3),
+                1,
+                ExpandedSearchIteratorTest::newRequest,
+                r -> lookups.computeIfAbsent(r.getImdbId(), id -> new CompletableFuture<>()),
+                3);
+        // Starts the search and the lookups from another thread as the iterator blocks until a lookup completes
+        final CompletableFuture<BulkResult<String>> first = CompletableFuture.supplyAsync(iteratorUnderTest::next);
+        awaitLookups(lookups, 3);
+
+        lookups.get("tt2").complete("tt2");
+        assertEquals("tt2", first.join().getValue());
+        lookups.get("tt0").complete("tt0");
+        lookups.get("tt1").complete("tt1");
+
+        assertAll(
+                () -> assertEquals("tt0", iteratorUnderTest.next().getValue()),
+                () -> assertEquals("tt1", iteratorUnderTest.next().getValue()),
+                () -> assertFalse(iteratorUnderTest.hasNext()));
+    }
+
+    @Test
+    public void hasNext_withSlowConsumer_shouldBoundOutstandingLookups() {
+        final Map<String, CompletableFuture<String>> lookups = new ConcurrentHashMap<>();
+        final ExpandedSearchIterator<GetMovieByIdRequest, String> iteratorUnderTest = new ExpandedSearchIterator<>(
+                page -> newPage(page, 30),
+                1,
+                ExpandedSearchIteratorTest::newRequest,
+                r -> lookups.computeIfAbsent(r.getImdbId(), CompletableFuture::completedFuture),
+                4);
+
+        assertTrue(iteratorUnderTest.hasNext());
+        assertEquals(4, lookups.size());
+        iteratorUnderTest.next();
+        assertTrue(iteratorUnderTest.hasNext());
+        assertEquals(5, lookups.size());
+    }
+
+    @Test
+    public void next_withFailedLookup_shouldReturnFailedResult() {
+        final ResponseException failure = new ResponseException("Error getting movie!");
+
+        final List<BulkResult<String>> actual = ExpandedSearchIterator.stream(
+                        page -> newPage(page, 1),
+                        1,
+                        ExpandedSearchIteratorTest::newRequest,
+                        (GetMovieByIdRequest r) -> CompletableFuture.<String>failedFuture(failure),
+                        2)
+                .collect(Collectors.toList());
+
+        assertAll(
+                () -> assertEquals(1, actual.size()),
+                () -> assertFalse(actual.get(0).isSuccess()),
+                () -> assertEquals(failure, actual.get(0).getError()),
+                () -> assertEquals(newRequest(newResult(0)), actual.get(0).getRequest()));
+    }
+
+    @Test
+    public void next_withFailedPage_shouldThrowCause() {
+        final ResponseException failure = new ResponseException("Too many results.");
+        final ExpandedSearchIterator<GetMovieByIdRequest, String> iteratorUnderTest = new ExpandedSearchIterator<>(
+                page -> CompletableFuture.failedFuture(failure),
+                1,
+                ExpandedSearchIteratorTest::newRequest,
+                r -> CompletableFuture.completedFuture(r.getImdbId()),
+                2);
+
+        final ResponseException thrown = assertThrows(ResponseException.class, iteratorUnderTest::next);
+
+        assertAll(
+                () -> assertEquals(failure, thrown),
+                () -> assertFalse(iteratorUnderTest.hasNext()));
+    }
+
+    @Test
+    public void stream_withNotFoundFirstPage_shouldReturnNoResults() {
+        final Set<String> lookups = ConcurrentHashMap.newKeySet();
+
+        final long actual = ExpandedSearchIterator.stream(
+                        page -> CompletableFuture.failedFuture(new FailureResponseException("Movie not found!")),
+                        1,
+                        ExpandedSearchIteratorTest::newRequest,
+                        (GetMovieByIdRequest r) -> {
+                            lookups.add(r.getImdbId());
+                            return CompletableFuture.completedFuture(r.getImdbId());
+                        },
+                        2)
+                .count();
+
+        assertAll(
+                () -> assertEquals(0L, actual),
+                () -> assertTrue(lookups.isEmpty()));
+    }
+
+    @Test
+    public void close_withPendingLookups_shouldCancelLookups() {
+        final Map<String, CompletableFuture<String>> lookups = new ConcurrentHashMap<>();
+        final ExpandedSearchIterator<GetMovieByIdRequest, String> iteratorUnderTest = new ExpandedSearchIterator<>(
+                page -> newPage(page, 3),
+                1,
+                ExpandedSearchIteratorTest::newRequest,
+                r -> lookups.computeIfAbsent(r.getImdbId(),
+                        id -> "tt0".equals(id) ? CompletableFuture.completedFuture(id) : new CompletableFuture<>()),
+                3);
+        iteratorUnderTest.next();
+
+        iteratorUnderTest.close();
+
+        assertAll(
+                () -> assertTrue(lookups.get("tt1").isCancelled()),
+                () -> assertTrue(lookups.get("tt2").isCancelled()),
+                () -> assertFalse(iteratorUnderTest.hasNext()));
+    }
+
+    @Test
+    public void ctor_withInvalidArguments_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> new ExpandedSearchIterator<>(
+                        page -> null, 0, ExpandedSearchIteratorTest::newRequest, r -> null, 1)),
+                () -> assertThrows(IllegalArgumentException.class, () -> new ExpandedSearchIterator<>(
+                        page -> null, 1, ExpandedSearchIteratorTest::newRequest, r -> null, 0)));
+    }
+
+    private static void awaitLookups(final Map<String, ?> lookups, final int expectedSize) {
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while (lookups.size() < expectedSize && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expectedSize, lookups.size());
+    }
+
+    private static GetMovieByIdRequest newRequest(final SearchResult result) {
+        return GetMovieByIdRequest.builder().imdbId(result.getImdbId()).build();
+    }
+
+    private static CompletableFuture<SearchResponse> newPage(final int page, final int totalResults) {
+        final int start = (page - 1) * SearchPageIterator.PAGE_SIZE;
+        final int end = Math.min(totalResults, start + SearchPageIterator.PAGE_SIZE);
+        return CompletableFuture.completedFuture(SearchResponse.builder()
+                .search(IntStream.range(start, end)
+                        .mapToObj(ExpandedSearchIteratorTest::newResult)
+                        .collect(Collectors.toList()))
+                .totalResults(String.valueOf(totalResults))
+                .build());
+    }
+
+    private static SearchResult newResult(final int index) {
+        return SearchResult.builder()
+                .title("Title " + index)
+                .imdbId("tt" + index)
+                .type(MediaType.MOVIE)
+                .build();
+    }
+}
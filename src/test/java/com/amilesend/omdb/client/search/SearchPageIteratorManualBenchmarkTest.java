@@ -0,0 +1,66 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.search;
+
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/** Measures the time to collect a multi-page search result set with a simulated page latency. Run manually. */
+@Slf4j
+@Disabled
+public class SearchPageIteratorManualBenchmarkTest {
+    private static final int NUM_PAGES = 50;
+    private static final long PAGE_LATENCY_MILLIS = 100L;
+
+    @Test
+    public void benchmarkCollect_perMaxConcurrency() {
+        for (final int maxConcurrency : new int[] {1, 4, 16, NUM_PAGES}) {
+            final long startTime = System.nanoTime();
+            final long numResults = SearchPageIterator.stream(SearchPageIteratorManualBenchmarkTest::newPage, 1,
+                    maxConcurrency).count();
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            log.info("maxConcurrency={}: {} results in {} ms ({} ms per page)",
+                    maxConcurrency, numResults, elapsedMillis, PAGE_LATENCY_MILLIS);
+        }
+    }
+
+    private static CompletableFuture<SearchResponse> newPage(final int page) {
+        final Executor delayed = CompletableFuture.delayedExecutor(PAGE_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+        return CompletableFuture.supplyAsync(() -> SearchResponse.builder()
+                .search(IntStream.range(0, SearchPageIterator.PAGE_SIZE)
+                        .mapToObj(i -> SearchResult.builder()
+                                .title("Title " + page + "-" + i)
+                                .imdbId("tt" + page + i)
+                                .type(MediaType.MOVIE)
+                                .build())
+                        .collect(Collectors.toList()))
+                .totalResults(String.valueOf(NUM_PAGES * SearchPageIterator.PAGE_SIZE))
+                .build(), delayed);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * omdb-java-client - A client to access the OMDb API
+ * Copyright © 2025-2026 Andy Miles (andy.miles@amilesend.com)
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.amilesend.omdb.client.search;
+
+import com.amilesend.client.connection.ResponseException;
+import com.amilesend.omdb.client.connection.FailureResponseException;
+import com.amilesend.omdb.client.model.type.MediaType;
+import com.amilesend.omdb.client.model.type.SearchResponse;
+import com.amilesend.omdb.client.model.type.SearchResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SearchPageIteratorTest {
+    @Test
+    public void stream_withMultiplePages_shouldReturnAllResultsInPageOrder() {
+        final List<String> actual = SearchPageIterator.stream(page -> newPage(page, 23), 1, 2)
+                .map(SearchResult::getImdbId)
+                .collect(Collectors.toList());
+
+        assertEquals(IntStream.range(0, 23).mapToObj(i -> "tt" + i).collect(Collectors.toList()), actual);
+    }
+
+    @Test
+    public void stream_withFirstPage_shouldStartAtFirstPage() {
+        final List<Integer> requestedPages = new ArrayList<>();
+
+        final long actual = SearchPageIterator.stream(page -> {
+            requestedPages.add(page);
+            return newPage(page, 30);
+        }, 2, 4).count();
+
+        assertAll(
+                () -> assertEquals(20L, actual),
+                () -> assertEquals(List.of(2, 3), requestedPages));
+    }
+
+    @Test
+    public void hasNext_withPendingPages_shouldBoundPrefetchWindow() {
+        final Map<Integer, CompletableFuture<SearchResponse>> pages = new ConcurrentHashMap<>();
+        final SearchPageIterator iteratorUnderTest = new SearchPageIterator(
+                page -> pages.computeIfAbsent(page, p -> p == 1 ? newPage(1, 100) : new CompletableFuture<>()),
+                1,
+                3);
+
+        assertTrue(iteratorUnderTest.hasNext());
+
+        assertEquals(4, pages.size());
+        for (int i = 0; i < SearchPageIterator.PAGE_SIZE; ++i) {
+            iteratorUnderTest.next();
+        }
+        pages.get(2).complete(newPage(2, 100).join());
+        assertTrue(iteratorUnderTest.hasNext());
+        assertEquals(5, pages.size());
+    }
+
+    @Test
+    public void close_withPendingPages_shouldCancelPages() {
+        final Map<Integer, CompletableFuture<SearchResponse>> pages = new ConcurrentHashMap<>();
+        final Stream<SearchResult> streamUnderTest = SearchPageIterator.stream(
+                page -> pages.computeIfAbsent(page, p -> p == 1 ? newPage(1, 100) : new CompletableFuture<>()),
+                1,
+                2);
+
+        streamUnderTest.limit(1L).forEach(r -> { });
+        streamUnderTest.close();
+
+        assertAll(
+                () -> assertEquals(3, pages.size()),
+                () -> assertTrue(pages.get(2).isCancelled()),
+                () -> assertTrue(pages.get(3).isCancelled()));
+    }
+
+    @Test
+    public void next_withFailedPage_shouldThrowCauseAndCancelRemainingPages() {
+        final ResponseException failure = new ResponseException("Too many results.");
+        final Map<Integer, CompletableFuture<SearchResponse>> pages = new ConcurrentHashMap<>();
+        final SearchPageIterator iteratorUnderTest = new SearchPageIterator(
+                page -> pages.computeIfAbsent(page, p -> {
+                    if (p == 2) {
+                        return CompletableFuture.failedFuture(failure);
+                    }
+
+                    return p == 1 ? newPage(1, 40) : new CompletableFuture<>();
+                }),
+                1,
+                3);
+        for (int i = 0; i < SearchPageIterator.PAGE_SIZE; ++i) {
+            iteratorUnderTest.next();
+        }
+
+        final ResponseException thrown = assertThrows(ResponseException.class, iteratorUnderTest::next);
+
+        assertAll(
+                () -> assertEquals(failure, thrown),
+                () -> assertTrue(pages.get(3).isCancelled()),
+                () -> assertFalse(iteratorUnderTest.hasNext()));
+    }
+
+    @Test
+    public void stream_withNotFoundFirstPage_shouldReturnNoResults() {
+        final List<Integer> requestedPages = new ArrayList<>();
+
+        final long actual = SearchPageIterator.stream(page -> {
+            requestedPages.add(page);
+            return CompletableFuture.failedFuture(new FailureResponseException("Movie not found!"));
+        }, 1, 2).count();
+
+        assertAll(
+                () -> assertEquals(0L, actual),
+                () -> assertEquals(List.of(1), requestedPages));
+    }
+
+    @Test
+    public void next_withNotFoundLaterPage_shouldThrowCause() {
+        final FailureResponseException failure = new FailureResponseException("Movie not found!");
+        final SearchPageIterator iteratorUnderTest = new SearchPageIterator(
+                page -> page == 1 ? newPage(1, 20) : CompletableFuture.failedFuture(failure),
+                1,
+                2);
+        for (int i = 0; i < SearchPageIterator.PAGE_SIZE; ++i) {
+            iteratorUnderTest.next();
+        }
+
+        final FailureResponseException thrown =
+                assertThrows(FailureResponseException.class, iteratorUnderTest::next);
+
+        assertEquals(failure, thrown);
+    }
+
+    @Test
+    public void isNotFound_withFailure_shouldMatchNotFoundFailureResponses() {
+        assertAll(
+                () -> assertTrue(SearchPageIterator.isNotFound(new FailureResponseException("Movie not found!"))),
+                () -> assertTrue(SearchPageIterator.isNotFound(
+                        new CompletionException(new FailureResponseException("Series not found!")))),
+                () -> assertFalse(SearchPageIterator.isNotFound(new FailureResponseException("Too many results."))),
+                () -> assertFalse(SearchPageIterator.isNotFound(new FailureResponseException(null))),
+                () -> assertFalse(SearchPageIterator.isNotFound(new ResponseException("Movie not found!"))));
+    }
+
+    @Test
+    public void toLastPage_withTotalResults_shouldRoundUp() {
+        assertAll(
+                () -> assertEquals(1, SearchPageIterator.toLastPage(1, newResponse(0, null))),
+                () -> assertEquals(1, SearchPageIterator.toLastPage(1, newResponse(0, "0"))),
+                () -> assertEquals(1, SearchPageIterator.toLastPage(1, newResponse(0, "10"))),
+                () -> assertEquals(2, SearchPageIterator.toLastPage(1, newResponse(0, "11"))),
+                () -> assertEquals(49, SearchPageIterator.toLastPage(1, newResponse(0, "487"))),
+                () -> assertEquals(3, SearchPageIterator.toLastPage(3, newResponse(0, "5"))));
+    }
+
+    @Test
+    public void ctor_withInvalidArguments_shouldThrowException() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new SearchPageIterator(page -> null, 0, 1)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> new SearchPageIterator(page -> null, 1, 0)));
+    }
+
+    private static CompletableFuture<SearchResponse> newPage(final int page, final int totalResults) {
+        final int start = (page - 1) * SearchPageIterator.PAGE_SIZE;
+        final int end = Math.min(totalResults, start + SearchPageIterator.PAGE_SIZE);
+        return CompletableFuture.completedFuture(newResponse(start, end - start, String.valueOf(totalResults)));
+    }
+
+    private static SearchResponse newResponse(final int numResults, final String totalResults) {
+        return newResponse(0, numResults, totalResults);
+    }
+
+    private static SearchResponse newResponse(final int start, final int numResults, final String totalResults) {
+        return SearchResponse.builder()
+                .search(IntStream.range(start, start + numResults)
+                        .mapToObj(i -> SearchResult.builder()
+                                .title("Title " + i)
+                                .imdbId("tt" + i)
+                                .type(MediaType.MOVIE)
+                                .build())
+                        .collect(Collectors.toList()))
+                .totalResults(totalResults)
+                .build();
+    }
+}